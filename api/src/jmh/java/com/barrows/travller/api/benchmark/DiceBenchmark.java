@@ -0,0 +1,81 @@
+package com.barrows.travller.api.benchmark;
+
+import com.barrows.travller.api.dice.Dice;
+import com.barrows.travller.api.dice.DiceService;
+import com.barrows.travller.api.lifepath.LifepathRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Benchmarks a 2D6 roll under 64 concurrent threads: the single {@link Random} the character resolver used to
+ * share between request threads, against per-request {@link Dice} and a generator split off them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+public class DiceBenchmark {
+
+    /**
+     * The java.util.Random shared by every thread, as the resolver's field was.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedRandom {
+        public final Random random = new Random();
+    }
+
+    /**
+     * The dice of one request per thread.
+     */
+    @State(Scope.Thread)
+    public static class RequestDice {
+
+        @Param({"L64X128MixRandom", "SplittableRandom"})
+        public String algorithm;
+
+        public Dice dice;
+        public RandomGenerator generator;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            dice = new DiceService(algorithm, 100, 10).newDice(null);
+            generator = dice.split();
+        }
+    }
+
+    @Benchmark
+    public int sharedRandom(SharedRandom state) {
+        int sum = 0;
+        for (int i = 0; i < 2; i++) {
+            sum += state.random.nextInt(6) + 1;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int requestDice(RequestDice state) {
+        return state.dice.roll(2, 6);
+    }
+
+    @Benchmark
+    public int splitGenerator(RequestDice state) {
+        return LifepathRules.rollDice(state.generator, 2, 6);
+    }
+}
@@ -0,0 +1,103 @@
+package com.barrows.travller.api.benchmark;
+
+import com.barrows.travller.api.model.Armor;
+import com.barrows.travller.api.model.ArmorType;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Characteristic;
+import com.barrows.travller.api.model.CharacteristicType;
+import com.barrows.travller.api.model.RaceType;
+import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.model.SkillCategory;
+import com.barrows.travller.api.model.Spaceship;
+import com.barrows.travller.api.model.SpaceshipType;
+import com.barrows.travller.api.model.World;
+import com.barrows.travller.api.model.WorldType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the domain model methods on the character creation and GraphQL read paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainModelBenchmark {
+
+    /**
+     * Number of skills the character already has; getSkill and addSkill scan the list.
+     */
+    @Param({"5", "50"})
+    public int skillCount;
+
+    private Character character;
+    private Armor armor;
+    private Spaceship spaceship;
+    private String lastSkillName;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        character = new Character("Benchmark Traveller", RaceType.HUMAN);
+        for (CharacteristicType type : CharacteristicType.values()) {
+            character.addCharacteristic(new Characteristic(type, 7));
+        }
+        for (int i = 0; i < skillCount; i++) {
+            character.addSkill(new Skill("Skill " + i, 1, SkillCategory.TECHNICAL, CharacteristicType.EDUCATION));
+        }
+        lastSkillName = "Skill " + (skillCount - 1);
+
+        armor = new Armor("Combat Armor", ArmorType.COMBAT, 12, 11, 8, 6);
+
+        spaceship = new Spaceship("Benchmark Scout", SpaceshipType.SCOUT);
+        spaceship.setDisplacementTons(100);
+        spaceship.setJumpDriveRating(2);
+        spaceship.setFuelCapacity(BigDecimal.valueOf(40));
+    }
+
+    @Benchmark
+    public World parseUwp() {
+        return new World("Regina", "A788899-C", WorldType.GARDEN);
+    }
+
+    @Benchmark
+    public Characteristic getCharacteristic() {
+        return character.getCharacteristic(CharacteristicType.SOCIAL_STANDING);
+    }
+
+    @Benchmark
+    public Skill getSkill() {
+        return character.getSkill(lastSkillName);
+    }
+
+    @Benchmark
+    public Skill addExistingSkill() {
+        Skill skill = new Skill(lastSkillName, 0, SkillCategory.TECHNICAL, CharacteristicType.EDUCATION);
+        character.addSkill(skill);
+        return skill;
+    }
+
+    @Benchmark
+    public int reduceDamage() {
+        return armor.reduceDamage(15, true);
+    }
+
+    @Benchmark
+    public BigDecimal calculateFuelForJump() {
+        return spaceship.calculateFuelForJump(2);
+    }
+}
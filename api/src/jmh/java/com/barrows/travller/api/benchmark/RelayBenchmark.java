@@ -0,0 +1,79 @@
+package com.barrows.travller.api.benchmark;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.NodeResolver;
+import com.barrows.travller.api.graphql.relay.world.WorldConnection;
+import com.barrows.travller.api.graphql.relay.world.WorldConnectionFactory;
+import com.barrows.travller.api.model.World;
+import com.barrows.travller.api.model.WorldType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the Relay helpers: in-memory connection slicing and global node ID encoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelayBenchmark {
+
+    /**
+     * Number of entities in the list being sliced.
+     */
+    @Param({"100", "10000"})
+    public int size;
+
+    private final WorldConnectionFactory factory = new WorldConnectionFactory();
+    private List<World> worlds;
+    private String middleCursor;
+    private String nodeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        worlds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            World world = new World("World " + i, "A788899-C", WorldType.GARDEN);
+            world.setId((long) i);
+            worlds.add(world);
+        }
+        middleCursor = ConnectionUtil.encodeIndex(size / 2);
+        nodeId = NodeResolver.encodeNodeId("World", 123456L);
+    }
+
+    @Benchmark
+    public WorldConnection createConnectionFirstPage() {
+        return ConnectionUtil.createConnection(worlds, 50, null, null, null, factory);
+    }
+
+    @Benchmark
+    public WorldConnection createConnectionMiddlePage() {
+        return ConnectionUtil.createConnection(worlds, 50, middleCursor, null, null, factory);
+    }
+
+    @Benchmark
+    public String encodeNodeId() {
+        return NodeResolver.encodeNodeId("World", 123456L);
+    }
+
+    @Benchmark
+    public NodeResolver.NodeInfo decodeNodeId() {
+        return NodeResolver.decodeNodeId(nodeId);
+    }
+}
@@ -0,0 +1,173 @@
+package com.barrows.travller.api.catalog;
+
+import com.barrows.travller.api.model.Armor;
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.model.Weapon;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * An immutable snapshot of a tenant's rules data: skills, careers (with their skill tables, ranks and
+ * benefit tables), races, weapons and armor.
+ * The entities are detached and fully initialized. They are shared between requests and must be treated
+ * as read-only; they may be attached to a character being saved, since none of those associations cascade.
+ */
+public final class ReferenceData {
+
+    private final Long tenantId;
+    private final long version;
+    private final Map<Long, Skill> skillsById;
+    private final Map<String, Skill> skillsByName;
+    private final Map<Long, Career> careersById;
+    private final Map<String, Career> careersByName;
+    private final List<Career> careers;
+    private final Map<Long, Race> racesById;
+    private final List<Race> races;
+    private final List<Weapon> weapons;
+    private final Map<Long, Weapon> weaponsById;
+    private final List<Armor> armor;
+    private final Map<Long, Armor> armorById;
+
+    ReferenceData(Long tenantId, long version, List<Skill> skills, List<Career> careers, List<Race> races,
+                  List<Weapon> weapons, List<Armor> armor) {
+        this.tenantId = tenantId;
+        this.version = version;
+        this.skillsById = byId(skills, Skill::getId);
+        this.skillsByName = byName(skills, Skill::getName);
+        this.careersById = byId(careers, Career::getId);
+        this.careersByName = byName(careers, Career::getName);
+        this.careers = List.copyOf(careers);
+        this.racesById = byId(races, Race::getId);
+        this.races = List.copyOf(races);
+        this.weapons = List.copyOf(weapons);
+        this.weaponsById = byId(weapons, Weapon::getId);
+        this.armor = List.copyOf(armor);
+        this.armorById = byId(armor, Armor::getId);
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * @return The version of this snapshot; a rebuilt catalog always has a higher version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Optional<Skill> findSkill(Long id) {
+        return Optional.ofNullable(skillsById.get(id));
+    }
+
+    public Optional<Skill> findSkillByName(String name) {
+        return Optional.ofNullable(name == null ? null : skillsByName.get(normalize(name)));
+    }
+
+    public Optional<Career> findCareer(Long id) {
+        return Optional.ofNullable(careersById.get(id));
+    }
+
+    public Optional<Career> findCareerByName(String name) {
+        return Optional.ofNullable(name == null ? null : careersByName.get(normalize(name)));
+    }
+
+    public Optional<Race> findRace(Long id) {
+        return Optional.ofNullable(racesById.get(id));
+    }
+
+    public Optional<Weapon> findWeapon(Long id) {
+        return Optional.ofNullable(weaponsById.get(id));
+    }
+
+    public Optional<Armor> findArmor(Long id) {
+        return Optional.ofNullable(armorById.get(id));
+    }
+
+    /**
+     * @return All careers, in ID order
+     */
+    public List<Career> getCareers() {
+        return careers;
+    }
+
+    /**
+     * @return All races, in ID order
+     */
+    public List<Race> getRaces() {
+        return races;
+    }
+
+    /**
+     * @return All weapons, in ID order
+     */
+    public List<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    /**
+     * @return All armor, in ID order
+     */
+    public List<Armor> getArmor() {
+        return armor;
+    }
+
+    /**
+     * Pick a random weapon, for career benefits and mustering out.
+     * The weapons are held in an array-backed list, so this is a single index lookup with no database access.
+     *
+     * @param random The random generator to use
+     * @return A random weapon, or empty if the tenant has no weapons
+     */
+    public Optional<Weapon> randomWeapon(RandomGenerator random) {
+        return randomElement(weapons, random);
+    }
+
+    /**
+     * Pick a random armor, for mustering out benefits.
+     *
+     * @param random The random generator to use
+     * @return A random armor, or empty if the tenant has no armor
+     */
+    public Optional<Armor> randomArmor(RandomGenerator random) {
+        return randomElement(armor, random);
+    }
+
+    private static <T> Optional<T> randomElement(List<T> elements, RandomGenerator random) {
+        return elements.isEmpty() ? Optional.empty() : Optional.of(elements.get(random.nextInt(elements.size())));
+    }
+
+    private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+        Map<Long, T> map = new HashMap<>();
+        for (T entity : entities) {
+            map.put(id.apply(entity), entity);
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Index by case-insensitive name. If two rows share a name, the one with the lowest ID wins,
+     * matching the first row a database lookup would usually return.
+     */
+    private static <T> Map<String, T> byName(List<T> entities, Function<T, String> name) {
+        Map<String, T> map = new HashMap<>();
+        for (T entity : entities) {
+            if (name.apply(entity) != null) {
+                map.putIfAbsent(normalize(name.apply(entity)), entity);
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
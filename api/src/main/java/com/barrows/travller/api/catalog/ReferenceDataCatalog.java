@@ -0,0 +1,198 @@
+package com.barrows.travller.api.catalog;
+
+import com.barrows.travller.api.model.Armor;
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.model.Weapon;
+import com.barrows.travller.api.repository.ArmorRepository;
+import com.barrows.travller.api.repository.CareerRepository;
+import com.barrows.travller.api.repository.RaceRepository;
+import com.barrows.travller.api.repository.SkillRepository;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.repository.WeaponRepository;
+import com.barrows.travller.api.tenant.TenantService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory catalog of the rules data used by character creation.
+ * Each tenant gets an immutable, versioned {@link ReferenceData} snapshot, loaded at startup or on first use.
+ * Mutations of skills, careers, races, weapons or armor must call {@link #invalidate(Class[])}; the next lookup
+ * then builds a new snapshot, so readers always see either the old or the new catalog, never a mix.
+ * Invalidating also evicts the changed entities from Hibernate's second-level cache, which holds the same
+ * rules entities.
+ */
+@Component
+public class ReferenceDataCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCatalog.class);
+
+    private final SkillRepository skillRepository;
+    private final CareerRepository careerRepository;
+    private final RaceRepository raceRepository;
+    private final WeaponRepository weaponRepository;
+    private final ArmorRepository armorRepository;
+    private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<Long, CompletableFuture<ReferenceData>> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public ReferenceDataCatalog(SkillRepository skillRepository,
+                                CareerRepository careerRepository,
+                                RaceRepository raceRepository,
+                                WeaponRepository weaponRepository,
+                                ArmorRepository armorRepository,
+                                TenantRepository tenantRepository,
+                                TenantService tenantService,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                EntityManagerFactory entityManagerFactory) {
+        this.skillRepository = skillRepository;
+        this.careerRepository = careerRepository;
+        this.raceRepository = raceRepository;
+        this.weaponRepository = weaponRepository;
+        this.armorRepository = armorRepository;
+        this.tenantRepository = tenantRepository;
+        this.tenantService = tenantService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Load the catalog of every tenant once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        tenantRepository.findAll(Sort.by("id")).forEach(tenant -> forTenant(tenant.getId()));
+    }
+
+    /**
+     * @return The catalog of the current tenant
+     * @throws IllegalStateException if no tenant is set in the context
+     */
+    public ReferenceData current() {
+        return forTenant(tenantService.getCurrentTenantId());
+    }
+
+    /**
+     * Get the catalog of a tenant, building it if it is missing or stale.
+     * Only the first caller for a tenant builds its catalog; concurrent callers for the same tenant wait
+     * for that build, while other tenants are served or built independently.
+     *
+     * @param tenantId The tenant ID
+     * @return The catalog
+     */
+    public ReferenceData forTenant(Long tenantId) {
+        CompletableFuture<ReferenceData> snapshot = snapshots.get(tenantId);
+        if (snapshot == null) {
+            CompletableFuture<ReferenceData> build = new CompletableFuture<>();
+            snapshot = snapshots.putIfAbsent(tenantId, build);
+            if (snapshot == null) {
+                snapshot = build;
+                try {
+                    build.complete(load(tenantId));
+                } catch (RuntimeException e) {
+                    // Let the next lookup try again instead of caching the failure
+                    snapshots.remove(tenantId, build);
+                    build.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return snapshot.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Drop every tenant's catalog after rules data has changed.
+     * A build still running when the catalog is invalidated is no longer in the map, so its possibly stale
+     * snapshot is only returned to the callers already waiting for it.
+     * Hibernate updates cached entities on write, but only under the writing session's tenant; entries the
+     * same rows have under other tenant identifiers are evicted here, together with the collections the changed
+     * entity types own and cached query results. Regions of other entity types are kept.
+     *
+     * @param entityTypes The rules entity types that have changed
+     */
+    public void invalidate(Class<?>... entityTypes) {
+        snapshots.clear();
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        List<Class<?>> changed = List.of(entityTypes);
+        changed.forEach(cache::evictEntityData);
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachCollectionDescriptor(collection -> {
+                    if (collection.hasCache()
+                            && changed.contains(collection.getOwnerEntityPersister().getMappedClass())) {
+                        cache.evictCollectionData(collection.getRole());
+                    }
+                });
+        cache.evictQueryRegions();
+    }
+
+    private ReferenceData load(Long tenantId) {
+        ReferenceData snapshot = transactionTemplate.execute(status -> {
+            List<Skill> skills = load("skills", tenantId, skillRepository::findAllById, Skill::getId);
+            List<Career> careers = load("careers", tenantId, careerRepository::findAllById, Career::getId);
+            careers.forEach(ReferenceDataCatalog::initialize);
+            List<Race> races = load("races", tenantId, raceRepository::findAllById, Race::getId);
+            races.forEach(ReferenceDataCatalog::initialize);
+            List<Weapon> weapons = load("weapons", tenantId, weaponRepository::findAllById, Weapon::getId);
+            List<Armor> armor = load("armor", tenantId, armorRepository::findAllById, Armor::getId);
+            return new ReferenceData(tenantId, versions.incrementAndGet(), skills, careers, races, weapons, armor);
+        });
+        logger.debug("Loaded reference data version {} for tenant {}", snapshot.getVersion(), tenantId);
+        return snapshot;
+    }
+
+    /**
+     * Load the rows of a table that belong to the tenant, in ID order.
+     * Rules entities do not map their tenant, so the tenant's IDs are selected directly.
+     */
+    private <T> List<T> load(String table, Long tenantId, Function<List<Long>, List<T>> findAllById,
+                             Function<T, Long> id) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE tenant_id = ?", Long.class, tenantId);
+        return findAllById.apply(ids).stream().sorted(Comparator.comparing(id)).toList();
+    }
+
+    private static void initialize(Career career) {
+        Hibernate.initialize(career.getQualificationRequirements());
+        Hibernate.initialize(career.getBasicTrainingSkills());
+        Hibernate.initialize(career.getServiceSkillTables());
+        Hibernate.initialize(career.getAdvancedEducationSkillTables());
+        Hibernate.initialize(career.getRanks());
+        Hibernate.initialize(career.getMusteringOutBenefits());
+    }
+
+    private static void initialize(Race race) {
+        Hibernate.initialize(race.getCharacteristicModifiers());
+        Hibernate.initialize(race.getSpecialAbilities());
+        Hibernate.initialize(race.getTypicalHomeworlds());
+    }
+}
@@ -0,0 +1,52 @@
+package com.barrows.travller.api.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application DataSource, which is the primary pool, in a {@link BulkheadDataSource} when
+ * {@code travller.datasource.bulkhead.enabled} is set, as it is in the {@code virtual-threads} profile.
+ * The read replica pool is created by {@link ReadReplicaConfig}, which puts it behind a bulkhead of its own.
+ */
+@Configuration
+@ConditionalOnProperty(name = "travller.datasource.bulkhead.enabled", havingValue = "true")
+public class DataSourceBulkheadConfig {
+
+    /**
+     * Decorate the DataSource bean once it has been created.
+     * Declared static so the post-processor does not force early initialization of this configuration.
+     * It runs first so the bulkhead wraps the pool itself and other DataSource decorators sit outside it.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceBulkheadPostProcessor(Environment environment) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    int maxConcurrent = environment.getProperty("travller.datasource.bulkhead.max-concurrent",
+                            Integer.class, environment.getProperty("spring.datasource.hikari.maximum-pool-size",
+                                    Integer.class, 10));
+                    Duration acquireTimeout = environment.getProperty("travller.datasource.bulkhead.acquire-timeout",
+                            Duration.class, Duration.ofSeconds(5));
+                    return new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+
+        @Override
+        default int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
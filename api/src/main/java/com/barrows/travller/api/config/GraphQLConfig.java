@@ -1,11 +1,22 @@
 package com.barrows.travller.api.config;
 
+import com.barrows.travller.api.graphql.batch.EntityIdentityCacheKey;
+import com.barrows.travller.api.graphql.document.DocumentCacheTracingInstrumentation;
+import com.barrows.travller.api.graphql.document.PreparsedDocumentCache;
+import com.barrows.travller.api.tenant.TenantContext;
+import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
-import graphql.execution.instrumentation.tracing.TracingInstrumentation;
 import graphql.scalars.ExtendedScalars;
+import org.dataloader.DataLoaderOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 
 /**
@@ -27,6 +38,50 @@ public class GraphQLConfig {
                 .scalar(ExtendedScalars.Url);
     }
 
+    /**
+     * Cache parsed and validated documents, keyed by persisted query hash or query text, so repeated operations
+     * skip parsing and validation and clients can send Automatic Persisted Queries.
+     */
+    @Bean
+    public PreparsedDocumentCache preparsedDocumentCache(
+            @Value("${travller.graphql.document-cache.max-size:500}") int maxSize) {
+        return new PreparsedDocumentCache(maxSize);
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer preparsedDocumentCacheCustomizer(PreparsedDocumentCache cache) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(cache));
+    }
+
+    /**
+     * Registry for the DataLoaders behind the {@code @BatchMapping} resolvers.
+     * Entities are cached by identity so that DataLoader bookkeeping never triggers lazy loading.
+     */
+    @Bean
+    public BatchLoaderRegistry batchLoaderRegistry() {
+        return new DefaultBatchLoaderRegistry(() -> DataLoaderOptions.newOptions()
+                .setCacheKeyFunction(new EntityIdentityCacheKey())
+                .build());
+    }
+
+    /**
+     * Reject operations nested deeper than the configured limit before they are executed.
+     */
+    @Bean
+    public Instrumentation maxQueryDepthInstrumentation(@Value("${travller.graphql.max-depth:15}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    /**
+     * Propagate the tenant (and any other registered ThreadLocal) into tasks run on the application task executor,
+     * so resolvers that fan out to other threads keep the caller's tenant.
+     */
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        TenantContext.registerContextPropagation();
+        return new ContextPropagatingTaskDecorator();
+    }
+
     /**
      * Configuration specific to local development environment.
      */
@@ -35,11 +90,12 @@ public class GraphQLConfig {
     public static class LocalGraphQLConfig {
 
         /**
-         * Add tracing instrumentation for local development to see query execution details.
+         * Add tracing instrumentation for local development to see query execution details,
+         * including the parsing and validation saved by the document cache.
          */
         @Bean
         public Instrumentation tracingInstrumentation() {
-            return new TracingInstrumentation();
+            return new DocumentCacheTracingInstrumentation();
         }
     }
 
@@ -0,0 +1,129 @@
+package com.barrows.travller.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.OperationDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends GraphQL queries and read-only transactions to a read replica when
+ * {@code travller.datasource.replica.enabled} is set. Mutations, and reads of a tenant that has just
+ * written, stay on the primary configured under {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "travller.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * Put the replica router in front of the primary DataSource once it has been created.
+     * Declared static so the post-processor does not force early initialization of this configuration.
+     * It runs right after the bulkhead, so the primary pool keeps its bulkhead and tenant schema routing
+     * still applies to both pools. The replica pool is not a bean, so it gets its own bulkhead here.
+     */
+    @Bean
+    public static BeanPostProcessor readReplicaPostProcessor(Environment environment) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource primary && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    Duration stickyWindow = environment.getProperty("travller.datasource.replica.sticky-window",
+                            Duration.class, Duration.ofSeconds(5));
+                    ReadReplicaRoutingDataSource router = new ReadReplicaRoutingDataSource(
+                            primary, replicaDataSource(environment), stickyWindow);
+                    return new ReadReplicaDataSource(router);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Mark query operations read-only and mutations as writing in the GraphQL context, from which the flag is
+     * restored around each data fetcher.
+     */
+    @Bean
+    public Instrumentation readReplicaInstrumentation() {
+        ReadReplicaContext.registerContextPropagation();
+        return new SimplePerformantInstrumentation() {
+            @Override
+            public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+                    InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+                OperationDefinition.Operation operation =
+                        parameters.getExecutionContext().getOperationDefinition().getOperation();
+                if (operation == OperationDefinition.Operation.QUERY) {
+                    parameters.getExecutionContext().getGraphQLContext().put(ReadReplicaContext.CONTEXT_KEY, true);
+                } else if (operation == OperationDefinition.Operation.MUTATION) {
+                    parameters.getExecutionContext().getGraphQLContext().put(ReadReplicaContext.CONTEXT_KEY, false);
+                }
+                return super.beginExecuteOperation(parameters, state);
+            }
+        };
+    }
+
+    /**
+     * Create the replica pool, behind its own {@link BulkheadDataSource} when
+     * {@code travller.datasource.bulkhead.enabled} is set. GraphQL queries all go to the replica, so without
+     * the bulkhead virtual threads would queue inside its pool instead of on the semaphore.
+     */
+    private static DataSource replicaDataSource(Environment environment) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(environment.getRequiredProperty("travller.datasource.replica.url"));
+        replica.setUsername(environment.getProperty("travller.datasource.replica.username",
+                environment.getProperty("spring.datasource.username")));
+        replica.setPassword(environment.getProperty("travller.datasource.replica.password",
+                environment.getProperty("spring.datasource.password")));
+        replica.setMaximumPoolSize(environment.getProperty("travller.datasource.replica.maximum-pool-size",
+                Integer.class, environment.getProperty("spring.datasource.hikari.maximum-pool-size",
+                        Integer.class, 10)));
+        replica.setReadOnly(true);
+        if (!environment.getProperty("travller.datasource.bulkhead.enabled", Boolean.class, false)) {
+            return replica;
+        }
+        int maxConcurrent = environment.getProperty("travller.datasource.bulkhead.replica-max-concurrent",
+                Integer.class, replica.getMaximumPoolSize());
+        Duration acquireTimeout = environment.getProperty("travller.datasource.bulkhead.acquire-timeout",
+                Duration.class, Duration.ofSeconds(5));
+        return new BulkheadDataSource(replica, maxConcurrent, acquireTimeout);
+    }
+
+    /**
+     * Defers checkout until the first statement and closes both pools when the context shuts down.
+     */
+    static class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final ReadReplicaRoutingDataSource router;
+
+        ReadReplicaDataSource(ReadReplicaRoutingDataSource router) {
+            super(router);
+            this.router = router;
+        }
+
+        @Override
+        public void close() throws Exception {
+            router.close();
+        }
+    }
+
+    private interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+
+        @Override
+        default int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.barrows.travller.api.config;
+
+import io.micrometer.context.ContextRegistry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ThreadLocal flag marking work that only reads and may be served by the read replica, or that writes and
+ * must stay on the primary. Unmarked work is routed by its transaction's read-only flag.
+ * Like {@link com.barrows.travller.api.tenant.TenantContext} it is registered with the Micrometer
+ * {@link ContextRegistry}, so a flag placed in the GraphQL context is restored around every data fetcher.
+ */
+public class ReadReplicaContext {
+
+    /**
+     * Key of the flag in the GraphQL context and the context registry.
+     */
+    public static final String CONTEXT_KEY = "travller.readOnly";
+
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Registers the flag ThreadLocal for context propagation. Safe to call more than once.
+     */
+    public static void registerContextPropagation() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            ContextRegistry.getInstance().registerThreadLocalAccessor(CONTEXT_KEY,
+                    READ_ONLY::get, READ_ONLY::set, READ_ONLY::remove);
+        }
+    }
+
+    /**
+     * @return Whether the current work has been marked read-only
+     */
+    public static boolean isReadOnly() {
+        return Boolean.TRUE.equals(READ_ONLY.get());
+    }
+
+    /**
+     * @return Whether the current work has been marked as writing, so that it must use the primary
+     * even inside read-only transactions
+     */
+    public static boolean isPrimaryRequired() {
+        return Boolean.FALSE.equals(READ_ONLY.get());
+    }
+
+    /**
+     * Marks the current work as read-only or as writing.
+     *
+     * @param readOnly true if the current work only reads, false if it writes and must use the primary
+     */
+    public static void setReadOnly(boolean readOnly) {
+        READ_ONLY.set(readOnly);
+    }
+
+    /**
+     * Clears the flag.
+     */
+    public static void clear() {
+        READ_ONLY.remove();
+    }
+}
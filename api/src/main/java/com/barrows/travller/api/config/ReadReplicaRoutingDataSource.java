@@ -0,0 +1,103 @@
+package com.barrows.travller.api.config;
+
+import com.barrows.travller.api.tenant.TenantContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DataSource that sends read-only work to a replica and everything else to the primary.
+ * Work counts as read-only inside a read-only transaction or when {@link ReadReplicaContext} marks it so,
+ * as it does for GraphQL query operations. Work that {@link ReadReplicaContext} marks as writing, such as
+ * GraphQL mutations, always gets the primary, even for the read-only transactions of repository lookups:
+ * with open-in-view the session holds on to its first connection, and later writes would go through it.
+ * Once a tenant has taken a writable connection it is pinned to
+ * the primary for the sticky window, so it reads its own writes while the replica catches up.
+ * <p>
+ * The lookup happens when a connection is checked out, so this DataSource is meant to sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers checkout until
+ * the transaction's read-only flag is known.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration stickyWindow;
+    private final Clock clock;
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration stickyWindow) {
+        this(primary, replica, stickyWindow, Clock.systemUTC());
+    }
+
+    ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration stickyWindow, Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.stickyWindow = stickyWindow;
+        this.clock = clock;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long tenantId = TenantContext.getCurrentTenant();
+        boolean readOnly = !ReadReplicaContext.isPrimaryRequired() && (ReadReplicaContext.isReadOnly()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        if (!readOnly) {
+            pin(tenantId);
+            return Target.PRIMARY;
+        }
+        return isPinned(tenantId) ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    /**
+     * Check whether a tenant's reads currently go to the primary because it wrote recently.
+     *
+     * @param tenantId The tenant ID, may be null
+     * @return true if the tenant is within its sticky window
+     */
+    public boolean isPinned(Long tenantId) {
+        if (tenantId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(tenantId);
+        if (until == null) {
+            return false;
+        }
+        if (clock.millis() < until) {
+            return true;
+        }
+        pinnedUntil.remove(tenantId, until);
+        return false;
+    }
+
+    /**
+     * Close the pools behind both targets, looking through any decorating DataSources.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource target : new DataSource[]{replica, primary}) {
+            if (target.isWrapperFor(AutoCloseable.class)) {
+                target.unwrap(AutoCloseable.class).close();
+            }
+        }
+    }
+
+    private void pin(Long tenantId) {
+        if (tenantId != null && !stickyWindow.isZero()) {
+            pinnedUntil.put(tenantId, clock.millis() + stickyWindow.toMillis());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.barrows.travller.api.config;
+
+import com.barrows.travller.api.tenant.TenantSchemaConnectionProvider;
+import com.barrows.travller.api.tenant.TenantSchemaDataSource;
+import com.barrows.travller.api.tenant.TenantSchemaRouting;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Routes tenants that have a dedicated schema to it when {@code travller.tenant.schema-per-tenant.enabled} is set.
+ * JPA sessions pick their schema through Hibernate's schema-based multi-tenancy; plain JDBC access follows
+ * the current tenant through {@link TenantSchemaDataSource}. Tenants without a schema are unaffected.
+ */
+@Configuration
+@ConditionalOnProperty(name = "travller.tenant.schema-per-tenant.enabled", havingValue = "true")
+public class SchemaPerTenantConfig {
+
+    /**
+     * Decorate the DataSource bean once it has been created.
+     * Declared static so the post-processor does not force early initialization of this configuration.
+     */
+    @Bean
+    public static BeanPostProcessor tenantSchemaDataSourcePostProcessor(ObjectProvider<TenantSchemaRouting> routing) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TenantSchemaDataSource)) {
+                    return new TenantSchemaDataSource(dataSource, routing);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer tenantSchemaHibernateProperties(DataSource dataSource,
+                                                                        TenantSchemaRouting routing) {
+        TenantSchemaDataSource tenantSchemaDataSource;
+        try {
+            tenantSchemaDataSource = dataSource.unwrap(TenantSchemaDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException("DataSource is not routed by tenant schema", e);
+        }
+        // The session's tenant comes from the resolver registered in TenantFilterConfig
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+                new TenantSchemaConnectionProvider(tenantSchemaDataSource, routing));
+    }
+
+    /**
+     * Migrate the shared schema first, then every dedicated tenant schema, so all schemas stay on the same version.
+     */
+    @Bean
+    public FlywayMigrationStrategy tenantSchemaMigrationStrategy(TenantSchemaRouting routing) {
+        return flyway -> {
+            flyway.migrate();
+            routing.migrateAll(flyway);
+        };
+    }
+}
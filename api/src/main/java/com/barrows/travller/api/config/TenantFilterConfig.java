@@ -0,0 +1,58 @@
+package com.barrows.travller.api.config;
+
+import com.barrows.travller.api.model.TenantAwareEntity;
+import com.barrows.travller.api.tenant.TenantContext;
+import com.barrows.travller.api.tenant.TenantIdentifierResolver;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * Enables the tenant filter of {@link TenantAwareEntity} on every EntityManager, covering both transactional
+ * and open-in-view EntityManagers.
+ * The filter fails closed: an EntityManager opened without a tenant is bound to {@link TenantAwareEntity#NO_TENANT}
+ * and sees no tenant-aware rows. Work that must read tenant-aware data outside a request, such as startup tasks
+ * and tests, binds the tenant with {@link TenantContext#callWithTenant}.
+ */
+@Configuration
+public class TenantFilterConfig {
+
+    /**
+     * Install the filter initializer on the EntityManagerFactory before it is built.
+     * Declared static so the post-processor does not force early initialization of this configuration.
+     */
+    @Bean
+    public static BeanPostProcessor tenantFilterPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setEntityManagerInitializer(TenantFilterConfig::enableTenantFilter);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Identify each session's tenant to Hibernate, which keys second-level cache entries by it.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer tenantIdentifierHibernateProperties() {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER,
+                new TenantIdentifierResolver());
+    }
+
+    private static void enableTenantFilter(EntityManager entityManager) {
+        Long tenantId = TenantContext.getCurrentTenant();
+        entityManager.unwrap(Session.class)
+                .enableFilter(TenantAwareEntity.TENANT_FILTER)
+                .setParameter(TenantAwareEntity.TENANT_PARAMETER,
+                        tenantId != null ? tenantId : TenantAwareEntity.NO_TENANT);
+    }
+}
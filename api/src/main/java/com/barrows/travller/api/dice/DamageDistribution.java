@@ -0,0 +1,46 @@
+package com.barrows.travller.api.dice;
+
+import com.barrows.travller.api.model.Weapon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The exact probability of every damage total of one weapon.
+ *
+ * @param weapon The weapon
+ * @param formula The damage formula
+ * @param boons The number of boons, or banes if negative
+ * @param min The lowest possible damage
+ * @param max The highest possible damage
+ * @param mean The expected damage
+ * @param outcomes The probability of each damage total from min to max
+ */
+public record DamageDistribution(Weapon weapon, String formula, int boons, int min, int max, double mean,
+                                 List<Outcome> outcomes) {
+
+    /**
+     * @param total A damage total
+     * @param probability The probability of rolling exactly the total
+     */
+    public record Outcome(int total, double probability) {
+    }
+
+    /**
+     * Create the damage distribution of a weapon from its dice distribution.
+     *
+     * @param weapon The weapon
+     * @param expression The weapon's compiled damage formula
+     * @param boons The number of boons, or banes if negative
+     * @return The damage distribution
+     */
+    public static DamageDistribution of(Weapon weapon, DiceExpression expression, int boons) {
+        DiceDistribution distribution = expression.distribution(boons);
+        List<Outcome> outcomes = new ArrayList<>(distribution.getMax() - distribution.getMin() + 1);
+        for (int total = distribution.getMin(); total <= distribution.getMax(); total++) {
+            outcomes.add(new Outcome(total, distribution.probability(total)));
+        }
+        return new DamageDistribution(weapon, expression.getFormula(), boons, distribution.getMin(),
+                distribution.getMax(), distribution.getMean(), outcomes);
+    }
+}
@@ -0,0 +1,16 @@
+package com.barrows.travller.api.dice;
+
+import com.barrows.travller.api.model.Weapon;
+
+import java.util.List;
+
+/**
+ * A batch of damage rolls of one weapon.
+ *
+ * @param weapon The weapon
+ * @param formula The damage formula that was rolled
+ * @param boons The number of boons, or banes if negative
+ * @param rolls The damage of each roll
+ */
+public record DamageRolls(Weapon weapon, String formula, int boons, List<Integer> rolls) {
+}
@@ -0,0 +1,107 @@
+package com.barrows.travller.api.dice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The dice of one request.
+ * The request seed starts a generator of the configured algorithm, which is never shared with other requests.
+ * Every roll takes its own seed from that generator and rolls its dice with a {@link SplittableRandom} of that
+ * seed, so a request replays bit-for-bit from the request seed and a single roll from its own seed. A request's
+ * data fetchers may roll concurrently, although only rolls made in a fixed order, such as those of mutations,
+ * replay in the same order.
+ */
+public final class Dice {
+
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+    private final long seed;
+    private final int maxRecorded;
+    private final RandomGenerator seeds;
+    private final List<DiceRoll> recorded = new ArrayList<>();
+    private boolean used;
+
+    Dice(RandomGeneratorFactory<RandomGenerator> factory, long seed, int maxRecorded) {
+        this.factory = factory;
+        this.seed = seed;
+        this.maxRecorded = maxRecorded;
+        this.seeds = factory.create(seed);
+    }
+
+    /**
+     * @return The seed the whole request can be replayed from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Whether any dice were rolled or generators split off
+     */
+    public synchronized boolean isUsed() {
+        return used;
+    }
+
+    /**
+     * Roll dice and sum them.
+     *
+     * @param count Number of dice to roll
+     * @param sides Number of sides on each die
+     * @return The sum of the dice rolls
+     */
+    public int roll(int count, int sides) {
+        return rollRecorded(count, sides).total();
+    }
+
+    /**
+     * Roll dice, keeping the seed of the roll so it can be replayed.
+     *
+     * @param count Number of dice to roll
+     * @param sides Number of sides on each die
+     * @return The roll
+     */
+    public synchronized DiceRoll rollRecorded(int count, int sides) {
+        long rollSeed = nextSeed();
+        DiceRoll roll = new DiceRoll(rollSeed, count, sides, sum(new SplittableRandom(rollSeed), count, sides));
+        if (recorded.size() < maxRecorded) {
+            recorded.add(roll);
+        }
+        return roll;
+    }
+
+    /**
+     * Split off a generator for work that rolls many dice in a loop, such as generating characters in bulk.
+     * The generator's seed comes from the request seed, so the work is replayed with the request.
+     *
+     * @return A generator for use by one thread
+     */
+    public RandomGenerator split() {
+        long generatorSeed;
+        synchronized (this) {
+            generatorSeed = nextSeed();
+        }
+        return factory.create(generatorSeed);
+    }
+
+    /**
+     * @return The first recorded rolls of the request, in the order they were rolled
+     */
+    public synchronized List<DiceRoll> getRecorded() {
+        return List.copyOf(recorded);
+    }
+
+    private long nextSeed() {
+        used = true;
+        return seeds.nextLong();
+    }
+
+    static int sum(RandomGenerator random, int count, int sides) {
+        int sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += random.nextInt(sides) + 1;
+        }
+        return sum;
+    }
+}
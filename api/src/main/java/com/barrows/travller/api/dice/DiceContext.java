@@ -0,0 +1,54 @@
+package com.barrows.travller.api.dice;
+
+import io.micrometer.context.ContextRegistry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ThreadLocal holding the {@link Dice} of the current request.
+ * Like {@link com.barrows.travller.api.tenant.TenantContext} it is registered with the Micrometer
+ * {@link ContextRegistry}, so dice placed in the GraphQL context are restored around every data fetcher.
+ */
+public class DiceContext {
+
+    /**
+     * Key of the dice in the GraphQL context and the context registry.
+     */
+    public static final String CONTEXT_KEY = "travller.dice";
+
+    private static final ThreadLocal<Dice> CURRENT_DICE = new ThreadLocal<>();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Registers the dice ThreadLocal for context propagation. Safe to call more than once.
+     */
+    public static void registerContextPropagation() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            ContextRegistry.getInstance().registerThreadLocalAccessor(CONTEXT_KEY,
+                    CURRENT_DICE::get, CURRENT_DICE::set, CURRENT_DICE::remove);
+        }
+    }
+
+    /**
+     * @return The dice of the current request, or null outside a request
+     */
+    public static Dice getCurrentDice() {
+        return CURRENT_DICE.get();
+    }
+
+    /**
+     * Sets the dice of the current request.
+     *
+     * @param dice The dice
+     */
+    public static void setCurrentDice(Dice dice) {
+        CURRENT_DICE.set(dice);
+    }
+
+    /**
+     * Clears the dice.
+     */
+    public static void clear() {
+        CURRENT_DICE.remove();
+    }
+}
@@ -0,0 +1,163 @@
+package com.barrows.travller.api.dice;
+
+import java.util.Arrays;
+
+/**
+ * The probability of every total of a dice expression.
+ * Sums of dice are built by convolving the uniform distribution of one die, and groups that keep only their
+ * highest or lowest dice are counted face by face, so the probabilities are exact up to floating point rounding.
+ */
+public final class DiceDistribution {
+
+    private final int min;
+    private final double[] probabilities;
+
+    private DiceDistribution(int min, double[] probabilities) {
+        this.min = min;
+        this.probabilities = probabilities;
+    }
+
+    /**
+     * @param value The value
+     * @return The distribution that is always the value
+     */
+    static DiceDistribution constant(int value) {
+        return new DiceDistribution(value, new double[]{1.0});
+    }
+
+    /**
+     * @param count The number of dice
+     * @param sides The sides of each die
+     * @return The distribution of the sum of the dice
+     */
+    static DiceDistribution sumOf(int count, int sides) {
+        double[] die = new double[sides];
+        Arrays.fill(die, 1.0 / sides);
+        DiceDistribution single = new DiceDistribution(1, die);
+        DiceDistribution sum = constant(0);
+        for (int i = 0; i < count; i++) {
+            sum = sum.add(single);
+        }
+        return sum;
+    }
+
+    /**
+     * Get the distribution of the highest or lowest dice of a roll.
+     * Going through the faces from the kept end, j of the r dice not yet placed show the face in C(r, j) ways,
+     * and as many of them as are still needed are kept.
+     *
+     * @param count The number of dice
+     * @param sides The sides of each die
+     * @param keep The number of highest dice to keep, or of lowest dice if negative
+     * @return The distribution of the sum of the kept dice
+     */
+    static DiceDistribution keepOf(int count, int sides, int keep) {
+        int kept = Math.abs(keep);
+        int maxSum = kept * sides;
+        double[][] binomials = binomials(count);
+        // ways[r][q][t]: r dice not yet placed, q dice still to keep, kept sum t
+        double[][][] ways = new double[count + 1][kept + 1][maxSum + 1];
+        ways[count][kept][0] = 1.0;
+        for (int step = 0; step < sides; step++) {
+            int face = keep > 0 ? sides - step : step + 1;
+            boolean last = step == sides - 1;
+            double[][][] next = new double[count + 1][kept + 1][maxSum + 1];
+            for (int r = 0; r <= count; r++) {
+                for (int q = 0; q <= kept; q++) {
+                    for (int t = 0; t <= maxSum; t++) {
+                        double w = ways[r][q][t];
+                        if (w == 0) {
+                            continue;
+                        }
+                        // The last face takes every die that is left
+                        for (int j = last ? r : 0; j <= r; j++) {
+                            int taken = Math.min(j, q);
+                            next[r - j][q - taken][t + taken * face] += w * binomials[r][j];
+                        }
+                    }
+                }
+            }
+            ways = next;
+        }
+
+        double total = Math.pow(sides, count);
+        double[] probabilities = new double[maxSum - kept + 1];
+        for (int t = kept; t <= maxSum; t++) {
+            probabilities[t - kept] = ways[0][0][t] / total;
+        }
+        return new DiceDistribution(kept, probabilities);
+    }
+
+    /**
+     * @param other Another distribution
+     * @return The distribution of the sum of both, by convolution
+     */
+    DiceDistribution add(DiceDistribution other) {
+        double[] sum = new double[probabilities.length + other.probabilities.length - 1];
+        for (int i = 0; i < probabilities.length; i++) {
+            if (probabilities[i] == 0) {
+                continue;
+            }
+            for (int j = 0; j < other.probabilities.length; j++) {
+                sum[i + j] += probabilities[i] * other.probabilities[j];
+            }
+        }
+        return new DiceDistribution(min + other.min, sum);
+    }
+
+    /**
+     * @return The distribution of the negated values
+     */
+    DiceDistribution negate() {
+        double[] negated = new double[probabilities.length];
+        for (int i = 0; i < probabilities.length; i++) {
+            negated[i] = probabilities[probabilities.length - 1 - i];
+        }
+        return new DiceDistribution(-getMax(), negated);
+    }
+
+    /**
+     * @return The lowest possible total
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * @return The highest possible total
+     */
+    public int getMax() {
+        return min + probabilities.length - 1;
+    }
+
+    /**
+     * @param total A total
+     * @return The probability of rolling exactly the total
+     */
+    public double probability(int total) {
+        int index = total - min;
+        return index < 0 || index >= probabilities.length ? 0.0 : probabilities[index];
+    }
+
+    /**
+     * @return The expected total
+     */
+    public double getMean() {
+        double mean = 0;
+        for (int i = 0; i < probabilities.length; i++) {
+            mean += (min + i) * probabilities[i];
+        }
+        return mean;
+    }
+
+    private static double[][] binomials(int n) {
+        double[][] c = new double[n + 1][n + 1];
+        for (int i = 0; i <= n; i++) {
+            c[i][0] = 1;
+            for (int j = 1; j <= i; j++) {
+                c[i][j] = c[i - 1][j - 1] + c[i - 1][j];
+            }
+        }
+        return c;
+    }
+}
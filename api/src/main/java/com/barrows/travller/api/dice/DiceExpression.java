@@ -0,0 +1,326 @@
+package com.barrows.travller.api.dice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * A compiled dice formula such as {@code 3D6}, {@code 2D+3}, {@code D-1} or {@code 4D6KH3-2}.
+ * <p>
+ * A formula is a sum of terms, each added or subtracted. A term is either a constant or a dice group
+ * {@code [count]D[sides][KH|KL keep]}: the count defaults to 1, the sides to 6 as in Traveller's {@code 2D},
+ * and {@code KH}/{@code KL} keep only the highest or lowest dice. Boons and banes roll extra dice for the first
+ * added dice group and keep its highest or lowest dice, e.g. {@code 2D} with a boon is {@code 3D6KH2}.
+ * <p>
+ * The formula is parsed once into parallel arrays, so rolling allocates nothing: keeping dice sorts into a scratch
+ * array supplied by the caller, which can be reused for every roll of a batch.
+ */
+public final class DiceExpression {
+
+    /**
+     * The most dice in one group.
+     */
+    public static final int MAX_DICE = 100;
+
+    /**
+     * The most sides of a die.
+     */
+    public static final int MAX_SIDES = 1000;
+
+    /**
+     * The most dice in a group that keeps some of them, after boons and banes; the exact distribution of such a
+     * group is computed face by face, which grows with the cube of the number of dice.
+     */
+    public static final int MAX_KEEP_DICE = 20;
+
+    /**
+     * The most boons or banes that can be applied at once.
+     */
+    public static final int MAX_BOONS = 3;
+
+    /**
+     * The most steps an exact distribution may take to compute. Summing dice grows with the square of the range
+     * of totals, so {@code 100D1000} would take billions of steps; such formulas can still be rolled.
+     */
+    public static final long MAX_DISTRIBUTION_STEPS = 50_000_000;
+
+    private final String formula;
+    private final int[] counts;
+    private final int[] sides;
+    private final int[] keeps;
+    private final int[] signs;
+    private final int modifier;
+    private final int boonGroup;
+    private final DiceDistribution[] distributions = new DiceDistribution[2 * MAX_BOONS + 1];
+
+    private DiceExpression(String formula, int[] counts, int[] sides, int[] keeps, int[] signs, int modifier) {
+        this.formula = formula;
+        this.counts = counts;
+        this.sides = sides;
+        this.keeps = keeps;
+        this.signs = signs;
+        this.modifier = modifier;
+        int group = -1;
+        for (int i = 0; i < signs.length && group < 0; i++) {
+            if (signs[i] > 0) {
+                group = i;
+            }
+        }
+        this.boonGroup = group;
+    }
+
+    /**
+     * Compile a formula.
+     *
+     * @param formula The formula, case-insensitive, whitespace ignored
+     * @return The compiled expression
+     * @throws IllegalArgumentException if the formula is not valid
+     */
+    public static DiceExpression compile(String formula) {
+        if (formula == null || formula.isBlank()) {
+            throw new IllegalArgumentException("Dice formula must not be empty");
+        }
+        String text = formula.replaceAll("\\s+", "").toUpperCase(Locale.ROOT);
+        List<int[]> groups = new ArrayList<>();
+        int modifier = 0;
+        int pos = 0;
+        boolean first = true;
+        while (pos < text.length()) {
+            int sign = 1;
+            char c = text.charAt(pos);
+            if (c == '+' || c == '-') {
+                sign = c == '-' ? -1 : 1;
+                pos++;
+            } else if (!first) {
+                throw invalid(formula, "expected + or - at position " + pos);
+            }
+            first = false;
+
+            int start = pos;
+            while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                pos++;
+            }
+            Integer number = pos > start ? parseNumber(formula, text.substring(start, pos)) : null;
+            if (pos >= text.length() || text.charAt(pos) != 'D') {
+                if (number == null) {
+                    throw invalid(formula, "expected a number or dice at position " + start);
+                }
+                modifier += sign * number;
+                continue;
+            }
+            pos++;
+
+            int count = number != null ? number : 1;
+            start = pos;
+            while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                pos++;
+            }
+            int dieSides = pos > start ? parseNumber(formula, text.substring(start, pos)) : 6;
+            int keep = 0;
+            if (text.startsWith("KH", pos) || text.startsWith("KL", pos)) {
+                boolean highest = text.charAt(pos + 1) == 'H';
+                pos += 2;
+                start = pos;
+                while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                    pos++;
+                }
+                if (pos == start) {
+                    throw invalid(formula, "expected the number of dice to keep at position " + start);
+                }
+                int kept = parseNumber(formula, text.substring(start, pos));
+                if (kept < 1 || kept > count) {
+                    throw invalid(formula, "can only keep 1 to " + count + " dice");
+                }
+                keep = kept == count ? 0 : (highest ? kept : -kept);
+            }
+            if (count < 1 || count > MAX_DICE) {
+                throw invalid(formula, "dice count must be between 1 and " + MAX_DICE);
+            }
+            if (dieSides < 1 || dieSides > MAX_SIDES) {
+                throw invalid(formula, "dice sides must be between 1 and " + MAX_SIDES);
+            }
+            if (keep != 0 && count > MAX_KEEP_DICE) {
+                throw invalid(formula, "at most " + MAX_KEEP_DICE + " dice can be rolled when keeping some");
+            }
+            groups.add(new int[]{count, dieSides, keep, sign});
+        }
+
+        int[] counts = new int[groups.size()];
+        int[] sides = new int[groups.size()];
+        int[] keeps = new int[groups.size()];
+        int[] signs = new int[groups.size()];
+        for (int i = 0; i < groups.size(); i++) {
+            counts[i] = groups.get(i)[0];
+            sides[i] = groups.get(i)[1];
+            keeps[i] = groups.get(i)[2];
+            signs[i] = groups.get(i)[3];
+        }
+        return new DiceExpression(formula.trim(), counts, sides, keeps, signs, modifier);
+    }
+
+    /**
+     * @return The formula this expression was compiled from
+     */
+    public String getFormula() {
+        return formula;
+    }
+
+    /**
+     * Get the length of the scratch array {@link #roll(RandomGenerator, int, int[])} needs.
+     *
+     * @param boons The number of boons, or banes if negative
+     * @return The scratch length
+     */
+    public int scratchSize(int boons) {
+        int size = 0;
+        for (int i = 0; i < counts.length; i++) {
+            size = Math.max(size, counts[i] + (i == boonGroup ? Math.abs(boons) : 0));
+        }
+        return size;
+    }
+
+    /**
+     * Roll the expression.
+     *
+     * @param random The random generator to use
+     * @param boons The number of boons, or banes if negative
+     * @param scratch An array of at least {@link #scratchSize(int)} elements, used when keeping dice
+     * @return The total
+     */
+    public int roll(RandomGenerator random, int boons, int[] scratch) {
+        checkBoons(boons);
+        int total = modifier;
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            int keep = keeps[i];
+            if (i == boonGroup && boons != 0) {
+                int kept = keep == 0 ? count : Math.abs(keep);
+                count += Math.abs(boons);
+                keep = boons > 0 ? kept : -kept;
+            }
+            total += signs[i] * rollGroup(random, count, sides[i], keep, scratch);
+        }
+        return total;
+    }
+
+    /**
+     * Get the exact distribution of totals.
+     * Distributions are computed once per number of boons and kept with the expression.
+     *
+     * @param boons The number of boons, or banes if negative
+     * @return The distribution
+     * @throws IllegalArgumentException if computing the distribution would take more than
+     *                                  {@value #MAX_DISTRIBUTION_STEPS} steps
+     */
+    public DiceDistribution distribution(int boons) {
+        checkBoons(boons);
+        DiceDistribution distribution = distributions[boons + MAX_BOONS];
+        if (distribution == null) {
+            distribution = computeDistribution(boons);
+            distributions[boons + MAX_BOONS] = distribution;
+        }
+        return distribution;
+    }
+
+    @Override
+    public String toString() {
+        return formula;
+    }
+
+    private DiceDistribution computeDistribution(int boons) {
+        int[] groupCounts = counts.clone();
+        int[] groupKeeps = keeps.clone();
+        long steps = 0;
+        long range = 1;
+        for (int i = 0; i < counts.length; i++) {
+            if (i == boonGroup && boons != 0) {
+                int kept = groupKeeps[i] == 0 ? groupCounts[i] : Math.abs(groupKeeps[i]);
+                groupCounts[i] += Math.abs(boons);
+                groupKeeps[i] = boons > 0 ? kept : -kept;
+            }
+            if (groupKeeps[i] != 0 && groupCounts[i] > MAX_KEEP_DICE) {
+                throw new IllegalArgumentException("The distribution of " + formula + " with boons or banes has too "
+                        + "many dice; at most " + MAX_KEEP_DICE + " dice can be rolled when keeping some");
+            }
+            long groupRange = (long) (groupKeeps[i] == 0 ? groupCounts[i] : Math.abs(groupKeeps[i]))
+                    * (sides[i] - 1) + 1;
+            steps += groupSteps(groupCounts[i], sides[i], groupKeeps[i]) + range * groupRange;
+            range += groupRange - 1;
+        }
+        if (steps > MAX_DISTRIBUTION_STEPS) {
+            throw new IllegalArgumentException("The distribution of " + formula + " is too large to compute exactly");
+        }
+
+        DiceDistribution total = DiceDistribution.constant(modifier);
+        for (int i = 0; i < counts.length; i++) {
+            DiceDistribution group = groupKeeps[i] == 0
+                    ? DiceDistribution.sumOf(groupCounts[i], sides[i])
+                    : DiceDistribution.keepOf(groupCounts[i], sides[i], groupKeeps[i]);
+            total = total.add(signs[i] > 0 ? group : group.negate());
+        }
+        return total;
+    }
+
+    /**
+     * Estimate the steps of computing the distribution of one dice group.
+     * A sum convolves each die into a running sum that grows by {@code sides - 1} totals; keeping dice visits every
+     * (dice left, dice to keep, kept sum) state for every face and every number of dice showing it.
+     */
+    private static long groupSteps(int count, int sides, int keep) {
+        if (keep == 0) {
+            return (long) count * count * sides * sides / 2;
+        }
+        int kept = Math.abs(keep);
+        return (long) sides * (count + 1) * (count + 1) * (kept + 1) * ((long) kept * sides + 1);
+    }
+
+    private static int rollGroup(RandomGenerator random, int count, int sides, int keep, int[] scratch) {
+        if (keep == 0) {
+            int sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += random.nextInt(sides) + 1;
+            }
+            return sum;
+        }
+        // Insertion sort, descending; groups that keep dice are small
+        for (int i = 0; i < count; i++) {
+            int die = random.nextInt(sides) + 1;
+            int j = i;
+            while (j > 0 && scratch[j - 1] < die) {
+                scratch[j] = scratch[j - 1];
+                j--;
+            }
+            scratch[j] = die;
+        }
+        int sum = 0;
+        if (keep > 0) {
+            for (int i = 0; i < keep; i++) {
+                sum += scratch[i];
+            }
+        } else {
+            for (int i = count + keep; i < count; i++) {
+                sum += scratch[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void checkBoons(int boons) {
+        if (boons < -MAX_BOONS || boons > MAX_BOONS) {
+            throw new IllegalArgumentException("boons must be between " + -MAX_BOONS + " and " + MAX_BOONS);
+        }
+    }
+
+    private static int parseNumber(String formula, String digits) {
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            throw invalid(formula, "number " + digits + " is too large");
+        }
+    }
+
+    private static IllegalArgumentException invalid(String formula, String reason) {
+        return new IllegalArgumentException("Invalid dice formula '" + formula + "': " + reason);
+    }
+}
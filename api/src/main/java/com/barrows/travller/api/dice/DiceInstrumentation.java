@@ -0,0 +1,86 @@
+package com.barrows.travller.api.dice;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.language.OperationDefinition;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Gives every GraphQL operation its own {@link Dice} and reports how to replay them.
+ * A client replays a query by sending the seed of an earlier response in the {@code dice} request
+ * extension, e.g. {@code "extensions": {"dice": {"seed": "-4962768465676381896"}}}. Queries persist nothing, so
+ * choosing their seed only reproduces a result. Mutations save what they roll, so they always roll with a
+ * server-generated seed and ignore the extension; otherwise a client could pick the seed that yields the
+ * characteristics or survival rolls it wants. Responses of operations that rolled dice carry the seed and the
+ * first recorded rolls in their {@code dice} extension. Seeds are sent as strings, since JSON clients may not
+ * hold 64-bit integers exactly.
+ */
+@Component
+public class DiceInstrumentation extends SimplePerformantInstrumentation {
+
+    public static final String DICE_EXTENSION = "dice";
+
+    private final DiceService diceService;
+
+    public DiceInstrumentation(DiceService diceService) {
+        this.diceService = diceService;
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        ExecutionContext executionContext = parameters.getExecutionContext();
+        Long seed = null;
+        if (executionContext.getOperationDefinition().getOperation() == OperationDefinition.Operation.QUERY) {
+            Object extension = executionContext.getExecutionInput().getExtensions().get(DICE_EXTENSION);
+            seed = extension instanceof Map<?, ?> map ? parseSeed(map.get("seed")) : null;
+        }
+        executionContext.getGraphQLContext().put(DiceContext.CONTEXT_KEY, diceService.newDice(seed));
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters,
+                                                                        InstrumentationState state) {
+        GraphQLContext graphQLContext = parameters.getGraphQLContext();
+        Dice dice = graphQLContext.get(DiceContext.CONTEXT_KEY);
+        if (dice == null || !dice.isUsed()) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        List<Map<String, Object>> rolls = dice.getRecorded().stream()
+                .map(roll -> Map.<String, Object>of("seed", Long.toString(roll.seed()),
+                        "dice", roll.notation(), "total", roll.total()))
+                .toList();
+        Map<String, Object> extension = new LinkedHashMap<>();
+        extension.put("seed", Long.toString(dice.getSeed()));
+        extension.put("rolls", rolls);
+        return CompletableFuture.completedFuture(
+                executionResult.transform(builder -> builder.addExtension(DICE_EXTENSION, extension)));
+    }
+
+    private static Long parseSeed(Object seed) {
+        if (seed == null) {
+            return null;
+        }
+        if (seed instanceof Number number) {
+            return number.longValue();
+        }
+        try {
+            return Long.parseLong(seed.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid dice seed: " + seed);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.barrows.travller.api.dice;
+
+/**
+ * One recorded roll of dice.
+ * The dice are rolled with a {@link java.util.SplittableRandom} created from {@code seed}, so
+ * {@link DiceService#replay(DiceRoll)} reproduces the roll exactly.
+ *
+ * @param seed The seed the dice were rolled with
+ * @param count The number of dice
+ * @param sides The number of sides of each die
+ * @param total The sum of the dice
+ */
+public record DiceRoll(long seed, int count, int sides, int total) {
+
+    /**
+     * @return The roll in dice notation, e.g. {@code 2D6}
+     */
+    public String notation() {
+        return count + "D" + sides;
+    }
+}
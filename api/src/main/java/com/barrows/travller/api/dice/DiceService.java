@@ -0,0 +1,86 @@
+package com.barrows.travller.api.dice;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Rolls the dice of character creation and combat.
+ * Each request gets its own {@link Dice}, seeded at random or, for queries, by the client, so no generator is
+ * shared between request threads and any outcome can be replayed from the seed reported in the response. The generator
+ * algorithm of a request's seed stream is any {@link RandomGeneratorFactory} name, {@code L64X128MixRandom} by
+ * default; changing it changes what a request seed replays to, but not what the seed of a single roll does.
+ * <p>
+ * Dice formulas such as weapon damage are compiled once per distinct formula into a {@link DiceExpression} and kept
+ * in a bounded Caffeine cache, together with the distributions computed from them.
+ */
+@Service
+public class DiceService {
+
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+    private final int maxRecordedRolls;
+    private final Cache<String, DiceExpression> expressions;
+
+    public DiceService(@Value("${travller.dice.algorithm:L64X128MixRandom}") String algorithm,
+                       @Value("${travller.dice.max-recorded-rolls:100}") int maxRecordedRolls,
+                       @Value("${travller.dice.expression-cache.max-size:1000}") int maxExpressions) {
+        this.factory = RandomGeneratorFactory.of(algorithm);
+        this.maxRecordedRolls = maxRecordedRolls;
+        this.expressions = Caffeine.newBuilder()
+                .maximumSize(maxExpressions)
+                .build();
+        DiceContext.registerContextPropagation();
+    }
+
+    /**
+     * Create the dice of a request.
+     *
+     * @param seed The seed to replay, or null for a random seed
+     * @return The dice
+     */
+    public Dice newDice(Long seed) {
+        return new Dice(factory, seed != null ? seed : ThreadLocalRandom.current().nextLong(), maxRecordedRolls);
+    }
+
+    /**
+     * Get the dice of the current request.
+     * Outside a request, such as in startup tasks and tests, fresh dice with a random seed are returned.
+     *
+     * @return The dice
+     */
+    public Dice current() {
+        Dice dice = DiceContext.getCurrentDice();
+        return dice != null ? dice : newDice(null);
+    }
+
+    /**
+     * Roll a recorded roll again.
+     *
+     * @param roll The recorded roll
+     * @return The same roll
+     */
+    public DiceRoll replay(DiceRoll roll) {
+        return new DiceRoll(roll.seed(), roll.count(), roll.sides(),
+                Dice.sum(new SplittableRandom(roll.seed()), roll.count(), roll.sides()));
+    }
+
+    /**
+     * Get the compiled expression of a dice formula, compiling it on first use.
+     *
+     * @param formula The formula, e.g. {@code 3D6} or {@code 2D+3}
+     * @return The compiled expression
+     * @throws IllegalArgumentException if the formula is not valid
+     */
+    public DiceExpression expression(String formula) {
+        if (formula == null) {
+            throw new IllegalArgumentException("Dice formula must not be empty");
+        }
+        return expressions.get(formula, DiceExpression::compile);
+    }
+}
@@ -1,14 +1,29 @@
 package com.barrows.travller.api.graphql;
 
+import com.barrows.travller.api.catalog.ReferenceData;
+import com.barrows.travller.api.catalog.ReferenceDataCatalog;
+import com.barrows.travller.api.graphql.relay.ConnectionCounter;
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.KeysetQuery;
+import com.barrows.travller.api.graphql.relay.career.CareerConnection;
+import com.barrows.travller.api.graphql.relay.career.CareerConnectionFactory;
+import com.barrows.travller.api.lifepath.CareerOdds;
+import com.barrows.travller.api.lifepath.CareerSimulator;
+import com.barrows.travller.api.lifepath.CharacterGenerator;
+import com.barrows.travller.api.model.BenefitTable;
 import com.barrows.travller.api.model.Career;
 import com.barrows.travller.api.model.CharacteristicType;
 import com.barrows.travller.api.model.Rank;
 import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.model.SkillTable;
 import com.barrows.travller.api.repository.CareerRepository;
 import com.barrows.travller.api.repository.SkillRepository;
+import com.barrows.travller.api.tenant.TenantService;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
@@ -20,12 +35,32 @@ import java.util.Map;
 @Controller
 public class CareerGraphQLResolver {
 
+    private static final int AVERAGE_CHARACTERISTIC = 7;
+
+    /**
+     * A career and the ranks and tables it cascades to, whose cached entries a career mutation invalidates.
+     */
+    private static final Class<?>[] CAREER_TYPES = {Career.class, Rank.class, SkillTable.class, BenefitTable.class};
+
     private final CareerRepository careerRepository;
     private final SkillRepository skillRepository;
-
-    public CareerGraphQLResolver(CareerRepository careerRepository, SkillRepository skillRepository) {
+    private final ConnectionCounter connectionCounter;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final CareerSimulator careerSimulator;
+    private final TenantService tenantService;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CareerGraphQLResolver(CareerRepository careerRepository, SkillRepository skillRepository,
+                                 ConnectionCounter connectionCounter, ReferenceDataCatalog referenceDataCatalog,
+                                 CareerSimulator careerSimulator, TenantService tenantService,
+                                 JdbcTemplate jdbcTemplate) {
         this.careerRepository = careerRepository;
         this.skillRepository = skillRepository;
+        this.connectionCounter = connectionCounter;
+        this.referenceDataCatalog = referenceDataCatalog;
+        this.careerSimulator = careerSimulator;
+        this.tenantService = tenantService;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     /**
@@ -37,11 +72,38 @@ public class CareerGraphQLResolver {
     }
 
     /**
-     * Query to get all careers.
+     * Query to get a page of the current tenant's careers, ordered by name.
      */
     @QueryMapping
-    public List<Career> careers() {
-        return careerRepository.findAll();
+    public CareerConnection careers(@Argument Integer first, @Argument String after,
+                                  @Argument Integer last, @Argument String before,
+                                  DataFetchingFieldSelectionSet selectionSet) {
+        KeysetQuery<Career> query = KeysetQuery.ofTenantTable(jdbcTemplate, careerRepository, Career.class,
+                Career::getId, tenantService.getCurrentTenantId());
+        return ConnectionUtil.createKeysetConnection(query, Career::getName, Career::getId, first, after, last, before,
+                connectionCounter.totalCount(query, selectionSet), new CareerConnectionFactory());
+    }
+
+    /**
+     * Query to get the simulated odds of a career for a character's characteristics.
+     * Only the career's qualification characteristic is used; if it is not given, the 2d6 average of 7 is assumed.
+     */
+    @QueryMapping
+    public CareerOdds careerOdds(@Argument Long careerId, @Argument List<CharacteristicInput> characteristics,
+                                 @Argument Integer terms) {
+        ReferenceData referenceData = referenceDataCatalog.current();
+        Career career = referenceData.findCareer(careerId)
+                .orElseThrow(() -> new IllegalArgumentException("Career not found"));
+
+        CharacteristicType qualificationCharacteristic = career.getQualificationCharacteristic();
+        int qualificationValue = characteristics == null ? AVERAGE_CHARACTERISTIC : characteristics.stream()
+                .filter(characteristic -> characteristic.getType() == qualificationCharacteristic)
+                .mapToInt(CharacteristicInput::getValue)
+                .findFirst()
+                .orElse(AVERAGE_CHARACTERISTIC);
+
+        return careerSimulator.odds(referenceData, career, qualificationValue,
+                terms != null ? terms : CharacterGenerator.DEFAULT_TERMS);
     }
 
     /**
@@ -87,7 +149,9 @@ public class CareerGraphQLResolver {
             }
         }
 
-        return careerRepository.save(career);
+        Career saved = careerRepository.save(career);
+        referenceDataCatalog.invalidate(CAREER_TYPES);
+        return saved;
     }
 
     /**
@@ -110,7 +174,9 @@ public class CareerGraphQLResolver {
             }
         }
 
-        return careerRepository.save(career);
+        Career saved = careerRepository.save(career);
+        referenceDataCatalog.invalidate(CAREER_TYPES);
+        return saved;
     }
 
     /**
@@ -120,6 +186,7 @@ public class CareerGraphQLResolver {
     public boolean deleteCareer(@Argument Long id) {
         if (careerRepository.existsById(id)) {
             careerRepository.deleteById(id);
+            referenceDataCatalog.invalidate(CAREER_TYPES);
             return true;
         }
         return false;
@@ -147,7 +214,9 @@ public class CareerGraphQLResolver {
 
         career.addRank(rank);
 
-        return careerRepository.save(career);
+        Career saved = careerRepository.save(career);
+        referenceDataCatalog.invalidate(CAREER_TYPES);
+        return saved;
     }
 
     /**
@@ -233,4 +302,28 @@ public class CareerGraphQLResolver {
             this.promotionDM = promotionDM;
         }
     }
+
+    /**
+     * Input class for a characteristic value.
+     */
+    public static class CharacteristicInput {
+        private CharacteristicType type;
+        private int value;
+
+        public CharacteristicType getType() {
+            return type;
+        }
+
+        public void setType(CharacteristicType type) {
+            this.type = type;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
 }
@@ -1,17 +1,27 @@
 package com.barrows.travller.api.graphql;
 
+import com.barrows.travller.api.catalog.ReferenceData;
+import com.barrows.travller.api.catalog.ReferenceDataCatalog;
+import com.barrows.travller.api.dice.DiceService;
+import com.barrows.travller.api.graphql.relay.ConnectionCounter;
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.KeysetQuery;
+import com.barrows.travller.api.graphql.relay.character.CharacterConnection;
+import com.barrows.travller.api.graphql.relay.character.CharacterConnectionFactory;
+import com.barrows.travller.api.lifepath.CharacterGenerator;
+import com.barrows.travller.api.lifepath.LifepathRules;
 import com.barrows.travller.api.model.*;
 import com.barrows.travller.api.model.Character;
 import com.barrows.travller.api.repository.*;
 import com.barrows.travller.api.tenant.TenantService;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
 
 /**
  * GraphQL resolver for Character-related queries and mutations.
@@ -20,28 +30,27 @@ import java.util.stream.Collectors;
 public class CharacterResolver {
 
     private final CharacterRepository characterRepository;
-    private final RaceRepository raceRepository;
     private final HomeworldRepository homeworldRepository;
-    private final CareerRepository careerRepository;
-    private final WeaponRepository weaponRepository;
-    private final ArmorRepository armorRepository;
     private final TenantService tenantService;
-    private final Random random = new Random();
+    private final ConnectionCounter connectionCounter;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final CharacterGenerator characterGenerator;
+    private final DiceService diceService;
 
     public CharacterResolver(CharacterRepository characterRepository,
-                            RaceRepository raceRepository,
                             HomeworldRepository homeworldRepository,
-                            CareerRepository careerRepository,
-                            WeaponRepository weaponRepository,
-                            ArmorRepository armorRepository,
-                            TenantService tenantService) {
+                            TenantService tenantService,
+                            ConnectionCounter connectionCounter,
+                            ReferenceDataCatalog referenceDataCatalog,
+                            CharacterGenerator characterGenerator,
+                            DiceService diceService) {
         this.characterRepository = characterRepository;
-        this.raceRepository = raceRepository;
         this.homeworldRepository = homeworldRepository;
-        this.careerRepository = careerRepository;
-        this.weaponRepository = weaponRepository;
-        this.armorRepository = armorRepository;
         this.tenantService = tenantService;
+        this.connectionCounter = connectionCounter;
+        this.referenceDataCatalog = referenceDataCatalog;
+        this.characterGenerator = characterGenerator;
+        this.diceService = diceService;
     }
 
     /**
@@ -49,8 +58,29 @@ public class CharacterResolver {
      */
     @QueryMapping
     public Character character(@Argument Long id) {
+        return characterRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * Query to get a page of characters for the current tenant, ordered by name.
+     */
+    @QueryMapping
+    public CharacterConnection characters(@Argument Integer first, @Argument String after,
+                                          @Argument Integer last, @Argument String before,
+                                          DataFetchingFieldSelectionSet selectionSet) {
         Long tenantId = tenantService.getCurrentTenantId();
-        return characterRepository.findByIdAndTenantId(id, tenantId).orElse(null);
+        KeysetQuery<Character> query = KeysetQuery.ofTenant(characterRepository, Character.class, tenantId);
+        return ConnectionUtil.createKeysetConnection(query, Character::getName, Character::getId, first, after, last, before,
+                connectionCounter.totalCount(query, selectionSet), new CharacterConnectionFactory());
+    }
+
+    /**
+     * The career the character is qualifying for, serving in or last left.
+     */
+    @SchemaMapping(typeName = "Character", field = "currentCareer")
+    public Career currentCareer(Character character) {
+        Long careerId = character.getCurrentCareerId();
+        return careerId == null ? null : referenceDataCatalog.current().findCareer(careerId).orElse(null);
     }
 
     /**
@@ -58,8 +88,7 @@ public class CharacterResolver {
      * This method is kept for backward compatibility but is not exposed via GraphQL.
      */
     public List<Character> getAllCharacters() {
-        Long tenantId = tenantService.getCurrentTenantId();
-        return characterRepository.findAllByTenantId(tenantId);
+        return characterRepository.findAll();
     }
 
     /**
@@ -67,7 +96,7 @@ public class CharacterResolver {
      */
     @MutationMapping
     public Character createCharacter(@Argument CharacterInput input) {
-        Race race = raceRepository.findById(input.getRaceId())
+        Race race = referenceDataCatalog.current().findRace(input.getRaceId())
                 .orElseThrow(() -> new IllegalArgumentException("Race not found"));
 
         Character character = new Character(input.getName(), race);
@@ -99,7 +128,7 @@ public class CharacterResolver {
         character.setBackground(input.getBackground());
 
         if (input.getRaceId() != null) {
-            Race race = raceRepository.findById(input.getRaceId())
+            Race race = referenceDataCatalog.current().findRace(input.getRaceId())
                     .orElseThrow(() -> new IllegalArgumentException("Race not found"));
             character.setRace(race);
         }
@@ -162,17 +191,9 @@ public class CharacterResolver {
 
         // Add homeworld skills to character
         for (Skill skill : homeworld.getCommonSkills()) {
-            character.addSkill(skill);
+            LifepathRules.learn(character, skill);
         }
 
-        // Update background to reflect homeworld
-        String background = character.getBackground();
-        if (background == null) {
-            background = "";
-        }
-        background += "Born and raised on " + homeworld.getName() + ". ";
-        character.setBackground(background);
-
         return characterRepository.save(character);
     }
 
@@ -184,17 +205,10 @@ public class CharacterResolver {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found"));
 
-        Career career = careerRepository.findById(careerId)
+        Career career = referenceDataCatalog.current().findCareer(careerId)
                 .orElseThrow(() -> new IllegalArgumentException("Career not found"));
 
-        // Store the selected career in the character's background for now
-        // The actual career term will be created when qualification is attempted
-        String background = character.getBackground();
-        if (background == null) {
-            background = "";
-        }
-        background += "Attempted to join the " + career.getName() + ". ";
-        character.setBackground(background);
+        character.selectCareer(career);
 
         return characterRepository.save(character);
     }
@@ -207,21 +221,12 @@ public class CharacterResolver {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found"));
 
-        // For this example, we'll assume the career is stored in the background
-        // In a real implementation, you would store this in a proper field
-        String background = character.getBackground();
-        if (background == null || !background.contains("Attempted to join the ")) {
+        if (character.getLifepathPhase() != LifepathPhase.QUALIFYING) {
             throw new IllegalStateException("No career selected for qualification");
         }
 
-        // Extract career name from background
-        String careerName = background.substring(
-                background.lastIndexOf("Attempted to join the ") + "Attempted to join the ".length(),
-                background.lastIndexOf(".")
-        );
-
-        // Find the career by name
-        Career career = careerRepository.findByNameIgnoreCase(careerName)
+        ReferenceData referenceData = referenceDataCatalog.current();
+        Career career = referenceData.findCareer(character.getCurrentCareerId())
                 .orElseThrow(() -> new IllegalArgumentException("Career not found"));
 
         // Get the qualification characteristic and difficulty
@@ -244,39 +249,26 @@ public class CharacterResolver {
         // If the character doesn't qualify, they might be drafted into the military
         if (!qualified) {
             // 50% chance of being drafted
-            drafted = random.nextBoolean();
+            drafted = rollDice(1, 6) <= 3;
 
             if (drafted) {
                 // Find a military career (for this example, we'll assume "Marines" is a military career)
-                Career militaryCareer = careerRepository.findByNameIgnoreCase("Marines")
+                Career militaryCareer = referenceData.findCareerByName(CharacterGenerator.DRAFT_CAREER)
                         .orElse(null);
 
                 if (militaryCareer != null) {
                     career = militaryCareer;
                     qualified = true;
-
-                    // Update background
-                    background = background.replace(
-                            "Attempted to join the " + careerName + ".",
-                            "Attempted to join the " + careerName + " but was drafted into the Marines."
-                    );
-                    character.setBackground(background);
+                } else {
+                    drafted = false;
                 }
-            } else {
-                // Update background
-                background = background.replace(
-                        "Attempted to join the " + careerName + ".",
-                        "Attempted to join the " + careerName + " but failed qualification."
-                );
-                character.setBackground(background);
             }
+        }
+
+        if (qualified) {
+            character.joinCareer(career, drafted);
         } else {
-            // Update background
-            background = background.replace(
-                    "Attempted to join the " + careerName + ".",
-                    "Qualified for the " + careerName + "."
-            );
-            character.setBackground(background);
+            character.failQualification();
         }
 
         characterRepository.save(character);
@@ -299,39 +291,19 @@ public class CharacterResolver {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found"));
 
-        // For this example, we'll assume the career is stored in the background
-        // In a real implementation, you would store this in a proper field
-        String background = character.getBackground();
-        if (background == null ||
-            (!background.contains("Qualified for the ") && !background.contains("drafted into the "))) {
+        if (character.getLifepathPhase() != LifepathPhase.SERVING) {
             throw new IllegalStateException("No qualified career found");
         }
 
-        // Extract career name from background
-        String careerName;
-        if (background.contains("Qualified for the ")) {
-            careerName = background.substring(
-                    background.lastIndexOf("Qualified for the ") + "Qualified for the ".length(),
-                    background.lastIndexOf(".")
-            );
-        } else {
-            careerName = background.substring(
-                    background.lastIndexOf("drafted into the ") + "drafted into the ".length(),
-                    background.lastIndexOf(".")
-            );
-        }
-
-        // Find the career by name
-        Career career = careerRepository.findByNameIgnoreCase(careerName)
+        Career career = referenceDataCatalog.current().findCareer(character.getCurrentCareerId())
                 .orElseThrow(() -> new IllegalArgumentException("Career not found"));
 
         // Roll for survival
-        boolean survived = rollDice(2, 6) >= 5; // Simplified survival check
+        boolean survived = rollDice(2, 6) >= LifepathRules.SURVIVAL_TARGET;
 
         // Create a new career term
-        CareerTerm careerTerm = new CareerTerm();
-        careerTerm.setCareer(career);
-        careerTerm.setRank(1); // Start at rank 1
+        CareerTerm careerTerm = new CareerTerm(career, character.getCareerTerm() + 1);
+        careerTerm.setRank(Math.max(character.getCareerRank(), 1)); // Start at rank 1
         careerTerm.setSurvived(survived);
 
         // If the character survived, gain skills and benefits
@@ -340,67 +312,31 @@ public class CharacterResolver {
         List<String> events = List.of("Standard term of service.");
 
         if (survived) {
-            // Gain skills (simplified for this example)
-            // In a real implementation, you would use the career's skill tables
-            gainedSkills = career.getSkillTables().stream()
-                    .flatMap(table -> table.getSkills().stream())
-                    .limit(2) // Gain 2 skills per term
-                    .collect(Collectors.toList());
+            // Gain skills from the career's skill tables; the skills are shared catalog entities,
+            // so a skill the character already has is kept as it is rather than levelled up in place
+            gainedSkills = LifepathRules.termSkills(career);
 
             for (Skill skill : gainedSkills) {
-                character.addSkill(skill);
-                careerTerm.getSkills().add(skill);
+                LifepathRules.learn(character, skill);
+                careerTerm.addSkill(skill);
             }
 
-            // Gain benefits (simplified for this example)
-            // In a real implementation, you would use the career's benefit tables
-            int benefitRoll = rollDice(1, 6);
-            String benefit = switch (benefitRoll) {
-                case 1 -> "Low Passage";
-                case 2 -> "1000 Credits";
-                case 3 -> "2 Ship Shares";
-                case 4 -> "Weapon";
-                case 5 -> "Combat Implant";
-                case 6 -> "Advanced Education";
-                default -> "Nothing";
-            };
-
+            String benefit = LifepathRules.termBenefit(rollDice(1, 6));
             benefits = List.of(benefit);
             careerTerm.getBenefits().addAll(benefits);
 
-            // Add credits if that was the benefit
-            if (benefit.contains("Credits")) {
-                int amount = Integer.parseInt(benefit.split(" ")[0]);
-                character.setCredits(character.getCredits() + amount);
+            if (benefit.equals(LifepathRules.CREDITS_BENEFIT)) {
+                character.setCredits(character.getCredits() + LifepathRules.CREDITS_BENEFIT_AMOUNT);
+            } else if (benefit.equals(LifepathRules.WEAPON_BENEFIT)) {
+                referenceDataCatalog.current().randomWeapon(diceService.current().split())
+                        .ifPresent(weapon -> LifepathRules.equip(character, weapon));
             }
 
-            // Add a weapon if that was the benefit
-            if (benefit.equals("Weapon")) {
-                // Find a random weapon
-                List<Weapon> weapons = weaponRepository.findAll();
-                if (!weapons.isEmpty()) {
-                    Weapon weapon = weapons.get(random.nextInt(weapons.size()));
-                    character.addWeapon(weapon);
-                }
-            }
-
-            // Increase age
-            character.setAge(character.getAge() + 4); // Each term is 4 years
-
-            // Update background
-            background += "Completed a term in the " + careerName + ". ";
-            character.setBackground(background);
-        } else {
-            // Character didn't survive the term
-            character.setStatus(CharacterStatus.DEAD);
-
-            // Update background
-            background += "Died during service in the " + careerName + ". ";
-            character.setBackground(background);
+            character.setAge(character.getAge() + LifepathRules.TERM_YEARS);
         }
 
-        // Add the career term to the character's history
-        character.getCareerHistory().add(careerTerm);
+        // Add the career term to the character's history; a character who didn't survive the term dies
+        character.completeTerm(careerTerm);
 
         characterRepository.save(character);
 
@@ -423,102 +359,54 @@ public class CharacterResolver {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found"));
 
-        // Check if the character has completed at least one term
-        if (character.getCareerHistory().isEmpty()) {
-            throw new IllegalStateException("Character has not completed any career terms");
-        }
-
         // Check if the character is alive
         if (character.getStatus() != CharacterStatus.ALIVE) {
             throw new IllegalStateException("Character is not alive");
         }
 
-        // Get the most recent career term
-        CareerTerm lastTerm = character.getCareerHistory().get(character.getCareerHistory().size() - 1);
-        Career career = lastTerm.getCareer();
-
-        // Calculate mustering out benefits based on number of terms and rank
-        int terms = (int) character.getCareerHistory().stream()
-                .filter(term -> term.getCareer().equals(career))
-                .count();
+        // Calculate mustering out benefits based on number of terms and rank in the current career
+        int terms = character.getCareerTerm();
+        int rank = character.getCareerRank();
+        character.musterOut();
 
-        int rank = lastTerm.getRank();
-
-        // Simplified mustering out benefits
-        int cashBenefits = terms;
-        int materialBenefits = terms + (rank >= 5 ? 1 : 0);
-
-        // Apply cash benefits
-        for (int i = 0; i < cashBenefits; i++) {
-            int roll = rollDice(1, 6);
-            int amount = switch (roll) {
-                case 1 -> 1000;
-                case 2 -> 5000;
-                case 3 -> 10000;
-                case 4 -> 10000;
-                case 5 -> 20000;
-                case 6 -> 50000;
-                default -> 0;
-            };
-            character.setCredits(character.getCredits() + amount);
+        // One cash roll per term served, and one material benefit per term plus one for a senior rank
+        for (int i = 0; i < terms; i++) {
+            character.setCredits(character.getCredits() + LifepathRules.musterOutCash(rollDice(1, 6)));
         }
 
-        // Apply material benefits
+        int materialBenefits = LifepathRules.materialBenefits(terms, rank);
         for (int i = 0; i < materialBenefits; i++) {
-            int roll = rollDice(1, 6);
-            switch (roll) {
-                case 1 -> {
-                    // Low Passage
-                    // This would be handled by game logic
-                }
-                case 2 -> {
-                    // +1 INT
-                    Characteristic intelligence = character.getCharacteristic(CharacteristicType.INTELLIGENCE);
-                    if (intelligence != null) {
-                        intelligence.setValue(intelligence.getValue() + 1);
-                    }
-                }
-                case 3 -> {
-                    // +1 EDU
-                    Characteristic education = character.getCharacteristic(CharacteristicType.EDUCATION);
-                    if (education != null) {
-                        education.setValue(education.getValue() + 1);
-                    }
-                }
-                case 4 -> {
-                    // Weapon
-                    List<Weapon> weapons = weaponRepository.findAll();
-                    if (!weapons.isEmpty()) {
-                        Weapon weapon = weapons.get(random.nextInt(weapons.size()));
-                        character.addWeapon(weapon);
-                    }
-                }
-                case 5 -> {
-                    // Armor
-                    List<Armor> armors = armorRepository.findAll();
-                    if (!armors.isEmpty()) {
-                        Armor armor = armors.get(random.nextInt(armors.size()));
-                        character.addArmor(armor);
-                    }
-                }
-                case 6 -> {
-                    // High Passage
-                    // This would be handled by game logic
+            switch (LifepathRules.materialBenefit(rollDice(1, 6))) {
+                case INTELLIGENCE -> LifepathRules.improve(character, CharacteristicType.INTELLIGENCE);
+                case EDUCATION -> LifepathRules.improve(character, CharacteristicType.EDUCATION);
+                case WEAPON -> referenceDataCatalog.current().randomWeapon(diceService.current().split())
+                        .ifPresent(weapon -> LifepathRules.equip(character, weapon));
+                case ARMOR -> referenceDataCatalog.current().randomArmor(diceService.current().split())
+                        .ifPresent(armor -> LifepathRules.equip(character, armor));
+                default -> {
+                    // Passages are handled by game logic
                 }
             }
         }
 
-        // Update background
-        String background = character.getBackground();
-        if (background == null) {
-            background = "";
-        }
-        background += "Mustered out of the " + career.getName() + " after " + terms + " terms. ";
-        character.setBackground(background);
-
         return characterRepository.save(character);
     }
 
+    /**
+     * Mutation to generate complete characters in bulk.
+     * Each character runs the whole lifepath in memory and all of them are saved in one batched transaction.
+     * The characters are returned in name order with the same cursors as {@code characters}.
+     */
+    @MutationMapping
+    public CharacterConnection generateCharacters(@Argument int count, @Argument GenerateCharactersInput options) {
+        GenerateCharactersInput input = options != null ? options : new GenerateCharactersInput();
+        List<Character> characters = characterGenerator.generate(count, new CharacterGenerator.Options(
+                input.getNamePrefix(), input.getRaceId(), input.getHomeworldId(), input.getCareerId(),
+                input.getTerms()));
+        return ConnectionUtil.createKeysetConnection(characters, Character::getName, Character::getId,
+                new CharacterConnectionFactory());
+    }
+
     /**
      * Mutation to add a weapon to a character.
      */
@@ -527,7 +415,7 @@ public class CharacterResolver {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found"));
 
-        Weapon weapon = weaponRepository.findById(weaponId)
+        Weapon weapon = referenceDataCatalog.current().findWeapon(weaponId)
                 .orElseThrow(() -> new IllegalArgumentException("Weapon not found"));
 
         character.addWeapon(weapon);
@@ -543,7 +431,7 @@ public class CharacterResolver {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found"));
 
-        Armor armor = armorRepository.findById(armorId)
+        Armor armor = referenceDataCatalog.current().findArmor(armorId)
                 .orElseThrow(() -> new IllegalArgumentException("Armor not found"));
 
         character.addArmor(armor);
@@ -559,7 +447,7 @@ public class CharacterResolver {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found"));
 
-        Weapon weapon = weaponRepository.findById(weaponId)
+        Weapon weapon = referenceDataCatalog.current().findWeapon(weaponId)
                 .orElseThrow(() -> new IllegalArgumentException("Weapon not found"));
 
         if (!character.equipWeapon(weapon)) {
@@ -577,7 +465,7 @@ public class CharacterResolver {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found"));
 
-        Armor armor = armorRepository.findById(armorId)
+        Armor armor = referenceDataCatalog.current().findArmor(armorId)
                 .orElseThrow(() -> new IllegalArgumentException("Armor not found"));
 
         if (!character.equipArmor(armor)) {
@@ -588,18 +476,14 @@ public class CharacterResolver {
     }
 
     /**
-     * Helper method to roll dice.
+     * Helper method to roll dice with the dice of the current request.
      *
      * @param count Number of dice to roll
      * @param sides Number of sides on each die
      * @return The sum of the dice rolls
      */
     private int rollDice(int count, int sides) {
-        int sum = 0;
-        for (int i = 0; i < count; i++) {
-            sum += random.nextInt(sides) + 1;
-        }
-        return sum;
+        return diceService.current().roll(count, sides);
     }
 
     /**
@@ -745,4 +629,55 @@ public class CharacterResolver {
             this.background = background;
         }
     }
+
+    /**
+     * Input class for bulk character generation.
+     */
+    public static class GenerateCharactersInput {
+        private String namePrefix;
+        private Long raceId;
+        private Long homeworldId;
+        private Long careerId;
+        private Integer terms;
+
+        public String getNamePrefix() {
+            return namePrefix;
+        }
+
+        public void setNamePrefix(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        public Long getRaceId() {
+            return raceId;
+        }
+
+        public void setRaceId(Long raceId) {
+            this.raceId = raceId;
+        }
+
+        public Long getHomeworldId() {
+            return homeworldId;
+        }
+
+        public void setHomeworldId(Long homeworldId) {
+            this.homeworldId = homeworldId;
+        }
+
+        public Long getCareerId() {
+            return careerId;
+        }
+
+        public void setCareerId(Long careerId) {
+            this.careerId = careerId;
+        }
+
+        public Integer getTerms() {
+            return terms;
+        }
+
+        public void setTerms(Integer terms) {
+            this.terms = terms;
+        }
+    }
 }
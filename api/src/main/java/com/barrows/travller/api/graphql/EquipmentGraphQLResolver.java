@@ -0,0 +1,207 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.catalog.ReferenceDataCatalog;
+import com.barrows.travller.api.dice.DamageDistribution;
+import com.barrows.travller.api.dice.DamageRolls;
+import com.barrows.travller.api.dice.DiceExpression;
+import com.barrows.travller.api.dice.DiceService;
+import com.barrows.travller.api.graphql.relay.ConnectionCounter;
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.KeysetQuery;
+import com.barrows.travller.api.graphql.relay.armor.ArmorConnection;
+import com.barrows.travller.api.graphql.relay.armor.ArmorConnectionFactory;
+import com.barrows.travller.api.graphql.relay.spaceship.SpaceshipConnection;
+import com.barrows.travller.api.graphql.relay.spaceship.SpaceshipConnectionFactory;
+import com.barrows.travller.api.graphql.relay.vehicle.VehicleConnection;
+import com.barrows.travller.api.graphql.relay.vehicle.VehicleConnectionFactory;
+import com.barrows.travller.api.graphql.relay.weapon.WeaponConnection;
+import com.barrows.travller.api.graphql.relay.weapon.WeaponConnectionFactory;
+import com.barrows.travller.api.model.Armor;
+import com.barrows.travller.api.model.Spaceship;
+import com.barrows.travller.api.model.Vehicle;
+import com.barrows.travller.api.model.Weapon;
+import com.barrows.travller.api.repository.ArmorRepository;
+import com.barrows.travller.api.repository.SpaceshipRepository;
+import com.barrows.travller.api.repository.VehicleRepository;
+import com.barrows.travller.api.repository.WeaponRepository;
+import com.barrows.travller.api.tenant.TenantService;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * GraphQL resolver for equipment queries (weapons, armor, vehicles and spaceships).
+ */
+@Controller
+public class EquipmentGraphQLResolver {
+
+    private final WeaponRepository weaponRepository;
+    private final ArmorRepository armorRepository;
+    private final VehicleRepository vehicleRepository;
+    private final SpaceshipRepository spaceshipRepository;
+    private final ConnectionCounter connectionCounter;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final DiceService diceService;
+    private final TenantService tenantService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxDamageRolls;
+
+    public EquipmentGraphQLResolver(WeaponRepository weaponRepository,
+                                    ArmorRepository armorRepository,
+                                    VehicleRepository vehicleRepository,
+                                    SpaceshipRepository spaceshipRepository,
+                                    ConnectionCounter connectionCounter,
+                                    ReferenceDataCatalog referenceDataCatalog,
+                                    DiceService diceService,
+                                    TenantService tenantService,
+                                    JdbcTemplate jdbcTemplate,
+                                    @Value("${travller.dice.max-damage-rolls:1000}") int maxDamageRolls) {
+        this.weaponRepository = weaponRepository;
+        this.armorRepository = armorRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.spaceshipRepository = spaceshipRepository;
+        this.connectionCounter = connectionCounter;
+        this.referenceDataCatalog = referenceDataCatalog;
+        this.diceService = diceService;
+        this.tenantService = tenantService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxDamageRolls = maxDamageRolls;
+    }
+
+    /**
+     * Query to get a weapon by ID.
+     */
+    @QueryMapping
+    public Weapon weapon(@Argument Long id) {
+        return weaponRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * Query to get a page of the current tenant's weapons, ordered by name.
+     */
+    @QueryMapping
+    public WeaponConnection weapons(@Argument Integer first, @Argument String after,
+                                    @Argument Integer last, @Argument String before,
+                                    DataFetchingFieldSelectionSet selectionSet) {
+        KeysetQuery<Weapon> query = KeysetQuery.ofTenantTable(jdbcTemplate, weaponRepository, Weapon.class,
+                Weapon::getId, tenantService.getCurrentTenantId());
+        return ConnectionUtil.createKeysetConnection(query, Weapon::getName, Weapon::getId, first, after, last, before,
+                connectionCounter.totalCount(query, selectionSet), new WeaponConnectionFactory());
+    }
+
+    /**
+     * The damage of a weapon, as its dice formula.
+     */
+    @SchemaMapping(typeName = "Weapon", field = "damage")
+    public String damage(Weapon weapon) {
+        return weapon.getDamageFormula();
+    }
+
+    /**
+     * Query to roll the damage of a weapon a number of times.
+     * All rolls share one generator split from the request's dice and one scratch array, so the batch is
+     * reproducible from the request seed and rolling allocates nothing beyond the results.
+     */
+    @QueryMapping
+    public DamageRolls rollDamage(@Argument Long weaponId, @Argument int count, @Argument Integer boons) {
+        if (count < 1 || count > maxDamageRolls) {
+            throw new IllegalArgumentException("count must be between 1 and " + maxDamageRolls);
+        }
+        Weapon weapon = findWeapon(weaponId);
+        DiceExpression expression = diceService.expression(weapon.getDamageFormula());
+        int boonCount = boons != null ? boons : 0;
+        RandomGenerator random = diceService.current().split();
+        int[] scratch = new int[expression.scratchSize(boonCount)];
+        List<Integer> rolls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rolls.add(expression.roll(random, boonCount, scratch));
+        }
+        return new DamageRolls(weapon, expression.getFormula(), boonCount, rolls);
+    }
+
+    /**
+     * Query to get the exact probability of every damage total of a weapon.
+     */
+    @QueryMapping
+    public DamageDistribution damageDistribution(@Argument Long weaponId, @Argument Integer boons) {
+        Weapon weapon = findWeapon(weaponId);
+        return DamageDistribution.of(weapon, diceService.expression(weapon.getDamageFormula()),
+                boons != null ? boons : 0);
+    }
+
+    /**
+     * Query to get armor by ID.
+     */
+    @QueryMapping
+    public Armor armor(@Argument Long id) {
+        return armorRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * Query to get a page of the current tenant's armor, ordered by name.
+     */
+    @QueryMapping
+    public ArmorConnection armors(@Argument Integer first, @Argument String after,
+                                  @Argument Integer last, @Argument String before,
+                                  DataFetchingFieldSelectionSet selectionSet) {
+        KeysetQuery<Armor> query = KeysetQuery.ofTenantTable(jdbcTemplate, armorRepository, Armor.class,
+                Armor::getId, tenantService.getCurrentTenantId());
+        return ConnectionUtil.createKeysetConnection(query, Armor::getName, Armor::getId, first, after, last, before,
+                connectionCounter.totalCount(query, selectionSet), new ArmorConnectionFactory());
+    }
+
+    /**
+     * Query to get a vehicle by ID.
+     */
+    @QueryMapping
+    public Vehicle vehicle(@Argument Long id) {
+        return vehicleRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * Query to get a page of the current tenant's vehicles, ordered by name.
+     */
+    @QueryMapping
+    public VehicleConnection vehicles(@Argument Integer first, @Argument String after,
+                                      @Argument Integer last, @Argument String before,
+                                      DataFetchingFieldSelectionSet selectionSet) {
+        KeysetQuery<Vehicle> query = KeysetQuery.ofTenantTable(jdbcTemplate, vehicleRepository, Vehicle.class,
+                Vehicle::getId, tenantService.getCurrentTenantId());
+        return ConnectionUtil.createKeysetConnection(query, Vehicle::getName, Vehicle::getId, first, after, last, before,
+                connectionCounter.totalCount(query, selectionSet), new VehicleConnectionFactory());
+    }
+
+    /**
+     * Query to get a spaceship by ID.
+     */
+    @QueryMapping
+    public Spaceship spaceship(@Argument Long id) {
+        return spaceshipRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * Query to get a page of the current tenant's spaceships, ordered by name.
+     */
+    @QueryMapping
+    public SpaceshipConnection spaceships(@Argument Integer first, @Argument String after,
+                                          @Argument Integer last, @Argument String before,
+                                          DataFetchingFieldSelectionSet selectionSet) {
+        KeysetQuery<Spaceship> query = KeysetQuery.ofTenantTable(jdbcTemplate, spaceshipRepository, Spaceship.class,
+                Spaceship::getId, tenantService.getCurrentTenantId());
+        return ConnectionUtil.createKeysetConnection(query, Spaceship::getName, Spaceship::getId, first, after, last, before,
+                connectionCounter.totalCount(query, selectionSet), new SpaceshipConnectionFactory());
+    }
+
+    private Weapon findWeapon(Long weaponId) {
+        return referenceDataCatalog.current().findWeapon(weaponId)
+                .orElseThrow(() -> new IllegalArgumentException("Weapon not found"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.graphql.relay.search.SearchResultConnection;
+import com.barrows.travller.api.graphql.relay.search.SearchResultEdge;
+import com.barrows.travller.api.search.SearchHit;
+import com.barrows.travller.api.search.SearchService;
+import com.barrows.travller.api.search.SearchType;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GraphQL resolver for the unified name search.
+ */
+@Controller
+public class SearchGraphQLResolver {
+
+    private final SearchService searchService;
+
+    public SearchGraphQLResolver(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Query to search worlds, characters, careers and spaceships by name, best match first.
+     */
+    @QueryMapping
+    public SearchResultConnection search(@Argument String term, @Argument List<SearchType> types,
+                                         @Argument Integer first, @Argument String after) {
+        int limit = first != null ? first : ConnectionUtil.DEFAULT_PAGE_SIZE;
+        if (limit < 0) {
+            throw new IllegalArgumentException("first must not be negative");
+        }
+
+        // Fetch one extra hit to find out whether there is a next page
+        List<SearchHit> hits = searchService.search(term, types, limit + 1, after);
+        boolean hasNextPage = hits.size() > limit;
+        if (hasNextPage) {
+            hits = hits.subList(0, limit);
+        }
+
+        List<Object> nodes = searchService.load(hits);
+        List<SearchResultEdge> edges = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            SearchHit hit = hits.get(i);
+            edges.add(new SearchResultEdge(nodes.get(i), searchService.cursor(hit), hit.getScore()));
+        }
+
+        String startCursor = edges.isEmpty() ? null : edges.get(0).getCursor();
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        PageInfo pageInfo = new PageInfo(hasNextPage, after != null, startCursor, endCursor);
+        return new SearchResultConnection(pageInfo, edges, nodes);
+    }
+}
@@ -1,12 +1,21 @@
 package com.barrows.travller.api.graphql;
 
+import com.barrows.travller.api.catalog.ReferenceDataCatalog;
+import com.barrows.travller.api.graphql.relay.ConnectionCounter;
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.KeysetQuery;
+import com.barrows.travller.api.graphql.relay.skill.SkillConnection;
+import com.barrows.travller.api.graphql.relay.skill.SkillConnectionFactory;
 import com.barrows.travller.api.model.CharacteristicType;
 import com.barrows.travller.api.model.Skill;
 import com.barrows.travller.api.model.SkillCategory;
 import com.barrows.travller.api.repository.SkillRepository;
+import com.barrows.travller.api.tenant.TenantService;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
@@ -18,9 +27,19 @@ import java.util.List;
 public class SkillGraphQLResolver {
 
     private final SkillRepository skillRepository;
-
-    public SkillGraphQLResolver(SkillRepository skillRepository) {
+    private final ConnectionCounter connectionCounter;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final TenantService tenantService;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SkillGraphQLResolver(SkillRepository skillRepository, ConnectionCounter connectionCounter,
+                                ReferenceDataCatalog referenceDataCatalog, TenantService tenantService,
+                                JdbcTemplate jdbcTemplate) {
         this.skillRepository = skillRepository;
+        this.connectionCounter = connectionCounter;
+        this.referenceDataCatalog = referenceDataCatalog;
+        this.tenantService = tenantService;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     /**
@@ -32,11 +51,16 @@ public class SkillGraphQLResolver {
     }
 
     /**
-     * Query to get all skills.
+     * Query to get a page of the current tenant's skills, ordered by name.
      */
     @QueryMapping
-    public List<Skill> skills() {
-        return skillRepository.findAll();
+    public SkillConnection skills(@Argument Integer first, @Argument String after,
+                                  @Argument Integer last, @Argument String before,
+                                  DataFetchingFieldSelectionSet selectionSet) {
+        KeysetQuery<Skill> query = KeysetQuery.ofTenantTable(jdbcTemplate, skillRepository, Skill.class,
+                Skill::getId, tenantService.getCurrentTenantId());
+        return ConnectionUtil.createKeysetConnection(query, Skill::getName, Skill::getId, first, after, last, before,
+                connectionCounter.totalCount(query, selectionSet), new SkillConnectionFactory());
     }
 
     /**
@@ -67,7 +91,9 @@ public class SkillGraphQLResolver {
             input.getPrimaryCharacteristic()
         );
 
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        referenceDataCatalog.invalidate(Skill.class);
+        return saved;
     }
 
     /**
@@ -83,7 +109,9 @@ public class SkillGraphQLResolver {
         skill.setLevel(input.getLevel());
         skill.setPrimaryCharacteristic(input.getPrimaryCharacteristic());
 
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        referenceDataCatalog.invalidate(Skill.class);
+        return saved;
     }
 
     /**
@@ -93,6 +121,7 @@ public class SkillGraphQLResolver {
     public boolean deleteSkill(@Argument Long id) {
         if (skillRepository.existsById(id)) {
             skillRepository.deleteById(id);
+            referenceDataCatalog.invalidate(Skill.class);
             return true;
         }
         return false;
@@ -2,6 +2,8 @@ package com.barrows.travller.api.graphql;
 
 import com.barrows.travller.api.model.Tenant;
 import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantLookup;
+import com.barrows.travller.api.tenant.TenantSchemaRouting;
 import com.barrows.travller.api.tenant.TenantService;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
@@ -18,10 +20,15 @@ public class TenantResolver {
 
     private final TenantRepository tenantRepository;
     private final TenantService tenantService;
+    private final TenantLookup tenantLookup;
+    private final TenantSchemaRouting tenantSchemaRouting;
 
-    public TenantResolver(TenantRepository tenantRepository, TenantService tenantService) {
+    public TenantResolver(TenantRepository tenantRepository, TenantService tenantService, TenantLookup tenantLookup,
+                          TenantSchemaRouting tenantSchemaRouting) {
         this.tenantRepository = tenantRepository;
         this.tenantService = tenantService;
+        this.tenantLookup = tenantLookup;
+        this.tenantSchemaRouting = tenantSchemaRouting;
     }
 
     /**
@@ -54,11 +61,17 @@ public class TenantResolver {
     @MutationMapping
     public Tenant createTenant(@Argument TenantInput input) {
         Tenant tenant = new Tenant(input.getName(), input.getDescription());
-        return tenantRepository.save(tenant);
+        tenant.setSchemaName(schemaName(input));
+        Tenant saved = tenantRepository.save(tenant);
+        provisionSchema(saved);
+        tenantLookup.evict(saved.getName());
+        return saved;
     }
 
     /**
      * Mutation to update an existing tenant.
+     * A tenant in the shared schema can only be given its own schema while it has no rows in the shared tables,
+     * since those rows are not moved.
      */
     @MutationMapping
     public Tenant updateTenant(@Argument Long id, @Argument TenantInput input) {
@@ -67,8 +80,42 @@ public class TenantResolver {
 
         tenant.setName(input.getName());
         tenant.setDescription(input.getDescription());
+        String schemaName = schemaName(input);
+        if (schemaName != null) {
+            if (tenant.getSchemaName() != null && !tenant.getSchemaName().equals(schemaName)) {
+                throw new IllegalArgumentException("Tenant already has schema " + tenant.getSchemaName());
+            }
+            if (tenant.getSchemaName() == null && tenantSchemaRouting.hasSharedRows(tenant.getId())) {
+                throw new IllegalArgumentException("Tenant has data in the shared schema and cannot be moved to "
+                        + schemaName);
+            }
+            tenant.setSchemaName(schemaName);
+        }
+
+        Tenant saved = tenantRepository.save(tenant);
+        provisionSchema(saved);
+        tenantLookup.evict(saved.getId());
+        tenantLookup.evict(saved.getName());
+        return saved;
+    }
+
+    private String schemaName(TenantInput input) {
+        if (input.getSchemaName() == null) {
+            return null;
+        }
+        if (!tenantSchemaRouting.isEnabled()) {
+            throw new IllegalArgumentException("Schema-per-tenant routing is disabled");
+        }
+        return TenantSchemaRouting.validateSchemaName(input.getSchemaName());
+    }
 
-        return tenantRepository.save(tenant);
+    /**
+     * Create or upgrade the tenant's dedicated schema. Migrating an up-to-date schema is a no-op.
+     */
+    private void provisionSchema(Tenant tenant) {
+        if (tenant.getSchemaName() != null && tenantSchemaRouting.isEnabled()) {
+            tenantSchemaRouting.provision(tenant.getId(), tenant.getSchemaName());
+        }
     }
 
     /**
@@ -77,6 +124,7 @@ public class TenantResolver {
     public static class TenantInput {
         private String name;
         private String description;
+        private String schemaName;
 
         public String getName() {
             return name;
@@ -93,5 +141,13 @@ public class TenantResolver {
         public void setDescription(String description) {
             this.description = description;
         }
+
+        public String getSchemaName() {
+            return schemaName;
+        }
+
+        public void setSchemaName(String schemaName) {
+            this.schemaName = schemaName;
+        }
     }
 }
@@ -1,9 +1,16 @@
 package com.barrows.travller.api.graphql;
 
+import com.barrows.travller.api.graphql.relay.ConnectionCounter;
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.KeysetQuery;
+import com.barrows.travller.api.graphql.relay.world.WorldConnection;
+import com.barrows.travller.api.graphql.relay.world.WorldConnectionFactory;
 import com.barrows.travller.api.model.TravelZone;
 import com.barrows.travller.api.model.World;
 import com.barrows.travller.api.model.WorldType;
 import com.barrows.travller.api.repository.WorldRepository;
+import com.barrows.travller.api.tenant.TenantService;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -18,9 +25,14 @@ import java.util.List;
 public class WorldGraphQLResolver {
 
     private final WorldRepository worldRepository;
+    private final ConnectionCounter connectionCounter;
+    private final TenantService tenantService;
 
-    public WorldGraphQLResolver(WorldRepository worldRepository) {
+    public WorldGraphQLResolver(WorldRepository worldRepository, ConnectionCounter connectionCounter,
+                                TenantService tenantService) {
         this.worldRepository = worldRepository;
+        this.connectionCounter = connectionCounter;
+        this.tenantService = tenantService;
     }
 
     /**
@@ -32,11 +44,16 @@ public class WorldGraphQLResolver {
     }
 
     /**
-     * Query to get all worlds.
+     * Query to get a page of worlds for the current tenant, ordered by name.
      */
     @QueryMapping
-    public List<World> worlds() {
-        return worldRepository.findAll();
+    public WorldConnection worlds(@Argument Integer first, @Argument String after,
+                                  @Argument Integer last, @Argument String before,
+                                  DataFetchingFieldSelectionSet selectionSet) {
+        Long tenantId = tenantService.getCurrentTenantId();
+        KeysetQuery<World> query = KeysetQuery.ofTenant(worldRepository, World.class, tenantId);
+        return ConnectionUtil.createKeysetConnection(query, World::getName, World::getId, first, after, last, before,
+                connectionCounter.totalCount(query, selectionSet), new WorldConnectionFactory());
     }
 
     /**
@@ -99,6 +116,9 @@ public class WorldGraphQLResolver {
         world.setTravelZone(input.getTravelZone());
         world.setCulturalDetails(input.getCulturalDetails());
 
+        // Set the tenant in the new world
+        tenantService.setTenant(world);
+
         return worldRepository.save(world);
     }
 
@@ -0,0 +1,82 @@
+package com.barrows.travller.api.graphql.batch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Utility class for turning the rows of a batched association query back into per-owner results.
+ * Batched queries return rows of [owner ID, associated entity]; the methods here line those rows
+ * up with the owners passed to a {@code @BatchMapping} method, preserving the order of the owners.
+ */
+public final class BatchResults {
+
+    private BatchResults() {
+    }
+
+    /**
+     * Collect the IDs of the owners of a batch.
+     *
+     * @param owners The owners
+     * @param idFunction Function extracting the ID of an owner
+     * @param <T> The owner type
+     * @return The owner IDs, in the same order as the owners
+     */
+    public static <T> List<Long> ids(List<T> owners, Function<T, Long> idFunction) {
+        List<Long> ids = new ArrayList<>(owners.size());
+        for (T owner : owners) {
+            ids.add(idFunction.apply(owner));
+        }
+        return ids;
+    }
+
+    /**
+     * Match a to-one association to its owners.
+     *
+     * @param owners The owners
+     * @param idFunction Function extracting the ID of an owner
+     * @param rows The rows of [owner ID, associated entity]
+     * @param <T> The owner type
+     * @param <V> The associated entity type
+     * @return The associated entity for each owner (or null), in the same order as the owners
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> List<V> single(List<T> owners, Function<T, Long> idFunction, List<Object[]> rows) {
+        Map<Long, V> byOwner = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            byOwner.put((Long) row[0], (V) row[1]);
+        }
+
+        List<V> result = new ArrayList<>(owners.size());
+        for (T owner : owners) {
+            result.add(byOwner.get(idFunction.apply(owner)));
+        }
+        return result;
+    }
+
+    /**
+     * Match a to-many association to its owners.
+     *
+     * @param owners The owners
+     * @param idFunction Function extracting the ID of an owner
+     * @param rows The rows of [owner ID, associated entity]
+     * @param <T> The owner type
+     * @param <V> The associated entity type
+     * @return The associated entities for each owner (never null), in the same order as the owners
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> List<List<V>> many(List<T> owners, Function<T, Long> idFunction, List<Object[]> rows) {
+        Map<Long, List<V>> byOwner = new HashMap<>(owners.size() * 2);
+        for (Object[] row : rows) {
+            byOwner.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((V) row[1]);
+        }
+
+        List<List<V>> result = new ArrayList<>(owners.size());
+        for (T owner : owners) {
+            result.add(byOwner.getOrDefault(idFunction.apply(owner), List.of()));
+        }
+        return result;
+    }
+}
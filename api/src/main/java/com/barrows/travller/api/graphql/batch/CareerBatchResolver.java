@@ -0,0 +1,100 @@
+package com.barrows.travller.api.graphql.batch;
+
+import com.barrows.travller.api.model.*;
+import com.barrows.travller.api.repository.CareerRepository;
+import com.barrows.travller.api.repository.CareerTermRepository;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batched GraphQL resolvers for the associations of Career, CareerTerm, Rank and SkillTable.
+ * Each association is loaded for every owner in the GraphQL request with a single query.
+ */
+@Controller
+public class CareerBatchResolver {
+
+    private final CareerRepository careerRepository;
+    private final CareerTermRepository careerTermRepository;
+
+    public CareerBatchResolver(CareerRepository careerRepository, CareerTermRepository careerTermRepository) {
+        this.careerRepository = careerRepository;
+        this.careerTermRepository = careerTermRepository;
+    }
+
+    /**
+     * Batch load the skill tables (service and advanced education) of each career.
+     */
+    @BatchMapping(typeName = "Career")
+    public List<List<SkillTable>> skillTables(List<Career> careers) {
+        List<Long> ids = BatchResults.ids(careers, Career::getId);
+        List<List<SkillTable>> service = BatchResults.many(careers, Career::getId,
+                careerRepository.findServiceSkillTablesByCareerIds(ids));
+        List<List<SkillTable>> advanced = BatchResults.many(careers, Career::getId,
+                careerRepository.findAdvancedEducationSkillTablesByCareerIds(ids));
+
+        List<List<SkillTable>> result = new ArrayList<>(careers.size());
+        for (int i = 0; i < careers.size(); i++) {
+            List<SkillTable> tables = new ArrayList<>(service.get(i));
+            tables.addAll(advanced.get(i));
+            result.add(tables);
+        }
+        return result;
+    }
+
+    /**
+     * Batch load the mustering out benefit tables of each career.
+     */
+    @BatchMapping(typeName = "Career")
+    public List<List<BenefitTable>> benefitTables(List<Career> careers) {
+        List<Long> ids = BatchResults.ids(careers, Career::getId);
+        return BatchResults.many(careers, Career::getId, careerRepository.findBenefitTablesByCareerIds(ids));
+    }
+
+    /**
+     * Batch load the ranks of each career.
+     */
+    @BatchMapping(typeName = "Career")
+    public List<List<Rank>> ranks(List<Career> careers) {
+        List<Long> ids = BatchResults.ids(careers, Career::getId);
+        return BatchResults.many(careers, Career::getId, careerRepository.findRanksByCareerIds(ids));
+    }
+
+    /**
+     * Batch load the career of each career term.
+     */
+    @BatchMapping(typeName = "CareerTerm")
+    public List<Career> career(List<CareerTerm> careerTerms) {
+        List<Long> ids = BatchResults.ids(careerTerms, CareerTerm::getId);
+        return BatchResults.single(careerTerms, CareerTerm::getId, careerTermRepository.findCareersByCareerTermIds(ids));
+    }
+
+    /**
+     * Batch load the skills gained in each career term.
+     */
+    @BatchMapping(typeName = "CareerTerm", field = "skills")
+    public List<List<Skill>> careerTermSkills(List<CareerTerm> careerTerms) {
+        List<Long> ids = BatchResults.ids(careerTerms, CareerTerm::getId);
+        return BatchResults.many(careerTerms, CareerTerm::getId, careerTermRepository.findSkillsByCareerTermIds(ids));
+    }
+
+    /**
+     * Batch load the skill gained at each rank.
+     */
+    @BatchMapping(typeName = "Rank", field = "skills")
+    public List<List<Skill>> rankSkills(List<Rank> ranks) {
+        List<Long> ids = BatchResults.ids(ranks, Rank::getId);
+        return BatchResults.many(ranks, Rank::getId, careerRepository.findSkillsByRankIds(ids));
+    }
+
+    /**
+     * Batch load the skill of each skill table entry.
+     */
+    @BatchMapping(typeName = "SkillTable", field = "skills")
+    public List<List<Skill>> skillTableSkills(List<SkillTable> skillTables) {
+        List<Long> ids = BatchResults.ids(skillTables, SkillTable::getId);
+        return BatchResults.many(skillTables, SkillTable::getId, careerRepository.findSkillsBySkillTableIds(ids));
+    }
+}
@@ -0,0 +1,134 @@
+package com.barrows.travller.api.graphql.batch;
+
+import com.barrows.travller.api.catalog.ReferenceData;
+import com.barrows.travller.api.catalog.ReferenceDataCatalog;
+import com.barrows.travller.api.lifepath.LifepathNarrative;
+import com.barrows.travller.api.model.*;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.repository.CharacterRepository;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batched GraphQL resolvers for the associations of Character.
+ * Each association is loaded for every character in the GraphQL request with a single query,
+ * instead of one lazy load per character.
+ */
+@Controller
+public class CharacterBatchResolver {
+
+    private final CharacterRepository characterRepository;
+    private final ReferenceDataCatalog referenceDataCatalog;
+
+    public CharacterBatchResolver(CharacterRepository characterRepository, ReferenceDataCatalog referenceDataCatalog) {
+        this.characterRepository = characterRepository;
+        this.referenceDataCatalog = referenceDataCatalog;
+    }
+
+    /**
+     * Batch load the race of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<Race> race(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.single(characters, Character::getId, characterRepository.findRacesByCharacterIds(ids));
+    }
+
+    /**
+     * Batch load the homeworld of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<Homeworld> homeworld(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.single(characters, Character::getId, characterRepository.findHomeworldsByCharacterIds(ids));
+    }
+
+    /**
+     * Batch load the equipped weapon of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<Weapon> equippedWeapon(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.single(characters, Character::getId, characterRepository.findEquippedWeaponsByCharacterIds(ids));
+    }
+
+    /**
+     * Batch load the equipped armor of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<Armor> equippedArmor(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.single(characters, Character::getId, characterRepository.findEquippedArmorByCharacterIds(ids));
+    }
+
+    /**
+     * Batch load the characteristics of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<List<Characteristic>> characteristics(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.many(characters, Character::getId, characterRepository.findCharacteristicsByCharacterIds(ids));
+    }
+
+    /**
+     * Batch load the skills of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<List<Skill>> skills(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.many(characters, Character::getId, characterRepository.findSkillsByCharacterIds(ids));
+    }
+
+    /**
+     * Batch load the career history of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<List<CareerTerm>> careerHistory(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.many(characters, Character::getId, characterRepository.findCareerTermsByCharacterIds(ids));
+    }
+
+    /**
+     * Write the lifepath of each character from their batch loaded homeworld and career history.
+     * The text is only generated when the field is requested.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<String> lifepath(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        List<Homeworld> homeworlds = BatchResults.single(characters, Character::getId,
+                characterRepository.findHomeworldsByCharacterIds(ids));
+        List<List<CareerTerm>> histories = BatchResults.many(characters, Character::getId,
+                characterRepository.findCareerTermsByCharacterIds(ids));
+        ReferenceData referenceData = referenceDataCatalog.current();
+
+        List<String> lifepaths = new ArrayList<>(characters.size());
+        for (int i = 0; i < characters.size(); i++) {
+            Character character = characters.get(i);
+            Career currentCareer = character.getCurrentCareerId() == null ? null
+                    : referenceData.findCareer(character.getCurrentCareerId()).orElse(null);
+            lifepaths.add(LifepathNarrative.lifepath(character, homeworlds.get(i), histories.get(i), currentCareer));
+        }
+        return lifepaths;
+    }
+
+    /**
+     * Batch load the weapons of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<List<Weapon>> weapons(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.many(characters, Character::getId, characterRepository.findWeaponsByCharacterIds(ids));
+    }
+
+    /**
+     * Batch load the armor of each character.
+     */
+    @BatchMapping(typeName = "Character")
+    public List<List<Armor>> armor(List<Character> characters) {
+        List<Long> ids = BatchResults.ids(characters, Character::getId);
+        return BatchResults.many(characters, Character::getId, characterRepository.findArmorByCharacterIds(ids));
+    }
+}
@@ -0,0 +1,36 @@
+package com.barrows.travller.api.graphql.batch;
+
+import org.dataloader.CacheKey;
+
+/**
+ * DataLoader cache key that identifies entities by object identity.
+ * The default DataLoader cache keys on the entity itself, which calls the Lombok generated
+ * equals/hashCode and walks every lazy association of the entity - the very loads the batched
+ * resolvers exist to avoid. Within one request the persistence context hands out a single
+ * instance per row, so identity is a correct and cheap key.
+ */
+public class EntityIdentityCacheKey implements CacheKey<Object> {
+
+    @Override
+    public Object getKey(Object input) {
+        return new IdentityKey(input);
+    }
+
+    private static final class IdentityKey {
+        private final Object value;
+
+        private IdentityKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey key && key.value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+}
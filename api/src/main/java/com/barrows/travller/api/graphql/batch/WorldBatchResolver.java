@@ -0,0 +1,66 @@
+package com.barrows.travller.api.graphql.batch;
+
+import com.barrows.travller.api.model.*;
+import com.barrows.travller.api.repository.HomeworldRepository;
+import com.barrows.travller.api.repository.SubsectorRepository;
+import com.barrows.travller.api.repository.WorldRepository;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+
+/**
+ * Batched GraphQL resolvers for the associations of Homeworld, Sector and Subsector.
+ * Each association is loaded for every owner in the GraphQL request with a single query.
+ */
+@Controller
+public class WorldBatchResolver {
+
+    private final HomeworldRepository homeworldRepository;
+    private final SubsectorRepository subsectorRepository;
+    private final WorldRepository worldRepository;
+
+    public WorldBatchResolver(HomeworldRepository homeworldRepository,
+                              SubsectorRepository subsectorRepository,
+                              WorldRepository worldRepository) {
+        this.homeworldRepository = homeworldRepository;
+        this.subsectorRepository = subsectorRepository;
+        this.worldRepository = worldRepository;
+    }
+
+    /**
+     * Batch load the common skills of each homeworld.
+     */
+    @BatchMapping(typeName = "Homeworld", field = "skills")
+    public List<List<Skill>> homeworldSkills(List<Homeworld> homeworlds) {
+        List<Long> ids = BatchResults.ids(homeworlds, Homeworld::getId);
+        return BatchResults.many(homeworlds, Homeworld::getId, homeworldRepository.findCommonSkillsByHomeworldIds(ids));
+    }
+
+    /**
+     * Batch load the world of each homeworld.
+     */
+    @BatchMapping(typeName = "Homeworld")
+    public List<World> world(List<Homeworld> homeworlds) {
+        List<Long> ids = BatchResults.ids(homeworlds, Homeworld::getId);
+        return BatchResults.single(homeworlds, Homeworld::getId, worldRepository.findByHomeworldIds(ids));
+    }
+
+    /**
+     * Batch load the subsectors of each sector.
+     */
+    @BatchMapping(typeName = "Sector")
+    public List<List<Subsector>> subsectors(List<Sector> sectors) {
+        List<Long> ids = BatchResults.ids(sectors, Sector::getId);
+        return BatchResults.many(sectors, Sector::getId, subsectorRepository.findBySectorIds(ids));
+    }
+
+    /**
+     * Batch load the worlds of each subsector.
+     */
+    @BatchMapping(typeName = "Subsector")
+    public List<List<World>> worlds(List<Subsector> subsectors) {
+        List<Long> ids = BatchResults.ids(subsectors, Subsector::getId);
+        return BatchResults.many(subsectors, Subsector::getId, worldRepository.findBySubsectorIds(ids));
+    }
+}
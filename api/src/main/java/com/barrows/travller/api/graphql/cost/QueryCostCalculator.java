@@ -0,0 +1,86 @@
+package com.barrows.travller.api.graphql.cost;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLAppliedDirective;
+import graphql.schema.GraphQLAppliedDirectiveArgument;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLTypeUtil;
+
+import java.util.Collection;
+
+/**
+ * Field cost model for the query cost budget.
+ * A field costs its weight plus the cost of its selection, multiplied by the number of items the field
+ * is expected to return: {@code first}, {@code last} or the number of {@code ids} when given, the page size
+ * for other connections, and the declared or default list size for plain lists. The {@code nodes} and
+ * {@code edges} of a connection count once, since the connection field already multiplies by the page size.
+ * Weights and list sizes come from the {@code @cost} directive in the schema. Introspection is free.
+ */
+public class QueryCostCalculator implements FieldComplexityCalculator {
+
+    static final String COST_DIRECTIVE = "cost";
+
+    private final int defaultListSize;
+
+    public QueryCostCalculator(int defaultListSize) {
+        this.defaultListSize = defaultListSize;
+    }
+
+    @Override
+    public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+        GraphQLFieldDefinition field = environment.getFieldDefinition();
+        if (field.getName().startsWith("__")) {
+            return 0;
+        }
+        GraphQLAppliedDirective cost = field.getAppliedDirective(COST_DIRECTIVE);
+        Integer weight = argument(cost, "weight");
+        if (weight == null) {
+            weight = GraphQLTypeUtil.isLeaf(GraphQLTypeUtil.unwrapAll(field.getType())) ? 0 : 1;
+        }
+        long total = weight + (long) multiplier(environment, field.getType(), cost) * childComplexity;
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    private int multiplier(FieldComplexityEnvironment environment, GraphQLOutputType type, GraphQLAppliedDirective cost) {
+        Object first = environment.getArguments().get("first");
+        Object last = environment.getArguments().get("last");
+        Object ids = environment.getArguments().get("ids");
+        if (first instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (last instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (ids instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (isConnectionPage(environment)) {
+            return 1;
+        }
+        if (GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(type))) {
+            Integer listSize = argument(cost, "listSize");
+            return listSize != null ? listSize : defaultListSize;
+        }
+        if (GraphQLTypeUtil.simplePrint(GraphQLTypeUtil.unwrapAll(type)).endsWith("Connection")) {
+            return ConnectionUtil.DEFAULT_PAGE_SIZE;
+        }
+        return 1;
+    }
+
+    private static boolean isConnectionPage(FieldComplexityEnvironment environment) {
+        String name = environment.getField().getName();
+        return (name.equals("nodes") || name.equals("edges"))
+                && environment.getParentType().getName().endsWith("Connection");
+    }
+
+    private static Integer argument(GraphQLAppliedDirective directive, String name) {
+        if (directive == null) {
+            return null;
+        }
+        GraphQLAppliedDirectiveArgument argument = directive.getArgument(name);
+        return argument == null ? null : argument.getValue();
+    }
+}
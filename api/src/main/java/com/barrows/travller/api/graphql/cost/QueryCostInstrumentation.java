@@ -0,0 +1,111 @@
+package com.barrows.travller.api.graphql.cost;
+
+import com.barrows.travller.api.tenant.TenantContext;
+import com.barrows.travller.api.tenant.TenantLookup;
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.analysis.QueryComplexityCalculator;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Rejects operations whose cost exceeds the tenant's budget before any data fetcher runs.
+ * The cost is computed from the parsed operation with {@link QueryCostCalculator}, the same traversal
+ * graphql-java's {@code MaxQueryComplexityInstrumentation} uses, but checked against a budget chosen per tenant.
+ * Every response carries the cost and budget in its {@code cost} extension.
+ */
+@Component
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+    public static final String COST_EXTENSION = "cost";
+
+    private static final String COST_KEY = "travller.queryCost";
+    private static final String BUDGET_KEY = "travller.queryCostBudget";
+
+    private final QueryCostCalculator calculator;
+    private final int defaultBudget;
+    private final Map<String, Integer> tenantBudgets;
+    private final TenantLookup tenantLookup;
+
+    public QueryCostInstrumentation(@Value("${travller.graphql.cost.default-budget:5000}") int defaultBudget,
+                                    @Value("${travller.graphql.cost.list-size:10}") int defaultListSize,
+                                    Environment environment,
+                                    TenantLookup tenantLookup) {
+        this.calculator = new QueryCostCalculator(defaultListSize);
+        this.defaultBudget = defaultBudget;
+        this.tenantBudgets = Binder.get(environment)
+                .bind("travller.graphql.cost.tenant-budgets", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+        this.tenantLookup = tenantLookup;
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        ExecutionContext executionContext = parameters.getExecutionContext();
+        GraphQLContext graphQLContext = executionContext.getGraphQLContext();
+        int cost = QueryComplexityCalculator.newCalculator()
+                .fieldComplexityCalculator(calculator)
+                .schema(executionContext.getGraphQLSchema())
+                .document(executionContext.getDocument())
+                .operationName(executionContext.getExecutionInput().getOperationName())
+                .variables(executionContext.getCoercedVariables())
+                .build()
+                .calculate();
+        int budget = budgetFor(graphQLContext.get(TenantContext.CONTEXT_KEY));
+        graphQLContext.put(COST_KEY, cost);
+        graphQLContext.put(BUDGET_KEY, budget);
+        if (cost > budget) {
+            throw new AbortExecutionException("Query cost " + cost + " exceeds the budget of " + budget);
+        }
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters,
+                                                                        InstrumentationState state) {
+        GraphQLContext graphQLContext = parameters.getGraphQLContext();
+        Integer cost = graphQLContext.get(COST_KEY);
+        if (cost == null) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        Map<String, Object> extension = new LinkedHashMap<>();
+        extension.put("requested", cost);
+        extension.put("budget", graphQLContext.get(BUDGET_KEY));
+        return CompletableFuture.completedFuture(
+                executionResult.transform(builder -> builder.addExtension(COST_EXTENSION, extension)));
+    }
+
+    /**
+     * Get the cost budget of a tenant.
+     * Budgets are configured by tenant name under {@code travller.graphql.cost.tenant-budgets}.
+     *
+     * @param tenantId The tenant ID, may be null
+     * @return The tenant's budget, or the default budget
+     */
+    public int budgetFor(Long tenantId) {
+        if (tenantId != null) {
+            for (Map.Entry<String, Integer> entry : tenantBudgets.entrySet()) {
+                if (tenantId.equals(tenantLookup.findIdByName(entry.getKey()))) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return defaultBudget;
+    }
+}
@@ -0,0 +1,35 @@
+package com.barrows.travller.api.graphql.document;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.tracing.TracingInstrumentation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Apollo tracing that also reports the {@link PreparsedDocumentCache}: the {@code tracing} extension gains
+ * a {@code preparsedDocument} entry saying whether the document came from the cache and, if so, how many
+ * nanoseconds of parsing and validation that saved.
+ */
+public class DocumentCacheTracingInstrumentation extends TracingInstrumentation {
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters,
+                                                                        InstrumentationState state) {
+        Long savedNanos = parameters.getGraphQLContext().get(PreparsedDocumentCache.SAVED_NANOS_KEY);
+        return super.instrumentExecutionResult(executionResult, parameters, state).thenApply(result -> {
+            if (result.getExtensions() == null || !(result.getExtensions().get("tracing") instanceof Map<?, ?> tracing)) {
+                return result;
+            }
+            Map<Object, Object> extended = new LinkedHashMap<>(tracing);
+            extended.put("preparsedDocument", Map.of(
+                    "cached", savedNanos != null,
+                    "savedDuration", savedNanos != null ? savedNanos : 0L));
+            return result.transform(builder -> builder.addExtension("tracing", extended));
+        });
+    }
+}
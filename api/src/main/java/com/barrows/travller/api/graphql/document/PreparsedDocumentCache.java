@@ -0,0 +1,101 @@
+package com.barrows.travller.api.graphql.document;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of parsed and validated GraphQL documents, with support for Automatic Persisted Queries.
+ * A request carrying a {@code persistedQuery} extension is looked up by its SHA-256 hash, so once a client
+ * has registered an operation it only sends the hash and variables. Other requests are looked up by their
+ * query text. Either way a cached operation skips parsing and validation; documents with errors are not cached.
+ * The parse and validation time a hit saved is recorded in the GraphQL context under {@link #SAVED_NANOS_KEY}.
+ */
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+
+    /**
+     * Key of the nanoseconds of parsing and validation saved by a cache hit in the GraphQL context.
+     */
+    public static final String SAVED_NANOS_KEY = "travller.preparsedDocumentSavedNanos";
+
+    private static final String PERSISTED_KEY_PREFIX = "sha256:";
+
+    private final Map<String, CachedDocument> documents;
+    private final ApolloPersistedQuerySupport persistedQuerySupport =
+            new ApolloPersistedQuerySupport(this::getPersistedQueryDocumentAsync);
+
+    public PreparsedDocumentCache(int maxSize) {
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedDocument> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        if (executionInput.getExtensions().containsKey("persistedQuery")) {
+            return persistedQuerySupport.getDocumentAsync(executionInput, parseAndValidateFunction);
+        }
+        return CompletableFuture.completedFuture(get(executionInput.getQuery(), executionInput,
+                () -> parseAndValidateFunction.apply(executionInput)));
+    }
+
+    /**
+     * @return The number of cached documents
+     */
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    private CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+            Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+        String query = executionInput.getQuery();
+        return CompletableFuture.completedFuture(get(PERSISTED_KEY_PREFIX + persistedQueryId, executionInput, () -> {
+            // A hash the server has not seen yet: the client retries with the full query to register it
+            if (query == null || query.isBlank() || query.equals(PersistedQuerySupport.PERSISTED_QUERY_MARKER)) {
+                throw new PersistedQueryNotFound(persistedQueryId);
+            }
+            return onCacheMiss.apply(query);
+        }));
+    }
+
+    private PreparsedDocumentEntry get(String key, ExecutionInput executionInput,
+                                       Supplier<PreparsedDocumentEntry> parseAndValidate) {
+        CachedDocument cached;
+        synchronized (documents) {
+            cached = documents.get(key);
+        }
+        if (cached != null) {
+            executionInput.getGraphQLContext().put(SAVED_NANOS_KEY, cached.parseAndValidateNanos());
+            return cached.entry();
+        }
+
+        // Parse outside the lock; two requests racing on a new document both parse it, which is harmless
+        long start = System.nanoTime();
+        PreparsedDocumentEntry entry = parseAndValidate.get();
+        if (!entry.hasErrors()) {
+            synchronized (documents) {
+                documents.put(key, new CachedDocument(entry, System.nanoTime() - start));
+            }
+        }
+        return entry;
+    }
+
+    private record CachedDocument(PreparsedDocumentEntry entry, long parseAndValidateNanos) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.barrows.travller.api.graphql.relay;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import jakarta.persistence.Table;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Computes the {@code totalCount} of a connection.
+ * The count query is skipped entirely when the client did not select {@code totalCount}.
+ * In {@link Mode#APPROXIMATE} mode, large tables are counted from the planner statistics in
+ * {@code pg_class.reltuples}, and tenant-scoped counts are cached per tenant for a short time.
+ * The cache is bounded; each count expires on its own schedule, so a full cache evicts the least
+ * used counts instead of missing on all of them at once.
+ */
+@Component
+public class ConnectionCounter {
+
+    /**
+     * How the total count is computed when it is requested.
+     */
+    public enum Mode {
+        /** Always run {@code COUNT(*)}. */
+        EXACT,
+        /** Use table statistics for large tables and a cached count per tenant. */
+        APPROXIMATE
+    }
+
+    private static final String TOTAL_COUNT_FIELD = "totalCount";
+    private static final int MAX_CACHED_COUNTS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Mode mode;
+    private final long approximateThreshold;
+    private final Cache<CountKey, Integer> cachedCounts;
+
+    public ConnectionCounter(JdbcTemplate jdbcTemplate,
+                             @Value("${travller.graphql.total-count.mode:EXACT}") Mode mode,
+                             @Value("${travller.graphql.total-count.approximate-threshold:100000}") long approximateThreshold,
+                             @Value("${travller.graphql.total-count.cache-ttl:30s}") Duration cacheTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mode = mode;
+        this.approximateThreshold = approximateThreshold;
+        this.cachedCounts = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_COUNTS)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * Get the total count for a connection if the client selected it.
+     *
+     * @param query The keyset query backing the connection
+     * @param selectionSet The selection set of the connection field
+     * @return The total count, or null if {@code totalCount} was not selected
+     */
+    public Integer totalCount(KeysetQuery<?> query, DataFetchingFieldSelectionSet selectionSet) {
+        if (selectionSet != null && !selectionSet.contains(TOTAL_COUNT_FIELD)) {
+            return null;
+        }
+        if (mode == Mode.EXACT) {
+            return (int) query.count();
+        }
+        if (query.tenantId() != null) {
+            return cachedCount(query);
+        }
+        long estimate = estimatedRowCount(query.entityType());
+        if (estimate >= approximateThreshold) {
+            return (int) Math.min(estimate, Integer.MAX_VALUE);
+        }
+        return (int) query.count();
+    }
+
+    /**
+     * Forget the cached counts, e.g. after a bulk import.
+     */
+    public void evictAll() {
+        cachedCounts.invalidateAll();
+    }
+
+    private int cachedCount(KeysetQuery<?> query) {
+        return cachedCounts.get(new CountKey(query.entityType(), query.tenantId()), key -> (int) query.count());
+    }
+
+    /**
+     * Read the planner's row estimate for the entity's table.
+     * Returns -1 if the table has never been analyzed or has no {@code @Table} mapping.
+     */
+    private long estimatedRowCount(Class<?> entityType) {
+        Table table = entityType.getAnnotation(Table.class);
+        if (table == null || table.name().isEmpty()) {
+            return -1;
+        }
+        List<Long> estimates = jdbcTemplate.queryForList(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table.name());
+        return estimates.isEmpty() || estimates.get(0) == null ? -1 : estimates.get(0);
+    }
+
+    private record CountKey(Class<?> entityType, Long tenantId) {
+    }
+}
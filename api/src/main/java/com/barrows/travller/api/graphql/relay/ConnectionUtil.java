@@ -3,19 +3,26 @@ package com.barrows.travller.api.graphql.relay;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * Utility class for handling Relay connections.
  */
 public class ConnectionUtil {
 
-    private static final int DEFAULT_PAGE_SIZE = 10;
+    /**
+     * The page size of a connection queried without {@code first} or {@code last}.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 10;
 
     /**
      * Create a connection from a list of entities.
@@ -71,9 +78,10 @@ public class ConnectionUtil {
         List<T> pageItems = entities.subList(startIndex, endIndex);
 
         // Create edges
-        List<E> edges = pageItems.stream()
-                .map(item -> factory.createEdge(item, encodeIndex(entities.indexOf(item))))
-                .collect(Collectors.toList());
+        List<E> edges = new ArrayList<>(pageItems.size());
+        for (int i = 0; i < pageItems.size(); i++) {
+            edges.add(factory.createEdge(pageItems.get(i), encodeIndex(startIndex + i)));
+        }
 
         // Create page info
         boolean hasNextPage = endIndex < totalCount;
@@ -85,6 +93,113 @@ public class ConnectionUtil {
         return factory.createConnection(edges, pageItems, hasNextPage, hasPreviousPage, startCursor, endCursor, totalCount);
     }
 
+    /**
+     * Create a connection using keyset pagination.
+     * Only one page (plus one look-ahead row) is read from the database, and the position is carried in the
+     * cursor as (sortKey, id), so deep pages cost the same as the first one.
+     * Forward pagination uses {@code first}/{@code after}, backward pagination uses {@code last}/{@code before}.
+     *
+     * @param query The keyset query
+     * @param sortKey Extracts the sort key from an entity
+     * @param id Extracts the ID from an entity
+     * @param first The number of items to return from the start
+     * @param after The cursor to start from
+     * @param last The number of items to return from the end
+     * @param before The cursor to end at
+     * @param totalCount The total count, or null if it was not requested
+     * @param factory The connection factory
+     * @param <T> The entity type
+     * @param <C> The connection type
+     * @param <E> The edge type
+     * @return The connection
+     * @see ConnectionCounter
+     */
+    public static <T, C, E> C createKeysetConnection(KeysetQuery<T> query,
+                                                    Function<T, String> sortKey,
+                                                    Function<T, Long> id,
+                                                    Integer first,
+                                                    String after,
+                                                    Integer last,
+                                                    String before,
+                                                    Integer totalCount,
+                                                    ConnectionFactory<T, C, E> factory) {
+        if (first != null && last != null) {
+            throw new IllegalArgumentException("Passing both first and last is not supported");
+        }
+        if ((first != null && first < 0) || (last != null && last < 0)) {
+            throw new IllegalArgumentException("first and last must not be negative");
+        }
+
+        boolean backward = last != null || (first == null && before != null && !before.isEmpty());
+        int limit = backward ? (last != null ? last : DEFAULT_PAGE_SIZE) : (first != null ? first : DEFAULT_PAGE_SIZE);
+
+        List<T> rows;
+        boolean hasNextPage;
+        boolean hasPreviousPage;
+        if (backward) {
+            rows = before != null && !before.isEmpty()
+                    ? query.before(KeysetCursor.decode(before), limit + 1)
+                    : query.last(limit + 1);
+            hasPreviousPage = rows.size() > limit;
+            hasNextPage = before != null && !before.isEmpty();
+        } else {
+            rows = after != null && !after.isEmpty()
+                    ? query.after(KeysetCursor.decode(after), limit + 1)
+                    : query.first(limit + 1);
+            hasNextPage = rows.size() > limit;
+            hasPreviousPage = after != null && !after.isEmpty();
+        }
+
+        List<T> pageItems = new ArrayList<>(rows.subList(0, Math.min(limit, rows.size())));
+        if (backward) {
+            Collections.reverse(pageItems);
+        }
+
+        List<E> edges = new ArrayList<>(pageItems.size());
+        for (T item : pageItems) {
+            edges.add(factory.createEdge(item, new KeysetCursor(sortKey.apply(item), id.apply(item)).encode()));
+        }
+
+        String startCursor = edges.isEmpty() ? null : factory.getCursor(edges.get(0));
+        String endCursor = edges.isEmpty() ? null : factory.getCursor(edges.get(edges.size() - 1));
+
+        return factory.createConnection(edges, pageItems, hasNextPage, hasPreviousPage, startCursor, endCursor,
+                totalCount);
+    }
+
+    /**
+     * Create a single-page connection of entities that are already in memory, with keyset cursors.
+     * The entities are listed in (sortKey, id) order and each edge carries the same cursor as in
+     * {@link #createKeysetConnection(KeysetQuery, Function, Function, Integer, String, Integer, String, Integer,
+     * ConnectionFactory)}, so a client can continue from any of them in the paginated connection of the same type.
+     *
+     * @param entities The entities
+     * @param sortKey Extracts the sort key from an entity
+     * @param id Extracts the ID from an entity
+     * @param factory The connection factory
+     * @param <T> The entity type
+     * @param <C> The connection type
+     * @param <E> The edge type
+     * @return The connection
+     */
+    public static <T, C, E> C createKeysetConnection(List<T> entities,
+                                                    Function<T, String> sortKey,
+                                                    Function<T, Long> id,
+                                                    ConnectionFactory<T, C, E> factory) {
+        List<T> nodes = new ArrayList<>(entities);
+        nodes.sort(Comparator.comparing(sortKey).thenComparing(id));
+
+        List<E> edges = new ArrayList<>(nodes.size());
+        for (T node : nodes) {
+            edges.add(factory.createEdge(node, new KeysetCursor(sortKey.apply(node), id.apply(node)).encode()));
+        }
+
+        String startCursor = edges.isEmpty() ? null : factory.getCursor(edges.get(0));
+        String endCursor = edges.isEmpty() ? null : factory.getCursor(edges.get(edges.size() - 1));
+
+        return factory.createConnection(edges, nodes, false, false, startCursor, endCursor, nodes.size());
+    }
+
     /**
      * Create a Pageable object from Relay connection parameters.
      *
@@ -117,21 +232,40 @@ public class ConnectionUtil {
      * @return The connection
      */
     public static <T, C, E> C createConnectionFromPage(Page<T> page, ConnectionFactory<T, C, E> factory) {
-        List<T> content = page.getContent();
+        return createConnectionFromSlice(page, (int) page.getTotalElements(), factory);
+    }
+
+    /**
+     * Create a connection from a Slice of entities.
+     * Unlike a Page, a Slice is fetched without a count query, so the total count is supplied separately
+     * and may be null when the client did not select it.
+     *
+     * @param slice The slice of entities
+     * @param totalCount The total count, or null if it was not requested
+     * @param <T> The entity type
+     * @param <C> The connection type
+     * @param <E> The edge type
+     * @return The connection
+     */
+    public static <T, C, E> C createConnectionFromSlice(Slice<T> slice, Integer totalCount,
+                                                       ConnectionFactory<T, C, E> factory) {
+        List<T> content = slice.getContent();
 
         // Create edges
-        List<E> edges = content.stream()
-                .map(item -> factory.createEdge(item, encodeIndex(content.indexOf(item))))
-                .collect(Collectors.toList());
+        int offset = slice.getPageable().isPaged() ? (int) slice.getPageable().getOffset() : 0;
+        List<E> edges = new ArrayList<>(content.size());
+        for (int i = 0; i < content.size(); i++) {
+            edges.add(factory.createEdge(content.get(i), encodeIndex(offset + i)));
+        }
 
         // Create page info
-        boolean hasNextPage = page.hasNext();
-        boolean hasPreviousPage = page.hasPrevious();
+        boolean hasNextPage = slice.hasNext();
+        boolean hasPreviousPage = slice.hasPrevious();
         String startCursor = edges.isEmpty() ? null : factory.getCursor(edges.get(0));
         String endCursor = edges.isEmpty() ? null : factory.getCursor(edges.get(edges.size() - 1));
 
         // Create connection
-        return factory.createConnection(edges, content, hasNextPage, hasPreviousPage, startCursor, endCursor, (int) page.getTotalElements());
+        return factory.createConnection(edges, content, hasNextPage, hasPreviousPage, startCursor, endCursor, totalCount);
     }
 
     /**
@@ -197,6 +331,6 @@ public class ConnectionUtil {
          * @return The connection
          */
         C createConnection(List<E> edges, List<T> nodes, boolean hasNextPage, boolean hasPreviousPage,
-                          String startCursor, String endCursor, int totalCount);
+                          String startCursor, String endCursor, Integer totalCount);
     }
 }
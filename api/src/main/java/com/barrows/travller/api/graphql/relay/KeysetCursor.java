@@ -0,0 +1,60 @@
+package com.barrows.travller.api.graphql.relay;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * A keyset pagination cursor.
+ * The cursor carries the sort key and ID of the row it points at, so the next page can be
+ * fetched with a {@code (sortKey, id) > (?, ?)} predicate rather than an OFFSET.
+ * The encoded form is the Base64 of {@code "id:sortKey"}.
+ */
+public class KeysetCursor {
+
+    private final String sortKey;
+    private final Long id;
+
+    public KeysetCursor(String sortKey, Long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Encode this cursor as an opaque string.
+     *
+     * @return The cursor string
+     */
+    public String encode() {
+        String raw = id + ":" + sortKey;
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor string.
+     *
+     * @param cursor The cursor string
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the cursor is not a valid keyset cursor
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            Long id = Long.parseLong(decoded.substring(0, separator));
+            return new KeysetCursor(decoded.substring(separator + 1), id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
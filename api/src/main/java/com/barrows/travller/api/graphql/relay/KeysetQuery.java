@@ -0,0 +1,220 @@
+package com.barrows.travller.api.graphql.relay;
+
+import com.barrows.travller.api.model.TenantAwareEntity;
+import com.barrows.travller.api.repository.KeysetRepository;
+import jakarta.persistence.Table;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The queries backing a keyset-paginated connection.
+ * Forward queries return rows in ascending (sortKey, id) order, backward queries in descending order.
+ *
+ * @param <T> The entity type
+ */
+public interface KeysetQuery<T> {
+
+    List<T> first(int limit);
+
+    List<T> after(KeysetCursor cursor, int limit);
+
+    List<T> last(int limit);
+
+    List<T> before(KeysetCursor cursor, int limit);
+
+    long count();
+
+    /**
+     * @return The entity type, used to look up table statistics for approximate counts
+     */
+    Class<T> entityType();
+
+    /**
+     * @return The tenant the query is scoped to, or null if it spans all rows of the table
+     */
+    Long tenantId();
+
+    /**
+     * Create a keyset query over all entities of a repository.
+     *
+     * @param repository The repository
+     * @param entityType The entity type
+     * @param <T> The entity type
+     * @return The keyset query
+     */
+    static <T> KeysetQuery<T> of(KeysetRepository<T> repository, Class<T> entityType) {
+        return new KeysetQuery<>() {
+            @Override
+            public List<T> first(int limit) {
+                return repository.findPageFirst(Limit.of(limit));
+            }
+
+            @Override
+            public List<T> after(KeysetCursor cursor, int limit) {
+                return repository.findPageAfter(cursor.getSortKey(), cursor.getId(), Limit.of(limit));
+            }
+
+            @Override
+            public List<T> last(int limit) {
+                return repository.findPageLast(Limit.of(limit));
+            }
+
+            @Override
+            public List<T> before(KeysetCursor cursor, int limit) {
+                return repository.findPageBefore(cursor.getSortKey(), cursor.getId(), Limit.of(limit));
+            }
+
+            @Override
+            public long count() {
+                return repository.count();
+            }
+
+            @Override
+            public Class<T> entityType() {
+                return entityType;
+            }
+
+            @Override
+            public Long tenantId() {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Create a keyset query over the entities of the current tenant.
+     * The repository's queries are already restricted to the tenant by the tenant filter; the tenant ID
+     * only identifies the query for tenant-scoped count caching.
+     *
+     * @param repository The repository
+     * @param entityType The entity type
+     * @param tenantId The current tenant ID
+     * @param <T> The entity type
+     * @return The keyset query
+     */
+    static <T extends TenantAwareEntity> KeysetQuery<T> ofTenant(KeysetRepository<T> repository,
+                                                                Class<T> entityType, Long tenantId) {
+        KeysetQuery<T> query = of(repository, entityType);
+        return new KeysetQuery<>() {
+            @Override
+            public List<T> first(int limit) {
+                return query.first(limit);
+            }
+
+            @Override
+            public List<T> after(KeysetCursor cursor, int limit) {
+                return query.after(cursor, limit);
+            }
+
+            @Override
+            public List<T> last(int limit) {
+                return query.last(limit);
+            }
+
+            @Override
+            public List<T> before(KeysetCursor cursor, int limit) {
+                return query.before(cursor, limit);
+            }
+
+            @Override
+            public long count() {
+                return query.count();
+            }
+
+            @Override
+            public Class<T> entityType() {
+                return entityType;
+            }
+
+            @Override
+            public Long tenantId() {
+                return tenantId;
+            }
+        };
+    }
+
+    /**
+     * Create a keyset query over the rows of one tenant in a table whose entity does not map its tenant.
+     * Reference data such as careers and skills keeps a tenant_id column that the tenant filter cannot see,
+     * so each page selects its IDs by tenant_id, as the reference data catalog does, and then loads the
+     * entities by ID.
+     *
+     * @param jdbcTemplate The JDBC template used to select the IDs
+     * @param repository The repository used to load the entities
+     * @param entityType The entity type, which must name its table with {@code @Table}
+     * @param idGetter Gets the ID of an entity
+     * @param tenantId The current tenant ID
+     * @param <T> The entity type
+     * @return The keyset query
+     */
+    static <T> KeysetQuery<T> ofTenantTable(JdbcTemplate jdbcTemplate, JpaRepository<T, Long> repository,
+                                            Class<T> entityType, Function<T, Long> idGetter, Long tenantId) {
+        Table table = entityType.getAnnotation(Table.class);
+        if (table == null || table.name().isEmpty()) {
+            throw new IllegalArgumentException(entityType.getSimpleName() + " has no @Table name");
+        }
+        String select = "SELECT id FROM " + table.name() + " WHERE tenant_id = ?";
+        return new KeysetQuery<>() {
+            @Override
+            public List<T> first(int limit) {
+                return load(select + " ORDER BY name, id LIMIT ?", tenantId, limit);
+            }
+
+            @Override
+            public List<T> after(KeysetCursor cursor, int limit) {
+                return load(select + " AND name >= ? AND (name > ? OR id > ?) ORDER BY name, id LIMIT ?",
+                        tenantId, cursor.getSortKey(), cursor.getSortKey(), cursor.getId(), limit);
+            }
+
+            @Override
+            public List<T> last(int limit) {
+                return load(select + " ORDER BY name DESC, id DESC LIMIT ?", tenantId, limit);
+            }
+
+            @Override
+            public List<T> before(KeysetCursor cursor, int limit) {
+                return load(select + " AND name <= ? AND (name < ? OR id < ?) ORDER BY name DESC, id DESC LIMIT ?",
+                        tenantId, cursor.getSortKey(), cursor.getSortKey(), cursor.getId(), limit);
+            }
+
+            @Override
+            public long count() {
+                Long count = jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM " + table.name() + " WHERE tenant_id = ?", Long.class, tenantId);
+                return count != null ? count : 0;
+            }
+
+            @Override
+            public Class<T> entityType() {
+                return entityType;
+            }
+
+            @Override
+            public Long tenantId() {
+                return tenantId;
+            }
+
+            /**
+             * Select a page of IDs and load their entities in the same order.
+             */
+            private List<T> load(String sql, Object... args) {
+                List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, args);
+                Map<Long, Integer> positions = new HashMap<>(ids.size() * 2);
+                for (int i = 0; i < ids.size(); i++) {
+                    positions.put(ids.get(i), i);
+                }
+                List<T> entities = new ArrayList<>(repository.findAllById(ids));
+                entities.sort(Comparator.comparing(entity -> positions.get(idGetter.apply(entity))));
+                return entities;
+            }
+        };
+    }
+}
@@ -1,16 +1,15 @@
 package com.barrows.travller.api.graphql.relay;
 
+import com.barrows.travller.api.model.*;
 import com.barrows.travller.api.model.Character;
 import com.barrows.travller.api.repository.*;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
  * GraphQL resolver for Node interface queries.
@@ -18,14 +17,7 @@ import java.util.stream.Collectors;
 @Controller
 public class NodeResolver {
 
-    private final CharacterRepository characterRepository;
-    private final CareerRepository careerRepository;
-    private final SkillRepository skillRepository;
-    private final WorldRepository worldRepository;
-    private final WeaponRepository weaponRepository;
-    private final ArmorRepository armorRepository;
-    private final VehicleRepository vehicleRepository;
-    private final SpaceshipRepository spaceshipRepository;
+    private final Map<String, JpaRepository<?, Long>> repositories;
 
     public NodeResolver(CharacterRepository characterRepository,
                        CareerRepository careerRepository,
@@ -35,58 +27,95 @@ public class NodeResolver {
                        ArmorRepository armorRepository,
                        VehicleRepository vehicleRepository,
                        SpaceshipRepository spaceshipRepository) {
-        this.characterRepository = characterRepository;
-        this.careerRepository = careerRepository;
-        this.skillRepository = skillRepository;
-        this.worldRepository = worldRepository;
-        this.weaponRepository = weaponRepository;
-        this.armorRepository = armorRepository;
-        this.vehicleRepository = vehicleRepository;
-        this.spaceshipRepository = spaceshipRepository;
+        this.repositories = Map.of(
+                "Character", characterRepository,
+                "Career", careerRepository,
+                "Skill", skillRepository,
+                "World", worldRepository,
+                "Weapon", weaponRepository,
+                "Armor", armorRepository,
+                "Vehicle", vehicleRepository,
+                "Spaceship", spaceshipRepository);
     }
 
     /**
      * Query to get a node by ID.
+     * A malformed ID or an unknown node type resolves to null; errors while loading the node are not hidden.
      */
     @QueryMapping
     public Object node(@Argument String id) {
-        try {
-            NodeInfo nodeInfo = decodeNodeId(id);
-
-            switch (nodeInfo.getType()) {
-                case "Character":
-                    return characterRepository.findById(nodeInfo.getId()).orElse(null);
-                case "Career":
-                    return careerRepository.findById(nodeInfo.getId()).orElse(null);
-                case "Skill":
-                    return skillRepository.findById(nodeInfo.getId()).orElse(null);
-                case "World":
-                    return worldRepository.findById(nodeInfo.getId()).orElse(null);
-                case "Weapon":
-                    return weaponRepository.findById(nodeInfo.getId()).orElse(null);
-                case "Armor":
-                    return armorRepository.findById(nodeInfo.getId()).orElse(null);
-                case "Vehicle":
-                    return vehicleRepository.findById(nodeInfo.getId()).orElse(null);
-                case "Spaceship":
-                    return spaceshipRepository.findById(nodeInfo.getId()).orElse(null);
-                default:
-                    return null;
-            }
-        } catch (Exception e) {
+        NodeInfo nodeInfo = tryDecodeNodeId(id);
+        if (nodeInfo == null) {
             return null;
         }
+        return repositories.get(nodeInfo.getType()).findById(nodeInfo.getId()).orElse(null);
     }
 
     /**
      * Query to get multiple nodes by IDs.
+     * All IDs are decoded up front and grouped by type, so each type costs one query no matter
+     * how many of its IDs were requested. The types are loaded one after another on the calling thread,
+     * so every node belongs to the request's persistence context. The result lines up with the
+     * requested IDs, with null for any ID that is malformed, of an unknown type or whose node does not exist.
      */
     @QueryMapping
     public List<Object> nodes(@Argument List<String> ids) {
-        return ids.stream()
-                .map(this::node)
-                .filter(node -> node != null)
-                .collect(Collectors.toList());
+        List<NodeInfo> nodeInfos = new ArrayList<>(ids.size());
+        Map<String, Set<Long>> idsByType = new LinkedHashMap<>();
+        for (String id : ids) {
+            NodeInfo nodeInfo = tryDecodeNodeId(id);
+            nodeInfos.add(nodeInfo);
+            if (nodeInfo != null) {
+                idsByType.computeIfAbsent(nodeInfo.getType(), type -> new LinkedHashSet<>()).add(nodeInfo.getId());
+            }
+        }
+
+        Map<String, Map<Long, Object>> nodesByType = new HashMap<>();
+        idsByType.forEach((type, typeIds) -> nodesByType.put(type, loadType(type, typeIds)));
+
+        List<Object> result = new ArrayList<>(nodeInfos.size());
+        for (NodeInfo nodeInfo : nodeInfos) {
+            result.add(nodeInfo == null ? null : nodesByType.get(nodeInfo.getType()).get(nodeInfo.getId()));
+        }
+        return result;
+    }
+
+    /**
+     * Decode a node ID, returning null if it is malformed or names a type that is not a node.
+     */
+    private NodeInfo tryDecodeNodeId(String id) {
+        NodeInfo nodeInfo;
+        try {
+            nodeInfo = decodeNodeId(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return repositories.containsKey(nodeInfo.getType()) ? nodeInfo : null;
+    }
+
+    /**
+     * Load all nodes of one type with a single query, keyed by ID.
+     */
+    private Map<Long, Object> loadType(String type, Set<Long> ids) {
+        Map<Long, Object> nodes = new HashMap<>(ids.size() * 2);
+        for (Object node : repositories.get(type).findAllById(ids)) {
+            nodes.put(getId(node), node);
+        }
+        return nodes;
+    }
+
+    private static Long getId(Object node) {
+        return switch (node) {
+            case Character character -> character.getId();
+            case Career career -> career.getId();
+            case Skill skill -> skill.getId();
+            case World world -> world.getId();
+            case Weapon weapon -> weapon.getId();
+            case Armor armor -> armor.getId();
+            case Vehicle vehicle -> vehicle.getId();
+            case Spaceship spaceship -> spaceship.getId();
+            default -> throw new IllegalStateException("Not a node: " + node.getClass().getName());
+        };
     }
 
     /**
@@ -0,0 +1,58 @@
+package com.barrows.travller.api.graphql.relay.armor;
+
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Armor;
+
+import java.util.List;
+
+/**
+ * A connection to a list of items.
+ */
+public class ArmorConnection {
+    private PageInfo pageInfo;
+    private List<ArmorEdge> edges;
+    private List<Armor> nodes;
+    private Integer totalCount;
+
+    public ArmorConnection() {
+    }
+
+    public ArmorConnection(PageInfo pageInfo, List<ArmorEdge> edges, List<Armor> nodes, Integer totalCount) {
+        this.pageInfo = pageInfo;
+        this.edges = edges;
+        this.nodes = nodes;
+        this.totalCount = totalCount;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfo pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+
+    public List<ArmorEdge> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<ArmorEdge> edges) {
+        this.edges = edges;
+    }
+
+    public List<Armor> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Armor> nodes) {
+        this.nodes = nodes;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.barrows.travller.api.graphql.relay.armor;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Armor;
+
+import java.util.List;
+
+/**
+ * Factory for creating ArmorConnection objects.
+ */
+public class ArmorConnectionFactory implements ConnectionUtil.ConnectionFactory<Armor, ArmorConnection, ArmorEdge> {
+
+    @Override
+    public ArmorEdge createEdge(Armor node, String cursor) {
+        return new ArmorEdge(node, cursor);
+    }
+
+    @Override
+    public String getCursor(ArmorEdge edge) {
+        return edge.getCursor();
+    }
+
+    @Override
+    public ArmorConnection createConnection(List<ArmorEdge> edges, List<Armor> nodes,
+                                              boolean hasNextPage, boolean hasPreviousPage,
+                                              String startCursor, String endCursor, Integer totalCount) {
+        PageInfo pageInfo = new PageInfo(hasNextPage, hasPreviousPage, startCursor, endCursor);
+        return new ArmorConnection(pageInfo, edges, nodes, totalCount);
+    }
+}
@@ -0,0 +1,35 @@
+package com.barrows.travller.api.graphql.relay.armor;
+
+import com.barrows.travller.api.model.Armor;
+
+/**
+ * An edge in a connection from an object to another object.
+ */
+public class ArmorEdge {
+    private Armor node;
+    private String cursor;
+
+    public ArmorEdge() {
+    }
+
+    public ArmorEdge(Armor node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    public Armor getNode() {
+        return node;
+    }
+
+    public void setNode(Armor node) {
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
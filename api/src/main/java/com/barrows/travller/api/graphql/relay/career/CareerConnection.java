@@ -0,0 +1,58 @@
+package com.barrows.travller.api.graphql.relay.career;
+
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Career;
+
+import java.util.List;
+
+/**
+ * A connection to a list of items.
+ */
+public class CareerConnection {
+    private PageInfo pageInfo;
+    private List<CareerEdge> edges;
+    private List<Career> nodes;
+    private Integer totalCount;
+
+    public CareerConnection() {
+    }
+
+    public CareerConnection(PageInfo pageInfo, List<CareerEdge> edges, List<Career> nodes, Integer totalCount) {
+        this.pageInfo = pageInfo;
+        this.edges = edges;
+        this.nodes = nodes;
+        this.totalCount = totalCount;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfo pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+
+    public List<CareerEdge> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<CareerEdge> edges) {
+        this.edges = edges;
+    }
+
+    public List<Career> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Career> nodes) {
+        this.nodes = nodes;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.barrows.travller.api.graphql.relay.career;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Career;
+
+import java.util.List;
+
+/**
+ * Factory for creating CareerConnection objects.
+ */
+public class CareerConnectionFactory implements ConnectionUtil.ConnectionFactory<Career, CareerConnection, CareerEdge> {
+
+    @Override
+    public CareerEdge createEdge(Career node, String cursor) {
+        return new CareerEdge(node, cursor);
+    }
+
+    @Override
+    public String getCursor(CareerEdge edge) {
+        return edge.getCursor();
+    }
+
+    @Override
+    public CareerConnection createConnection(List<CareerEdge> edges, List<Career> nodes,
+                                              boolean hasNextPage, boolean hasPreviousPage,
+                                              String startCursor, String endCursor, Integer totalCount) {
+        PageInfo pageInfo = new PageInfo(hasNextPage, hasPreviousPage, startCursor, endCursor);
+        return new CareerConnection(pageInfo, edges, nodes, totalCount);
+    }
+}
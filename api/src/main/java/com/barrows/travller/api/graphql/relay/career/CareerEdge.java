@@ -0,0 +1,35 @@
+package com.barrows.travller.api.graphql.relay.career;
+
+import com.barrows.travller.api.model.Career;
+
+/**
+ * An edge in a connection from an object to another object.
+ */
+public class CareerEdge {
+    private Career node;
+    private String cursor;
+
+    public CareerEdge() {
+    }
+
+    public CareerEdge(Career node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    public Career getNode() {
+        return node;
+    }
+
+    public void setNode(Career node) {
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
@@ -24,7 +24,7 @@ public class CharacterConnectionFactory implements ConnectionUtil.ConnectionFact
     @Override
     public CharacterConnection createConnection(List<CharacterEdge> edges, List<Character> nodes,
                                               boolean hasNextPage, boolean hasPreviousPage,
-                                              String startCursor, String endCursor, int totalCount) {
+                                              String startCursor, String endCursor, Integer totalCount) {
         PageInfo pageInfo = new PageInfo(hasNextPage, hasPreviousPage, startCursor, endCursor);
         return new CharacterConnection(pageInfo, edges, nodes, totalCount);
     }
@@ -0,0 +1,47 @@
+package com.barrows.travller.api.graphql.relay.search;
+
+import com.barrows.travller.api.graphql.relay.PageInfo;
+
+import java.util.List;
+
+/**
+ * A connection to a page of ranked search results.
+ */
+public class SearchResultConnection {
+    private PageInfo pageInfo;
+    private List<SearchResultEdge> edges;
+    private List<Object> nodes;
+
+    public SearchResultConnection() {
+    }
+
+    public SearchResultConnection(PageInfo pageInfo, List<SearchResultEdge> edges, List<Object> nodes) {
+        this.pageInfo = pageInfo;
+        this.edges = edges;
+        this.nodes = nodes;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfo pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+
+    public List<SearchResultEdge> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<SearchResultEdge> edges) {
+        this.edges = edges;
+    }
+
+    public List<Object> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Object> nodes) {
+        this.nodes = nodes;
+    }
+}
@@ -0,0 +1,43 @@
+package com.barrows.travller.api.graphql.relay.search;
+
+/**
+ * An edge in a search result connection, carrying the match's rank alongside the node.
+ */
+public class SearchResultEdge {
+    private Object node;
+    private String cursor;
+    private float score;
+
+    public SearchResultEdge() {
+    }
+
+    public SearchResultEdge(Object node, String cursor, float score) {
+        this.node = node;
+        this.cursor = cursor;
+        this.score = score;
+    }
+
+    public Object getNode() {
+        return node;
+    }
+
+    public void setNode(Object node) {
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,58 @@
+package com.barrows.travller.api.graphql.relay.skill;
+
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Skill;
+
+import java.util.List;
+
+/**
+ * A connection to a list of items.
+ */
+public class SkillConnection {
+    private PageInfo pageInfo;
+    private List<SkillEdge> edges;
+    private List<Skill> nodes;
+    private Integer totalCount;
+
+    public SkillConnection() {
+    }
+
+    public SkillConnection(PageInfo pageInfo, List<SkillEdge> edges, List<Skill> nodes, Integer totalCount) {
+        this.pageInfo = pageInfo;
+        this.edges = edges;
+        this.nodes = nodes;
+        this.totalCount = totalCount;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfo pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+
+    public List<SkillEdge> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<SkillEdge> edges) {
+        this.edges = edges;
+    }
+
+    public List<Skill> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Skill> nodes) {
+        this.nodes = nodes;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+}
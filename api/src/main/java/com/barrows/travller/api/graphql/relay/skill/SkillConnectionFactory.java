@@ -0,0 +1,31 @@
+package com.barrows.travller.api.graphql.relay.skill;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Skill;
+
+import java.util.List;
+
+/**
+ * Factory for creating SkillConnection objects.
+ */
+public class SkillConnectionFactory implements ConnectionUtil.ConnectionFactory<Skill, SkillConnection, SkillEdge> {
+
+    @Override
+    public SkillEdge createEdge(Skill node, String cursor) {
+        return new SkillEdge(node, cursor);
+    }
+
+    @Override
+    public String getCursor(SkillEdge edge) {
+        return edge.getCursor();
+    }
+
+    @Override
+    public SkillConnection createConnection(List<SkillEdge> edges, List<Skill> nodes,
+                                              boolean hasNextPage, boolean hasPreviousPage,
+                                              String startCursor, String endCursor, Integer totalCount) {
+        PageInfo pageInfo = new PageInfo(hasNextPage, hasPreviousPage, startCursor, endCursor);
+        return new SkillConnection(pageInfo, edges, nodes, totalCount);
+    }
+}
@@ -0,0 +1,35 @@
+package com.barrows.travller.api.graphql.relay.skill;
+
+import com.barrows.travller.api.model.Skill;
+
+/**
+ * An edge in a connection from an object to another object.
+ */
+public class SkillEdge {
+    private Skill node;
+    private String cursor;
+
+    public SkillEdge() {
+    }
+
+    public SkillEdge(Skill node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    public Skill getNode() {
+        return node;
+    }
+
+    public void setNode(Skill node) {
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
@@ -0,0 +1,58 @@
+package com.barrows.travller.api.graphql.relay.spaceship;
+
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Spaceship;
+
+import java.util.List;
+
+/**
+ * A connection to a list of items.
+ */
+public class SpaceshipConnection {
+    private PageInfo pageInfo;
+    private List<SpaceshipEdge> edges;
+    private List<Spaceship> nodes;
+    private Integer totalCount;
+
+    public SpaceshipConnection() {
+    }
+
+    public SpaceshipConnection(PageInfo pageInfo, List<SpaceshipEdge> edges, List<Spaceship> nodes, Integer totalCount) {
+        this.pageInfo = pageInfo;
+        this.edges = edges;
+        this.nodes = nodes;
+        this.totalCount = totalCount;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfo pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+
+    public List<SpaceshipEdge> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<SpaceshipEdge> edges) {
+        this.edges = edges;
+    }
+
+    public List<Spaceship> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Spaceship> nodes) {
+        this.nodes = nodes;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.barrows.travller.api.graphql.relay.spaceship;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Spaceship;
+
+import java.util.List;
+
+/**
+ * Factory for creating SpaceshipConnection objects.
+ */
+public class SpaceshipConnectionFactory implements ConnectionUtil.ConnectionFactory<Spaceship, SpaceshipConnection, SpaceshipEdge> {
+
+    @Override
+    public SpaceshipEdge createEdge(Spaceship node, String cursor) {
+        return new SpaceshipEdge(node, cursor);
+    }
+
+    @Override
+    public String getCursor(SpaceshipEdge edge) {
+        return edge.getCursor();
+    }
+
+    @Override
+    public SpaceshipConnection createConnection(List<SpaceshipEdge> edges, List<Spaceship> nodes,
+                                              boolean hasNextPage, boolean hasPreviousPage,
+                                              String startCursor, String endCursor, Integer totalCount) {
+        PageInfo pageInfo = new PageInfo(hasNextPage, hasPreviousPage, startCursor, endCursor);
+        return new SpaceshipConnection(pageInfo, edges, nodes, totalCount);
+    }
+}
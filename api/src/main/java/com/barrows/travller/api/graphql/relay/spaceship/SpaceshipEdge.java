@@ -0,0 +1,35 @@
+package com.barrows.travller.api.graphql.relay.spaceship;
+
+import com.barrows.travller.api.model.Spaceship;
+
+/**
+ * An edge in a connection from an object to another object.
+ */
+public class SpaceshipEdge {
+    private Spaceship node;
+    private String cursor;
+
+    public SpaceshipEdge() {
+    }
+
+    public SpaceshipEdge(Spaceship node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    public Spaceship getNode() {
+        return node;
+    }
+
+    public void setNode(Spaceship node) {
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
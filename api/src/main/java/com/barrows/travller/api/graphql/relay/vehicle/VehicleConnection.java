@@ -0,0 +1,58 @@
+package com.barrows.travller.api.graphql.relay.vehicle;
+
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Vehicle;
+
+import java.util.List;
+
+/**
+ * A connection to a list of items.
+ */
+public class VehicleConnection {
+    private PageInfo pageInfo;
+    private List<VehicleEdge> edges;
+    private List<Vehicle> nodes;
+    private Integer totalCount;
+
+    public VehicleConnection() {
+    }
+
+    public VehicleConnection(PageInfo pageInfo, List<VehicleEdge> edges, List<Vehicle> nodes, Integer totalCount) {
+        this.pageInfo = pageInfo;
+        this.edges = edges;
+        this.nodes = nodes;
+        this.totalCount = totalCount;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfo pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+
+    public List<VehicleEdge> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<VehicleEdge> edges) {
+        this.edges = edges;
+    }
+
+    public List<Vehicle> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Vehicle> nodes) {
+        this.nodes = nodes;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.barrows.travller.api.graphql.relay.vehicle;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Vehicle;
+
+import java.util.List;
+
+/**
+ * Factory for creating VehicleConnection objects.
+ */
+public class VehicleConnectionFactory implements ConnectionUtil.ConnectionFactory<Vehicle, VehicleConnection, VehicleEdge> {
+
+    @Override
+    public VehicleEdge createEdge(Vehicle node, String cursor) {
+        return new VehicleEdge(node, cursor);
+    }
+
+    @Override
+    public String getCursor(VehicleEdge edge) {
+        return edge.getCursor();
+    }
+
+    @Override
+    public VehicleConnection createConnection(List<VehicleEdge> edges, List<Vehicle> nodes,
+                                              boolean hasNextPage, boolean hasPreviousPage,
+                                              String startCursor, String endCursor, Integer totalCount) {
+        PageInfo pageInfo = new PageInfo(hasNextPage, hasPreviousPage, startCursor, endCursor);
+        return new VehicleConnection(pageInfo, edges, nodes, totalCount);
+    }
+}
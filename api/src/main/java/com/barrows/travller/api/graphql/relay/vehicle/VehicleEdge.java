@@ -0,0 +1,35 @@
+package com.barrows.travller.api.graphql.relay.vehicle;
+
+import com.barrows.travller.api.model.Vehicle;
+
+/**
+ * An edge in a connection from an object to another object.
+ */
+public class VehicleEdge {
+    private Vehicle node;
+    private String cursor;
+
+    public VehicleEdge() {
+    }
+
+    public VehicleEdge(Vehicle node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    public Vehicle getNode() {
+        return node;
+    }
+
+    public void setNode(Vehicle node) {
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
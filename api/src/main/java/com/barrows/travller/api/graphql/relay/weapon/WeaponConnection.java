@@ -0,0 +1,58 @@
+package com.barrows.travller.api.graphql.relay.weapon;
+
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Weapon;
+
+import java.util.List;
+
+/**
+ * A connection to a list of items.
+ */
+public class WeaponConnection {
+    private PageInfo pageInfo;
+    private List<WeaponEdge> edges;
+    private List<Weapon> nodes;
+    private Integer totalCount;
+
+    public WeaponConnection() {
+    }
+
+    public WeaponConnection(PageInfo pageInfo, List<WeaponEdge> edges, List<Weapon> nodes, Integer totalCount) {
+        this.pageInfo = pageInfo;
+        this.edges = edges;
+        this.nodes = nodes;
+        this.totalCount = totalCount;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfo pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+
+    public List<WeaponEdge> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<WeaponEdge> edges) {
+        this.edges = edges;
+    }
+
+    public List<Weapon> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Weapon> nodes) {
+        this.nodes = nodes;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+}
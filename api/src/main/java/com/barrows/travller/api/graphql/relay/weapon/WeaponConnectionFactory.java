@@ -0,0 +1,31 @@
+package com.barrows.travller.api.graphql.relay.weapon;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.Weapon;
+
+import java.util.List;
+
+/**
+ * Factory for creating WeaponConnection objects.
+ */
+public class WeaponConnectionFactory implements ConnectionUtil.ConnectionFactory<Weapon, WeaponConnection, WeaponEdge> {
+
+    @Override
+    public WeaponEdge createEdge(Weapon node, String cursor) {
+        return new WeaponEdge(node, cursor);
+    }
+
+    @Override
+    public String getCursor(WeaponEdge edge) {
+        return edge.getCursor();
+    }
+
+    @Override
+    public WeaponConnection createConnection(List<WeaponEdge> edges, List<Weapon> nodes,
+                                              boolean hasNextPage, boolean hasPreviousPage,
+                                              String startCursor, String endCursor, Integer totalCount) {
+        PageInfo pageInfo = new PageInfo(hasNextPage, hasPreviousPage, startCursor, endCursor);
+        return new WeaponConnection(pageInfo, edges, nodes, totalCount);
+    }
+}
@@ -0,0 +1,35 @@
+package com.barrows.travller.api.graphql.relay.weapon;
+
+import com.barrows.travller.api.model.Weapon;
+
+/**
+ * An edge in a connection from an object to another object.
+ */
+public class WeaponEdge {
+    private Weapon node;
+    private String cursor;
+
+    public WeaponEdge() {
+    }
+
+    public WeaponEdge(Weapon node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    public Weapon getNode() {
+        return node;
+    }
+
+    public void setNode(Weapon node) {
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
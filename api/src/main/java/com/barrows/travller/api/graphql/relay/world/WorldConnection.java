@@ -0,0 +1,58 @@
+package com.barrows.travller.api.graphql.relay.world;
+
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.World;
+
+import java.util.List;
+
+/**
+ * A connection to a list of items.
+ */
+public class WorldConnection {
+    private PageInfo pageInfo;
+    private List<WorldEdge> edges;
+    private List<World> nodes;
+    private Integer totalCount;
+
+    public WorldConnection() {
+    }
+
+    public WorldConnection(PageInfo pageInfo, List<WorldEdge> edges, List<World> nodes, Integer totalCount) {
+        this.pageInfo = pageInfo;
+        this.edges = edges;
+        this.nodes = nodes;
+        this.totalCount = totalCount;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfo pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+
+    public List<WorldEdge> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<WorldEdge> edges) {
+        this.edges = edges;
+    }
+
+    public List<World> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<World> nodes) {
+        this.nodes = nodes;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.barrows.travller.api.graphql.relay.world;
+
+import com.barrows.travller.api.graphql.relay.ConnectionUtil;
+import com.barrows.travller.api.graphql.relay.PageInfo;
+import com.barrows.travller.api.model.World;
+
+import java.util.List;
+
+/**
+ * Factory for creating WorldConnection objects.
+ */
+public class WorldConnectionFactory implements ConnectionUtil.ConnectionFactory<World, WorldConnection, WorldEdge> {
+
+    @Override
+    public WorldEdge createEdge(World node, String cursor) {
+        return new WorldEdge(node, cursor);
+    }
+
+    @Override
+    public String getCursor(WorldEdge edge) {
+        return edge.getCursor();
+    }
+
+    @Override
+    public WorldConnection createConnection(List<WorldEdge> edges, List<World> nodes,
+                                              boolean hasNextPage, boolean hasPreviousPage,
+                                              String startCursor, String endCursor, Integer totalCount) {
+        PageInfo pageInfo = new PageInfo(hasNextPage, hasPreviousPage, startCursor, endCursor);
+        return new WorldConnection(pageInfo, edges, nodes, totalCount);
+    }
+}
@@ -0,0 +1,35 @@
+package com.barrows.travller.api.graphql.relay.world;
+
+import com.barrows.travller.api.model.World;
+
+/**
+ * An edge in a connection from an object to another object.
+ */
+public class WorldEdge {
+    private World node;
+    private String cursor;
+
+    public WorldEdge() {
+    }
+
+    public WorldEdge(World node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    public World getNode() {
+        return node;
+    }
+
+    public void setNode(World node) {
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
@@ -0,0 +1,32 @@
+package com.barrows.travller.api.lifepath;
+
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.Skill;
+
+import java.util.List;
+
+/**
+ * The simulated outcome of a career for one qualification characteristic value.
+ * Apart from the qualification rate, the figures are for a character who joins the career.
+ *
+ * @param career The career
+ * @param qualificationValue The value of the career's qualification characteristic that was simulated
+ * @param terms The number of terms each simulated character tried to serve
+ * @param runs The number of simulated lifepaths
+ * @param qualificationRate The fraction of characters who qualify
+ * @param survivalByTerm For each term, the fraction of the characters starting it who survive it
+ * @param survivalRate The fraction of characters who survive every term
+ * @param expectedCredits The average credits from term benefits and mustering out, dead characters included
+ * @param skills How often each skill of the career is gained
+ */
+public record CareerOdds(Career career, int qualificationValue, int terms, int runs, double qualificationRate,
+                         List<Double> survivalByTerm, double survivalRate, double expectedCredits,
+                         List<SkillOdds> skills) {
+
+    /**
+     * @param skill The skill
+     * @param frequency The fraction of characters who gain the skill at least once
+     */
+    public record SkillOdds(Skill skill, double frequency) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.barrows.travller.api.lifepath;
+
+import com.barrows.travller.api.catalog.ReferenceData;
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.Skill;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo simulator of career outcomes, so players can see their odds before committing to a career.
+ * A career is reduced to a few numbers before simulating, so the simulation loop touches no entities.
+ * The runs are split across a dedicated fork-join pool, and each task splits its own {@link SplittableRandom}
+ * off its parent's, so workers never share a random generator.
+ * <p>
+ * Of a character's characteristics, only the value of the career's qualification characteristic changes
+ * the outcome under {@link LifepathRules}, so that value is the bucket results are cached by. Results are
+ * also keyed by the version of the tenant's reference data, so editing a career makes its cached odds
+ * unreachable.
+ */
+@Component
+public class CareerSimulator implements AutoCloseable {
+
+    /**
+     * The highest characteristic value that is simulated; higher values always qualify anyway.
+     */
+    public static final int MAX_CHARACTERISTIC = 15;
+
+    private static final int RUNS_PER_TASK = 10_000;
+
+    private final int runs;
+    private final ForkJoinPool pool;
+    private final Map<Key, CareerOdds> cache;
+
+    public CareerSimulator(@Value("${travller.career.simulation.runs:1000000}") int runs,
+                           @Value("${travller.career.simulation.parallelism:0}") int parallelism,
+                           @Value("${travller.career.simulation.cache.max-size:1000}") int maxSize) {
+        this.runs = runs;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CareerOdds> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the odds of a career, simulating them unless they are cached.
+     *
+     * @param referenceData The reference data the career belongs to
+     * @param career The career
+     * @param qualificationValue The character's value of the career's qualification characteristic
+     * @param terms The number of terms to serve, 1 to {@value CharacterGenerator#MAX_TERMS}
+     * @return The odds
+     */
+    public CareerOdds odds(ReferenceData referenceData, Career career, int qualificationValue, int terms) {
+        if (terms < 1 || terms > CharacterGenerator.MAX_TERMS) {
+            throw new IllegalArgumentException("terms must be between 1 and " + CharacterGenerator.MAX_TERMS);
+        }
+        int value = Math.max(0, Math.min(MAX_CHARACTERISTIC, qualificationValue));
+        Key key = new Key(referenceData.getTenantId(), referenceData.getVersion(), career.getId(), value, terms);
+        synchronized (cache) {
+            CareerOdds cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        CareerOdds odds = simulate(career, value, terms, runs, new SplittableRandom());
+        synchronized (cache) {
+            cache.put(key, odds);
+        }
+        return odds;
+    }
+
+    /**
+     * Simulate a career without caching.
+     *
+     * @param career The career
+     * @param qualificationValue The value of the career's qualification characteristic
+     * @param terms The number of terms to serve
+     * @param runs The number of lifepaths to simulate
+     * @param random The generator the workers' generators are split from
+     * @return The odds
+     */
+    public CareerOdds simulate(Career career, int qualificationValue, int terms, int runs, SplittableRandom random) {
+        List<Skill> skills = LifepathRules.termSkills(career);
+        CareerModel model = new CareerModel(qualificationValue, career.getQualificationDifficulty(), terms);
+        Tally tally = pool.invoke(new SimulationTask(model, runs, random));
+
+        List<Double> survivalByTerm = new ArrayList<>(terms);
+        for (int term = 0; term < terms; term++) {
+            survivalByTerm.add(tally.started[term] == 0 ? 0.0 : (double) tally.survived[term] / tally.started[term]);
+        }
+        List<CareerOdds.SkillOdds> skillOdds = new ArrayList<>(skills.size());
+        for (Skill skill : skills) {
+            skillOdds.add(new CareerOdds.SkillOdds(skill, (double) tally.skilled / runs));
+        }
+        return new CareerOdds(career, qualificationValue, terms, runs, (double) tally.qualified / runs,
+                survivalByTerm, (double) tally.survived[terms - 1] / runs, (double) tally.credits / runs, skillOdds);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private record Key(Long tenantId, long version, Long careerId, int qualificationValue, int terms) {
+    }
+
+    /**
+     * The inputs of one simulated lifepath.
+     */
+    private record CareerModel(int qualificationValue, int qualificationDifficulty, int terms) {
+
+        /**
+         * Simulate lifepaths, following the rules of {@link CharacterGenerator}.
+         */
+        Tally run(int runs, SplittableRandom random) {
+            Tally tally = new Tally(terms);
+            for (int i = 0; i < runs; i++) {
+                if (LifepathRules.rollDice(random, 2, 6) + qualificationValue >= qualificationDifficulty) {
+                    tally.qualified++;
+                }
+
+                long credits = 0;
+                int served = 0;
+                for (int term = 0; term < terms; term++) {
+                    tally.started[term]++;
+                    if (LifepathRules.rollDice(random, 2, 6) < LifepathRules.SURVIVAL_TARGET) {
+                        break;
+                    }
+                    tally.survived[term]++;
+                    served++;
+                    if (LifepathRules.termBenefit(LifepathRules.rollDice(random, 1, 6))
+                            .equals(LifepathRules.CREDITS_BENEFIT)) {
+                        credits += LifepathRules.CREDITS_BENEFIT_AMOUNT;
+                    }
+                }
+
+                if (served > 0) {
+                    tally.skilled++;
+                }
+                if (served == terms) {
+                    for (int term = 0; term < terms; term++) {
+                        credits += LifepathRules.musterOutCash(LifepathRules.rollDice(random, 1, 6));
+                    }
+                }
+                tally.credits += credits;
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * Counts of simulated outcomes, summed across workers.
+     */
+    private static final class Tally {
+        private final long[] started;
+        private final long[] survived;
+        private long qualified;
+        private long skilled;
+        private long credits;
+
+        Tally(int terms) {
+            this.started = new long[terms];
+            this.survived = new long[terms];
+        }
+
+        Tally merge(Tally other) {
+            for (int term = 0; term < started.length; term++) {
+                started[term] += other.started[term];
+                survived[term] += other.survived[term];
+            }
+            qualified += other.qualified;
+            skilled += other.skilled;
+            credits += other.credits;
+            return this;
+        }
+    }
+
+    private static final class SimulationTask extends RecursiveTask<Tally> {
+        private final CareerModel model;
+        private final int runs;
+        private final SplittableRandom random;
+
+        SimulationTask(CareerModel model, int runs, SplittableRandom random) {
+            this.model = model;
+            this.runs = runs;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (runs <= RUNS_PER_TASK) {
+                return model.run(runs, random);
+            }
+            int half = runs / 2;
+            SimulationTask left = new SimulationTask(model, half, random.split());
+            left.fork();
+            Tally right = new SimulationTask(model, runs - half, random).compute();
+            return right.merge(left.join());
+        }
+    }
+}
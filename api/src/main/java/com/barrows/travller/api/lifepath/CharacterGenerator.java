@@ -0,0 +1,271 @@
+package com.barrows.travller.api.lifepath;
+
+import com.barrows.travller.api.catalog.ReferenceData;
+import com.barrows.travller.api.catalog.ReferenceDataCatalog;
+import com.barrows.travller.api.dice.DiceService;
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.CareerTerm;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.CharacterStatus;
+import com.barrows.travller.api.model.Characteristic;
+import com.barrows.travller.api.model.CharacteristicType;
+import com.barrows.travller.api.model.Homeworld;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.repository.CharacterRepository;
+import com.barrows.travller.api.repository.HomeworldRepository;
+import com.barrows.travller.api.tenant.TenantService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates complete characters in bulk, for referees who need a crowd of NPCs at once.
+ * Each character runs the whole lifepath of the character creation mutations - characteristics, homeworld,
+ * career qualification, terms of service and mustering out - in memory against the tenant's
+ * {@link ReferenceData}. The characters are then inserted in one transaction, with the JDBC batch size raised
+ * so the whole character graph goes to the database in a handful of batches instead of a save per step.
+ */
+@Service
+public class CharacterGenerator {
+
+    /**
+     * The career a character who fails qualification may be drafted into.
+     */
+    public static final String DRAFT_CAREER = "Marines";
+
+    /**
+     * The number of terms a character serves when no number is requested.
+     */
+    public static final int DEFAULT_TERMS = 3;
+
+    /**
+     * The most terms a generated character may serve.
+     */
+    public static final int MAX_TERMS = 7;
+
+    private static final String DEFAULT_NAME_PREFIX = "NPC";
+
+    private final CharacterRepository characterRepository;
+    private final HomeworldRepository homeworldRepository;
+    private final ReferenceDataCatalog referenceDataCatalog;
+    private final TenantService tenantService;
+    private final DiceService diceService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxCount;
+    private final int batchSize;
+
+    public CharacterGenerator(CharacterRepository characterRepository,
+                              HomeworldRepository homeworldRepository,
+                              ReferenceDataCatalog referenceDataCatalog,
+                              TenantService tenantService,
+                              DiceService diceService,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${travller.character.generation.max-count:1000}") int maxCount,
+                              @Value("${travller.character.generation.batch-size:500}") int batchSize) {
+        this.characterRepository = characterRepository;
+        this.homeworldRepository = homeworldRepository;
+        this.referenceDataCatalog = referenceDataCatalog;
+        this.tenantService = tenantService;
+        this.diceService = diceService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxCount = maxCount;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Generate and save characters for the current tenant.
+     * Options that are not set are chosen at random for each character.
+     *
+     * @param count The number of characters to generate
+     * @param options The generation options
+     * @return The saved characters, in generation order
+     */
+    public List<Character> generate(int count, Options options) {
+        if (count < 1 || count > maxCount) {
+            throw new IllegalArgumentException("count must be between 1 and " + maxCount);
+        }
+        int terms = options.terms() != null ? options.terms() : DEFAULT_TERMS;
+        if (terms < 0 || terms > MAX_TERMS) {
+            throw new IllegalArgumentException("terms must be between 0 and " + MAX_TERMS);
+        }
+
+        ReferenceData referenceData = referenceDataCatalog.current();
+        List<Race> races = options.raceId() != null
+                ? List.of(referenceData.findRace(options.raceId())
+                        .orElseThrow(() -> new IllegalArgumentException("Race not found")))
+                : referenceData.getRaces();
+        List<Career> careers = options.careerId() != null
+                ? List.of(referenceData.findCareer(options.careerId())
+                        .orElseThrow(() -> new IllegalArgumentException("Career not found")))
+                : referenceData.getCareers();
+        if (races.isEmpty()) {
+            throw new IllegalStateException("No races are defined");
+        }
+        if (careers.isEmpty()) {
+            throw new IllegalStateException("No careers are defined");
+        }
+        String namePrefix = options.namePrefix() != null && !options.namePrefix().isBlank()
+                ? options.namePrefix().trim()
+                : DEFAULT_NAME_PREFIX;
+        // Generated characters are saved, so they are always rolled with the request's server-generated seed
+        RandomGenerator random = diceService.current().split();
+
+        return transactionTemplate.execute(status -> {
+            Homeworld homeworld = options.homeworldId() != null
+                    ? homeworldRepository.findById(options.homeworldId())
+                            .orElseThrow(() -> new IllegalArgumentException("Homeworld not found"))
+                    : null;
+
+            List<Character> characters = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Race race = races.get(random.nextInt(races.size()));
+                Career career = careers.get(random.nextInt(careers.size()));
+                Character character = lifepath(namePrefix + " " + (i + 1), race, homeworld, career, terms,
+                        referenceData, random);
+                characters.add(tenantService.setTenant(character));
+            }
+
+            Session session = entityManager.unwrap(Session.class);
+            Integer previousBatchSize = session.getJdbcBatchSize();
+            session.setJdbcBatchSize(batchSize);
+            try {
+                List<Character> saved = characterRepository.saveAll(characters);
+                characterRepository.flush();
+                return saved;
+            } finally {
+                session.setJdbcBatchSize(previousBatchSize);
+            }
+        });
+    }
+
+    /**
+     * Run one character through the lifepath, following the rules of the step-by-step mutations.
+     */
+    private Character lifepath(String name, Race race, Homeworld homeworld, Career career, int terms,
+                               ReferenceData referenceData, RandomGenerator random) {
+        Character character = new Character(name, race);
+        for (CharacteristicType type : CharacteristicType.values()) {
+            character.addCharacteristic(new Characteristic(type, LifepathRules.rollDice(random, 2, 6)));
+        }
+
+        if (homeworld != null) {
+            character.setHomeworld(homeworld);
+            for (Skill skill : homeworld.getCommonSkills()) {
+                LifepathRules.learn(character, skill);
+            }
+        }
+
+        character.selectCareer(career);
+        Career serving = qualify(character, career, referenceData, random);
+        if (serving != null) {
+            for (int term = 1; term <= terms && character.getStatus() == CharacterStatus.ALIVE; term++) {
+                serveTerm(character, serving, term, referenceData, random);
+            }
+            if (character.getStatus() == CharacterStatus.ALIVE && !character.getCareerHistory().isEmpty()) {
+                musterOut(character, referenceData, random);
+            }
+        }
+        return character;
+    }
+
+    /**
+     * Attempt to qualify for a career, with a chance of being drafted on failure.
+     *
+     * @return The career the character serves in, or null if they neither qualified nor were drafted
+     */
+    private Career qualify(Character character, Career career, ReferenceData referenceData, RandomGenerator random) {
+        Characteristic characteristic = character.getCharacteristic(career.getQualificationCharacteristic());
+        int roll = LifepathRules.rollDice(random, 2, 6) + (characteristic != null ? characteristic.getValue() : 0);
+        if (roll >= career.getQualificationDifficulty()) {
+            character.joinCareer(career, false);
+            return career;
+        }
+
+        if (random.nextBoolean()) {
+            Career draft = referenceData.findCareerByName(DRAFT_CAREER).orElse(null);
+            if (draft != null) {
+                character.joinCareer(draft, true);
+                return draft;
+            }
+        }
+        character.failQualification();
+        return null;
+    }
+
+    private void serveTerm(Character character, Career career, int termNumber, ReferenceData referenceData,
+                           RandomGenerator random) {
+        boolean survived = LifepathRules.rollDice(random, 2, 6) >= LifepathRules.SURVIVAL_TARGET;
+
+        CareerTerm careerTerm = new CareerTerm(career, termNumber);
+        careerTerm.setRank(1);
+        careerTerm.setSurvived(survived);
+
+        if (survived) {
+            for (Skill skill : LifepathRules.termSkills(career)) {
+                LifepathRules.learn(character, skill);
+                careerTerm.addSkill(skill);
+            }
+
+            String benefit = LifepathRules.termBenefit(LifepathRules.rollDice(random, 1, 6));
+            careerTerm.addBenefit(benefit);
+            if (benefit.equals(LifepathRules.CREDITS_BENEFIT)) {
+                character.setCredits(character.getCredits() + LifepathRules.CREDITS_BENEFIT_AMOUNT);
+            } else if (benefit.equals(LifepathRules.WEAPON_BENEFIT)) {
+                referenceData.randomWeapon(random).ifPresent(weapon -> LifepathRules.equip(character, weapon));
+            }
+
+            character.setAge(character.getAge() + LifepathRules.TERM_YEARS);
+        }
+
+        character.completeTerm(careerTerm);
+    }
+
+    private void musterOut(Character character, ReferenceData referenceData, RandomGenerator random) {
+        int terms = character.getCareerTerm();
+        int rank = character.getCareerRank();
+        character.musterOut();
+
+        for (int i = 0; i < terms; i++) {
+            int amount = LifepathRules.musterOutCash(LifepathRules.rollDice(random, 1, 6));
+            character.setCredits(character.getCredits() + amount);
+        }
+
+        int materialBenefits = LifepathRules.materialBenefits(terms, rank);
+        for (int i = 0; i < materialBenefits; i++) {
+            switch (LifepathRules.materialBenefit(LifepathRules.rollDice(random, 1, 6))) {
+                case INTELLIGENCE -> LifepathRules.improve(character, CharacteristicType.INTELLIGENCE);
+                case EDUCATION -> LifepathRules.improve(character, CharacteristicType.EDUCATION);
+                case WEAPON -> referenceData.randomWeapon(random)
+                        .ifPresent(weapon -> LifepathRules.equip(character, weapon));
+                case ARMOR -> referenceData.randomArmor(random)
+                        .ifPresent(armor -> LifepathRules.equip(character, armor));
+                default -> {
+                    // Passages are handled by game logic
+                }
+            }
+        }
+    }
+
+    /**
+     * Options for {@link #generate(int, Options)}; any of them may be null.
+     *
+     * @param namePrefix The prefix of the generated names, which are numbered from 1
+     * @param raceId The race of every character, or null for a random race each
+     * @param homeworldId The homeworld of every character, or null for none
+     * @param careerId The career every character tries to join, or null for a random career each
+     * @param terms The number of terms each character serves unless they die, {@value #DEFAULT_TERMS} by default
+     */
+    public record Options(String namePrefix, Long raceId, Long homeworldId, Long careerId, Integer terms) {
+    }
+}
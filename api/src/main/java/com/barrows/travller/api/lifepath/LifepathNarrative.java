@@ -0,0 +1,100 @@
+package com.barrows.travller.api.lifepath;
+
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.CareerTerm;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Homeworld;
+import com.barrows.travller.api.model.LifepathPhase;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes the lifepath of a character from their lifepath state.
+ * <p>
+ * The lifepath steps only update the structured state on {@link Character}; the text is generated here when the
+ * lifepath is requested. It is kept apart from the background the player wrote, which is stored as given.
+ */
+public final class LifepathNarrative {
+
+    private LifepathNarrative() {
+    }
+
+    /**
+     * Write the lifepath of a character from the associations held by the character.
+     *
+     * @param character The character
+     * @param currentCareer The career of {@link Character#getCurrentCareerId()}, or null if there is none
+     * @return The lifepath so far
+     */
+    public static String lifepath(Character character, Career currentCareer) {
+        return lifepath(character, character.getHomeworld(), character.getCareerHistory(), currentCareer);
+    }
+
+    /**
+     * Write the lifepath of a character from associations that were loaded separately, e.g. for a whole batch
+     * of characters at once.
+     *
+     * @param character The character
+     * @param homeworld The character's homeworld, or null if there is none
+     * @param history The character's career history, oldest term first
+     * @param currentCareer The career of {@link Character#getCurrentCareerId()}, or null if there is none
+     * @return The lifepath so far
+     */
+    public static String lifepath(Character character, Homeworld homeworld, List<CareerTerm> history,
+                                  Career currentCareer) {
+        StringBuilder text = new StringBuilder();
+        if (homeworld != null) {
+            text.append("Born and raised on ").append(homeworld.getName()).append(". ");
+        }
+
+        LifepathPhase phase = character.getLifepathPhase();
+        // The last terms of the history are still being served unless the character has left that career
+        boolean serving = character.getCareerTerm() > 0
+                && (phase == LifepathPhase.SERVING || phase == LifepathPhase.DECEASED);
+
+        int firstServed = serving ? Math.max(history.size() - character.getCareerTerm(), 0) : history.size();
+        int terms = 0;
+        for (int i = 0; i < history.size(); i++) {
+            CareerTerm term = history.get(i);
+            String career = term.getCareer().getName();
+            boolean lastRun = i >= firstServed;
+            if (terms == 0) {
+                text.append(lastRun ? joined(career, character.isDrafted()) : "Joined the " + career + ". ");
+            }
+            terms++;
+            text.append(term.isSurvived() ? "Completed a term in the " : "Died during service in the ")
+                    .append(career).append(". ");
+
+            boolean runEnds = i == history.size() - 1 || i + 1 == firstServed
+                    || !Objects.equals(history.get(i + 1).getCareer().getId(), term.getCareer().getId());
+            if (runEnds && !lastRun && term.isSurvived()) {
+                text.append("Mustered out of the ").append(career).append(" after ").append(terms).append(" terms. ");
+            }
+            if (runEnds) {
+                terms = 0;
+            }
+        }
+
+        if (currentCareer != null) {
+            switch (phase) {
+                case QUALIFYING -> text.append("Attempted to join the ").append(currentCareer.getName()).append(". ");
+                case PRE_CAREER -> text.append("Attempted to join the ").append(currentCareer.getName())
+                        .append(" but failed qualification. ");
+                case SERVING -> {
+                    if (!serving) {
+                        text.append(joined(currentCareer.getName(), character.isDrafted()));
+                    }
+                }
+                default -> {
+                    // Mustering out and death are told by the career history
+                }
+            }
+        }
+        return text.toString().trim();
+    }
+
+    private static String joined(String career, boolean drafted) {
+        return drafted ? "Was drafted into the " + career + ". " : "Qualified for the " + career + ". ";
+    }
+}
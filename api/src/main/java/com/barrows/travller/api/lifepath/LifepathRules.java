@@ -0,0 +1,202 @@
+package com.barrows.travller.api.lifepath;
+
+import com.barrows.travller.api.model.Armor;
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Characteristic;
+import com.barrows.travller.api.model.CharacteristicType;
+import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.model.Weapon;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * The dice rules of a career term and of mustering out, shared by the character generator and the
+ * career simulator so that the simulated odds match the characters that are actually generated.
+ */
+public final class LifepathRules {
+
+    /**
+     * The 2d6 roll needed to survive a term.
+     */
+    public static final int SURVIVAL_TARGET = 5;
+
+    /**
+     * The number of years a term takes.
+     */
+    public static final int TERM_YEARS = 4;
+
+    /**
+     * The number of skills gained in each term that is survived.
+     */
+    public static final int SKILLS_PER_TERM = 2;
+
+    /**
+     * The term benefit that pays out credits.
+     */
+    public static final String CREDITS_BENEFIT = "1000 Credits";
+
+    /**
+     * The credits paid out by {@link #CREDITS_BENEFIT}.
+     */
+    public static final int CREDITS_BENEFIT_AMOUNT = 1000;
+
+    /**
+     * The term benefit that hands out a random weapon.
+     */
+    public static final String WEAPON_BENEFIT = "Weapon";
+
+    /**
+     * The rank from which mustering out grants an extra material benefit.
+     */
+    public static final int SENIOR_RANK = 5;
+
+    /**
+     * The material benefits of mustering out, indexed by a 1d6 roll.
+     */
+    public enum MaterialBenefit {
+        LOW_PASSAGE, INTELLIGENCE, EDUCATION, WEAPON, ARMOR, HIGH_PASSAGE
+    }
+
+    private LifepathRules() {
+    }
+
+    /**
+     * Get the skills gained in a term of the career: the first distinct skills of its skill tables.
+     *
+     * @param career The career
+     * @return At most {@value #SKILLS_PER_TERM} skills
+     */
+    public static List<Skill> termSkills(Career career) {
+        return career.getSkillTables().stream()
+                .flatMap(table -> table.getSkills().stream())
+                .distinct()
+                .limit(SKILLS_PER_TERM)
+                .toList();
+    }
+
+    /**
+     * Add a skill the character does not have yet.
+     * Unlike {@link Character#addSkill(Skill)}, a known skill is left alone, since the skill entities
+     * come from the shared reference data and must not be modified.
+     *
+     * @param character The character
+     * @param skill The skill
+     */
+    public static void learn(Character character, Skill skill) {
+        if (character.getSkills().stream().noneMatch(known -> known.getId().equals(skill.getId()))) {
+            character.getSkills().add(skill);
+        }
+    }
+
+    /**
+     * Give the character a weapon they do not own yet; like {@link #learn}, it leaves shared entities alone.
+     *
+     * @param character The character
+     * @param weapon The weapon
+     */
+    public static void equip(Character character, Weapon weapon) {
+        if (character.getWeapons().stream().noneMatch(owned -> owned.getId().equals(weapon.getId()))) {
+            character.addWeapon(weapon);
+        }
+    }
+
+    /**
+     * Give the character armor they do not own yet; like {@link #learn}, it leaves shared entities alone.
+     *
+     * @param character The character
+     * @param armor The armor
+     */
+    public static void equip(Character character, Armor armor) {
+        if (character.getArmor().stream().noneMatch(owned -> owned.getId().equals(armor.getId()))) {
+            character.addArmor(armor);
+        }
+    }
+
+    /**
+     * Raise one of the character's characteristics by one, if the character has it.
+     *
+     * @param character The character
+     * @param type The characteristic
+     */
+    public static void improve(Character character, CharacteristicType type) {
+        Characteristic characteristic = character.getCharacteristic(type);
+        if (characteristic != null) {
+            characteristic.setValue(characteristic.getValue() + 1);
+        }
+    }
+
+    /**
+     * Get the benefit of a term for a 1d6 roll.
+     *
+     * @param roll The roll, 1 to 6
+     * @return The benefit
+     */
+    public static String termBenefit(int roll) {
+        return switch (roll) {
+            case 1 -> "Low Passage";
+            case 2 -> CREDITS_BENEFIT;
+            case 3 -> "2 Ship Shares";
+            case 4 -> WEAPON_BENEFIT;
+            case 5 -> "Combat Implant";
+            case 6 -> "Advanced Education";
+            default -> "Nothing";
+        };
+    }
+
+    /**
+     * Get the cash paid out when mustering out for a 1d6 roll; one roll is made per term served.
+     *
+     * @param roll The roll, 1 to 6
+     * @return The credits
+     */
+    public static int musterOutCash(int roll) {
+        return switch (roll) {
+            case 1 -> 1000;
+            case 2 -> 5000;
+            case 3, 4 -> 10000;
+            case 5 -> 20000;
+            case 6 -> 50000;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Get the number of material benefits of mustering out: one per term served, and one more from
+     * {@value #SENIOR_RANK}.
+     *
+     * @param terms The number of terms served
+     * @param rank The rank reached
+     * @return The number of material benefit rolls
+     */
+    public static int materialBenefits(int terms, int rank) {
+        return terms + (rank >= SENIOR_RANK ? 1 : 0);
+    }
+
+    /**
+     * Get the material benefit of mustering out for a 1d6 roll.
+     *
+     * @param roll The roll, 1 to 6
+     * @return The benefit
+     */
+    public static MaterialBenefit materialBenefit(int roll) {
+        return MaterialBenefit.values()[roll - 1];
+    }
+
+    /**
+     * Roll dice and sum them.
+     *
+     * @param random The random generator to use
+     * @param count Number of dice to roll
+     * @param sides Number of sides on each die
+     * @return The sum of the dice rolls
+     */
+    public static int rollDice(RandomGenerator random, int count, int sides) {
+        int sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += random.nextInt(sides) + 1;
+        }
+        return sum;
+    }
+}
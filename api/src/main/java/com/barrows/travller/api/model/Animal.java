@@ -26,7 +26,8 @@ public class Animal {
      * The unique identifier for the animal.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "animals_id_seq")
+    @SequenceGenerator(name = "animals_id_seq", sequenceName = "animals_id_seq", allocationSize = 50)
     private Long id;
 
     /**
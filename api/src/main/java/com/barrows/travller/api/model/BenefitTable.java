@@ -7,12 +7,16 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a benefit table entry for mustering out.
  */
 @Entity
 @Table(name = "benefit_tables")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class BenefitTable {
@@ -20,7 +24,8 @@ public class BenefitTable {
      * The unique identifier for the benefit table entry.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benefit_tables_id_seq")
+    @SequenceGenerator(name = "benefit_tables_id_seq", sequenceName = "benefit_tables_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -7,6 +7,8 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,6 +22,8 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "careers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class Career {
@@ -28,7 +32,8 @@ public class Career {
      * The unique identifier for the career.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "careers_id_seq")
+    @SequenceGenerator(name = "careers_id_seq", sequenceName = "careers_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -49,6 +54,7 @@ public class Career {
      * The qualification requirements for this career.
      * Map of characteristic type to minimum value required.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection
     @CollectionTable(name = "career_qualification_requirements", joinColumns = @JoinColumn(name = "career_id"))
     @MapKeyEnumerated(EnumType.STRING)
@@ -66,6 +72,7 @@ public class Career {
     /**
      * The skills available during basic training (first term only).
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     @JoinTable(
         name = "career_basic_training_skills",
@@ -77,6 +84,7 @@ public class Career {
     /**
      * The service skills table (skills gained during service).
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "career_id")
     private List<SkillTable> serviceSkillTables;
@@ -84,6 +92,7 @@ public class Career {
     /**
      * The advanced education skills table (skills gained with EDU 8+).
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "career_id")
     private List<SkillTable> advancedEducationSkillTables;
@@ -97,6 +106,7 @@ public class Career {
     /**
      * The ranks and rank benefits for this career.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "career_id")
     private List<Rank> ranks;
@@ -104,6 +114,7 @@ public class Career {
     /**
      * The mustering out benefits table.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "career_id")
     private List<BenefitTable> musteringOutBenefits;
@@ -22,7 +22,8 @@ public class CareerTerm {
      * The unique identifier for the career term.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "career_terms_id_seq")
+    @SequenceGenerator(name = "career_terms_id_seq", sequenceName = "career_terms_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -26,7 +26,8 @@ public class Character extends TenantAwareEntity {
      * The unique identifier for the character.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "characters_id_seq")
+    @SequenceGenerator(name = "characters_id_seq", sequenceName = "characters_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -60,7 +61,7 @@ public class Character extends TenantAwareEntity {
      * The characteristics of the character (STR, DEX, END, INT, EDU, SOC).
      */
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "character_id")
+    @JoinColumn(name = "character_id", nullable = false)
     private List<Characteristic> characteristics;
 
     /**
@@ -85,7 +86,7 @@ public class Character extends TenantAwareEntity {
      * The careers the character has pursued.
      */
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "character_id")
+    @JoinColumn(name = "character_id", nullable = false)
     private List<CareerTerm> careerHistory;
 
     /**
@@ -131,11 +132,47 @@ public class Character extends TenantAwareEntity {
     private int credits;
 
     /**
-     * The character's background information.
+     * The character's background information, as written by the player.
+     * The lifepath part of the background is not stored; it is generated from the lifepath state when requested.
      */
     @Column(length = 2000)
     private String background;
 
+    /**
+     * The ID of the career the character is qualifying for, serving in or last left.
+     * After a failed qualification, it is the career the character failed to join.
+     */
+    @Column(name = "current_career_id")
+    private Long currentCareerId;
+
+    /**
+     * The number of terms served in the current career.
+     */
+    @Min(0)
+    @Column(name = "career_term", nullable = false)
+    private int careerTerm;
+
+    /**
+     * The rank held in the current career.
+     */
+    @Min(0)
+    @Column(name = "career_rank", nullable = false)
+    private int careerRank;
+
+    /**
+     * Whether the character was drafted into the current career.
+     */
+    @Column(nullable = false)
+    private boolean drafted;
+
+    /**
+     * Where the character is in the career lifepath.
+     */
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "lifepath_phase", nullable = false)
+    private LifepathPhase lifepathPhase;
+
     /**
      * The character's current status (Alive, Dead, Retired).
      */
@@ -162,6 +199,7 @@ public class Character extends TenantAwareEntity {
         this.credits = 0;
         this.background = "";
         this.status = CharacterStatus.ALIVE;
+        this.lifepathPhase = LifepathPhase.PRE_CAREER;
     }
 
     /**
@@ -309,6 +347,87 @@ public class Character extends TenantAwareEntity {
         age += 4; // Each term is 4 years
     }
 
+    /**
+     * Selects a career to attempt to qualify for.
+     *
+     * @param career The career
+     * @throws IllegalStateException if the character is serving in a career or is dead
+     */
+    public void selectCareer(Career career) {
+        if (lifepathPhase == LifepathPhase.SERVING) {
+            throw new IllegalStateException("Character must muster out before selecting another career");
+        }
+        if (lifepathPhase == LifepathPhase.DECEASED) {
+            throw new IllegalStateException("Character is not alive");
+        }
+        currentCareerId = career.getId();
+        careerTerm = 0;
+        careerRank = 0;
+        drafted = false;
+        lifepathPhase = LifepathPhase.QUALIFYING;
+    }
+
+    /**
+     * Joins a career after qualifying for the selected career or being drafted.
+     *
+     * @param career The career joined
+     * @param drafted Whether the character was drafted into the career
+     * @throws IllegalStateException if no career was selected for qualification
+     */
+    public void joinCareer(Career career, boolean drafted) {
+        requireLifepathPhase(LifepathPhase.QUALIFYING, "No career selected for qualification");
+        this.currentCareerId = career.getId();
+        this.drafted = drafted;
+        lifepathPhase = LifepathPhase.SERVING;
+    }
+
+    /**
+     * Fails to qualify for the selected career; another career can then be selected.
+     *
+     * @throws IllegalStateException if no career was selected for qualification
+     */
+    public void failQualification() {
+        requireLifepathPhase(LifepathPhase.QUALIFYING, "No career selected for qualification");
+        lifepathPhase = LifepathPhase.PRE_CAREER;
+    }
+
+    /**
+     * Completes a term in the current career, adding it to the career history.
+     * A character who did not survive the term dies.
+     *
+     * @param careerTerm The term served
+     * @throws IllegalStateException if the character is not serving in a career
+     */
+    public void completeTerm(CareerTerm careerTerm) {
+        requireLifepathPhase(LifepathPhase.SERVING, "No qualified career found");
+        careerHistory.add(careerTerm);
+        this.careerTerm = careerTerm.getTermNumber();
+        careerRank = careerTerm.getRank();
+        if (!careerTerm.isSurvived()) {
+            status = CharacterStatus.DEAD;
+            lifepathPhase = LifepathPhase.DECEASED;
+        }
+    }
+
+    /**
+     * Leaves the current career.
+     *
+     * @throws IllegalStateException if the character is not serving in a career or has not completed a term
+     */
+    public void musterOut() {
+        requireLifepathPhase(LifepathPhase.SERVING, "Character is not serving in a career");
+        if (careerTerm == 0) {
+            throw new IllegalStateException("Character has not completed any career terms");
+        }
+        lifepathPhase = LifepathPhase.MUSTERED_OUT;
+    }
+
+    private void requireLifepathPhase(LifepathPhase phase, String message) {
+        if (lifepathPhase != phase) {
+            throw new IllegalStateException(message);
+        }
+    }
+
     /**
      * Adds a weapon to the character's inventory.
      *
@@ -21,7 +21,8 @@ public class Characteristic {
      * The unique identifier for the characteristic.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "characteristics_id_seq")
+    @SequenceGenerator(name = "characteristics_id_seq", sequenceName = "characteristics_id_seq", allocationSize = 50)
     private Long id;
 
     /**
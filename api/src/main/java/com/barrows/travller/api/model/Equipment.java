@@ -23,7 +23,8 @@ public class Equipment {
      * The unique identifier for the equipment.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipment_id_seq")
+    @SequenceGenerator(name = "equipment_id_seq", sequenceName = "equipment_id_seq", allocationSize = 50)
     private Long id;
 
     /**
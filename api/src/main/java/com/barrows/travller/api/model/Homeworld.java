@@ -3,6 +3,8 @@ package com.barrows.travller.api.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +16,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "homeworlds")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class Homeworld {
@@ -22,7 +26,8 @@ public class Homeworld {
      * The unique identifier for the homeworld.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "homeworlds_id_seq")
+    @SequenceGenerator(name = "homeworlds_id_seq", sequenceName = "homeworlds_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -48,6 +53,7 @@ public class Homeworld {
     /**
      * The trade codes that apply to this world.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection
     @CollectionTable(name = "homeworld_trade_codes", joinColumns = @JoinColumn(name = "homeworld_id"))
     @Column(name = "trade_code")
@@ -56,6 +62,7 @@ public class Homeworld {
     /**
      * The skills commonly found on this homeworld.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     @JoinTable(
         name = "homeworld_common_skills",
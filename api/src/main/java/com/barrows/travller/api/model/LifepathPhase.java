@@ -0,0 +1,24 @@
+package com.barrows.travller.api.model;
+
+/**
+ * Enum representing where a character is in the career lifepath.
+ * <p>
+ * A character starts before any career, selects a career to qualify for, serves terms in it and musters out,
+ * after which another career can be selected. A failed qualification returns the character to before any
+ * career; dying during a term ends the lifepath.
+ */
+@lombok.Getter
+public enum LifepathPhase {
+    PRE_CAREER("Pre-career"),
+    QUALIFYING("Qualifying"),
+    SERVING("Serving"),
+    MUSTERED_OUT("Mustered out"),
+    DECEASED("Deceased");
+
+    private final String displayName;
+
+    LifepathPhase(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
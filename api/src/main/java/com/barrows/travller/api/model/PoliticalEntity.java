@@ -23,7 +23,8 @@ public class PoliticalEntity {
      * The unique identifier for the political entity.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "political_entities_id_seq")
+    @SequenceGenerator(name = "political_entities_id_seq", sequenceName = "political_entities_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -3,6 +3,8 @@ package com.barrows.travller.api.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -15,6 +17,8 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "races")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class Race {
@@ -23,7 +27,8 @@ public class Race {
      * The unique identifier for the race.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "races_id_seq")
+    @SequenceGenerator(name = "races_id_seq", sequenceName = "races_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -49,6 +54,7 @@ public class Race {
      * Characteristic modifiers applied to characters of this race.
      * Map of characteristic type to modifier value.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection
     @CollectionTable(name = "race_characteristic_modifiers", joinColumns = @JoinColumn(name = "race_id"))
     @MapKeyEnumerated(EnumType.STRING)
@@ -59,6 +65,7 @@ public class Race {
     /**
      * Special abilities or traits of this race.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection
     @CollectionTable(name = "race_special_abilities", joinColumns = @JoinColumn(name = "race_id"))
     @Column(name = "ability")
@@ -67,6 +74,7 @@ public class Race {
     /**
      * Typical homeworlds for this race.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection
     @CollectionTable(name = "race_typical_homeworlds", joinColumns = @JoinColumn(name = "race_id"))
     @Column(name = "homeworld")
@@ -3,12 +3,16 @@ package com.barrows.travller.api.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a rank in a career.
  */
 @Entity
 @Table(name = "ranks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class Rank {
@@ -16,7 +20,8 @@ public class Rank {
      * The unique identifier for the rank.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ranks_id_seq")
+    @SequenceGenerator(name = "ranks_id_seq", sequenceName = "ranks_id_seq", allocationSize = 50)
     private Long id;
 
     /**
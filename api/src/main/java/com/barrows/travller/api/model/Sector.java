@@ -22,7 +22,8 @@ public class Sector {
      * The unique identifier for the sector.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sectors_id_seq")
+    @SequenceGenerator(name = "sectors_id_seq", sequenceName = "sectors_id_seq", allocationSize = 50)
     private Long id;
 
     /**
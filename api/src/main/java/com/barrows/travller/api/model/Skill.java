@@ -3,6 +3,8 @@ package com.barrows.travller.api.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a skill in the Traveller RPG system.
@@ -10,6 +12,8 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "skills")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class Skill {
@@ -18,7 +22,8 @@ public class Skill {
      * The unique identifier for the skill.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skills_id_seq")
+    @SequenceGenerator(name = "skills_id_seq", sequenceName = "skills_id_seq", allocationSize = 50)
     private Long id;
 
     /**
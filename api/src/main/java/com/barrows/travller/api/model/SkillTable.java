@@ -3,6 +3,8 @@ package com.barrows.travller.api.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -11,6 +13,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "skill_tables")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class SkillTable {
@@ -18,7 +22,8 @@ public class SkillTable {
      * The unique identifier for the skill table entry.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_tables_id_seq")
+    @SequenceGenerator(name = "skill_tables_id_seq", sequenceName = "skill_tables_id_seq", allocationSize = 50)
     private Long id;
 
     /**
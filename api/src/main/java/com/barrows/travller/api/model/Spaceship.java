@@ -22,7 +22,8 @@ public class Spaceship {
      * The unique identifier for the spaceship.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "spaceships_id_seq")
+    @SequenceGenerator(name = "spaceships_id_seq", sequenceName = "spaceships_id_seq", allocationSize = 50)
     private Long id;
 
     /**
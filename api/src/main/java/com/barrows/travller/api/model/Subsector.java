@@ -22,7 +22,8 @@ public class Subsector {
      * The unique identifier for the subsector.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subsectors_id_seq")
+    @SequenceGenerator(name = "subsectors_id_seq", sequenceName = "subsectors_id_seq", allocationSize = 50)
     private Long id;
 
     /**
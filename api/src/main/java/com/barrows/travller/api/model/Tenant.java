@@ -1,5 +1,6 @@
 package com.barrows.travller.api.model;
 
+import com.barrows.travller.api.tenant.TenantSchemaRouting;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -9,9 +10,10 @@ import lombok.NoArgsConstructor;
 /**
  * Represents a tenant in the multi-tenant Traveller RPG system.
  * Each tenant represents a separate game instance or campaign.
+ * Tenants always live in the shared schema, even when a tenant's own data has been given a dedicated schema.
  */
 @Entity
-@Table(name = "tenants")
+@Table(name = "tenants", schema = TenantSchemaRouting.SHARED_SCHEMA)
 @Data
 @NoArgsConstructor
 public class Tenant {
@@ -20,7 +22,9 @@ public class Tenant {
      * The unique identifier for the tenant.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tenants_id_seq")
+    @SequenceGenerator(name = "tenants_id_seq", sequenceName = "tenants_id_seq",
+            schema = TenantSchemaRouting.SHARED_SCHEMA, allocationSize = 50)
     private Long id;
 
     /**
@@ -37,6 +41,12 @@ public class Tenant {
     @Column(length = 2000)
     private String description;
 
+    /**
+     * The dedicated Postgres schema holding this tenant's data, or null if it uses the shared tables.
+     */
+    @Column(name = "schema_name", length = 63, unique = true)
+    private String schemaName;
+
     /**
      * Creates a new tenant with the specified name.
      *
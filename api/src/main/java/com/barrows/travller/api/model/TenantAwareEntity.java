@@ -4,16 +4,43 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
 
 /**
  * Base class for all entities that are tenant-aware in the multi-tenant Traveller RPG system.
  * This class provides common tenant-related functionality.
+ * <p>
+ * Every query and load by ID of a tenant-aware entity is restricted to the current tenant by the
+ * {@value #TENANT_FILTER} Hibernate filter, which is enabled on every session. A session opened without a
+ * tenant is bound to {@link #NO_TENANT}, so it sees no tenant-aware rows rather than every tenant's.
  */
 @MappedSuperclass
+@FilterDef(name = TenantAwareEntity.TENANT_FILTER,
+        parameters = @ParamDef(name = TenantAwareEntity.TENANT_PARAMETER, type = Long.class),
+        defaultCondition = "tenant_id = :" + TenantAwareEntity.TENANT_PARAMETER,
+        applyToLoadByKey = true)
+@Filter(name = TenantAwareEntity.TENANT_FILTER)
 @Getter
 @Setter
 public abstract class TenantAwareEntity {
 
+    /**
+     * The name of the Hibernate filter that restricts tenant-aware entities to one tenant.
+     */
+    public static final String TENANT_FILTER = "tenantFilter";
+
+    /**
+     * The name of the tenant ID parameter of the tenant filter.
+     */
+    public static final String TENANT_PARAMETER = "tenantId";
+
+    /**
+     * The tenant ID the filter is bound to when no tenant is set. No tenant has it, so nothing matches.
+     */
+    public static final Long NO_TENANT = -1L;
+
     /**
      * The tenant that owns this entity.
      */
@@ -3,6 +3,8 @@ package com.barrows.travller.api.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
@@ -12,6 +14,8 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "weapons")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class Weapon {
@@ -20,7 +24,8 @@ public class Weapon {
      * The unique identifier for the weapon.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weapons_id_seq")
+    @SequenceGenerator(name = "weapons_id_seq", sequenceName = "weapons_id_seq", allocationSize = 50)
     private Long id;
 
     /**
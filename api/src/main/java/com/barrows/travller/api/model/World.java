@@ -2,6 +2,7 @@ package com.barrows.travller.api.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
@@ -15,14 +16,16 @@ import java.util.List;
 @Entity
 @Table(name = "worlds")
 @Data
+@EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
-public class World {
+public class World extends TenantAwareEntity {
 
     /**
      * The unique identifier for the world.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "worlds_id_seq")
+    @SequenceGenerator(name = "worlds_id_seq", sequenceName = "worlds_id_seq", allocationSize = 50)
     private Long id;
 
     /**
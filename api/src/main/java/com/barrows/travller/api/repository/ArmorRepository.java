@@ -2,7 +2,6 @@ package com.barrows.travller.api.repository;
 
 import com.barrows.travller.api.model.Armor;
 import com.barrows.travller.api.model.ArmorType;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,7 +13,7 @@ import java.util.List;
  * Provides methods for accessing and manipulating armor in the database.
  */
 @Repository
-public interface ArmorRepository extends JpaRepository<Armor, Long> {
+public interface ArmorRepository extends KeysetRepository<Armor> {
 
     /**
      * Finds armor by name containing the given string (case-insensitive).
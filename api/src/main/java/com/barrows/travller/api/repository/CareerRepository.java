@@ -2,11 +2,14 @@ package com.barrows.travller.api.repository;
 
 import com.barrows.travller.api.model.Career;
 import com.barrows.travller.api.model.CharacteristicType;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +18,7 @@ import java.util.Optional;
  * Provides methods for accessing and manipulating careers in the database.
  */
 @Repository
-public interface CareerRepository extends JpaRepository<Career, Long> {
+public interface CareerRepository extends KeysetRepository<Career> {
 
     /**
      * Finds careers by name containing the given string (case-insensitive).
@@ -31,6 +34,7 @@ public interface CareerRepository extends JpaRepository<Career, Long> {
      * @param name The exact name to search for
      * @return An optional containing the career if found
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Career> findByNameIgnoreCase(String name);
 
     /**
@@ -79,4 +83,58 @@ public interface CareerRepository extends JpaRepository<Career, Long> {
      */
     @Query("SELECT c FROM Career c WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(c.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Career> searchByNameOrDescription(@Param("searchTerm") String searchTerm);
+
+    /**
+     * Loads the service skill tables of all the given careers in a single query.
+     *
+     * @param ids The career IDs
+     * @return Rows of [career ID, skill table]
+     */
+    @Query("SELECT c.id, t FROM Career c JOIN c.serviceSkillTables t WHERE c.id IN :ids ORDER BY t.diceRoll")
+    List<Object[]> findServiceSkillTablesByCareerIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the advanced education skill tables of all the given careers in a single query.
+     *
+     * @param ids The career IDs
+     * @return Rows of [career ID, skill table]
+     */
+    @Query("SELECT c.id, t FROM Career c JOIN c.advancedEducationSkillTables t WHERE c.id IN :ids ORDER BY t.diceRoll")
+    List<Object[]> findAdvancedEducationSkillTablesByCareerIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the mustering out benefit tables of all the given careers in a single query.
+     *
+     * @param ids The career IDs
+     * @return Rows of [career ID, benefit table]
+     */
+    @Query("SELECT c.id, b FROM Career c JOIN c.musteringOutBenefits b WHERE c.id IN :ids ORDER BY b.diceRoll")
+    List<Object[]> findBenefitTablesByCareerIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the ranks of all the given careers in a single query.
+     *
+     * @param ids The career IDs
+     * @return Rows of [career ID, rank]
+     */
+    @Query("SELECT c.id, r FROM Career c JOIN c.ranks r WHERE c.id IN :ids ORDER BY r.level")
+    List<Object[]> findRanksByCareerIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the skill gained at each of the given ranks in a single query.
+     *
+     * @param ids The rank IDs
+     * @return Rows of [rank ID, skill]
+     */
+    @Query("SELECT r.id, s FROM Rank r JOIN r.skillGained s WHERE r.id IN :ids")
+    List<Object[]> findSkillsByRankIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the skill of each of the given skill table entries in a single query.
+     *
+     * @param ids The skill table IDs
+     * @return Rows of [skill table ID, skill]
+     */
+    @Query("SELECT t.id, s FROM SkillTable t JOIN t.skill s WHERE t.id IN :ids")
+    List<Object[]> findSkillsBySkillTableIds(@Param("ids") Collection<Long> ids);
 }
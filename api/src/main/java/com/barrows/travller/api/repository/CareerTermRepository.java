@@ -3,8 +3,11 @@ package com.barrows.travller.api.repository;
 import com.barrows.travller.api.model.Career;
 import com.barrows.travller.api.model.CareerTerm;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -91,4 +94,22 @@ public interface CareerTermRepository extends JpaRepository<CareerTerm, Long> {
      * @return A list of career terms for the specified career where the character was commissioned
      */
     List<CareerTerm> findByCareerAndCommissionedTrue(Career career);
+
+    /**
+     * Loads the career of each of the given career terms in a single query.
+     *
+     * @param ids The career term IDs
+     * @return Rows of [career term ID, career]
+     */
+    @Query("SELECT t.id, c FROM CareerTerm t JOIN t.career c WHERE t.id IN :ids")
+    List<Object[]> findCareersByCareerTermIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the skills gained in all the given career terms in a single query.
+     *
+     * @param ids The career term IDs
+     * @return Rows of [career term ID, skill]
+     */
+    @Query("SELECT t.id, s FROM CareerTerm t JOIN t.skillsGained s WHERE t.id IN :ids")
+    List<Object[]> findSkillsByCareerTermIds(@Param("ids") Collection<Long> ids);
 }
@@ -7,98 +7,171 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for the Character entity.
  * Provides methods for accessing and manipulating characters in the database.
- * Extends TenantAwareRepository to ensure tenant isolation.
+ * Extends TenantAwareRepository, so every query is restricted to the current tenant by the tenant filter.
  */
 @Repository
-public interface CharacterRepository extends TenantAwareRepository<Character, Long> {
+public interface CharacterRepository extends TenantAwareRepository<Character, Long>, KeysetRepository<Character> {
 
     /**
-     * Finds characters by name containing the given string (case-insensitive) for a specific tenant.
+     * Finds characters by name containing the given string (case-insensitive).
      *
      * @param name The name to search for
-     * @param tenantId The tenant ID
      * @return A list of matching characters
      */
-    List<Character> findByNameContainingIgnoreCaseAndTenantId(String name, Long tenantId);
+    List<Character> findByNameContainingIgnoreCase(String name);
 
     /**
-     * Finds characters by race for a specific tenant.
+     * Finds characters by race.
      *
      * @param race The race
-     * @param tenantId The tenant ID
      * @return A list of characters of the specified race
      */
-    List<Character> findByRaceAndTenantId(Race race, Long tenantId);
+    List<Character> findByRace(Race race);
 
     /**
-     * Finds characters by status for a specific tenant.
+     * Finds characters by status.
      *
      * @param status The character status
-     * @param tenantId The tenant ID
      * @return A list of characters with the specified status
      */
-    List<Character> findByStatusAndTenantId(CharacterStatus status, Long tenantId);
+    List<Character> findByStatus(CharacterStatus status);
 
     /**
-     * Finds characters that are alive for a specific tenant.
+     * Finds characters that are alive.
      *
-     * @param tenantId The tenant ID
      * @return A list of living characters
      */
-    @Query("SELECT c FROM Character c WHERE c.status != 'DECEASED' AND c.tenant.id = :tenantId")
-    List<Character> findLivingCharacters(@Param("tenantId") Long tenantId);
+    @Query("SELECT c FROM Character c WHERE c.status != 'DECEASED'")
+    List<Character> findLivingCharacters();
 
     /**
-     * Finds characters with age greater than or equal to the specified value for a specific tenant.
+     * Finds characters with age greater than or equal to the specified value.
      *
      * @param age The minimum age
-     * @param tenantId The tenant ID
      * @return A list of characters with the specified minimum age
      */
-    List<Character> findByAgeGreaterThanEqualAndTenantId(int age, Long tenantId);
+    List<Character> findByAgeGreaterThanEqual(int age);
 
     /**
-     * Finds characters with age less than or equal to the specified value for a specific tenant.
+     * Finds characters with age less than or equal to the specified value.
      *
      * @param age The maximum age
-     * @param tenantId The tenant ID
      * @return A list of characters with the specified maximum age
      */
-    List<Character> findByAgeLessThanEqualAndTenantId(int age, Long tenantId);
+    List<Character> findByAgeLessThanEqual(int age);
 
     /**
-     * Finds characters with a specific skill for a specific tenant.
+     * Finds characters with a specific skill.
      *
      * @param skillName The name of the skill
-     * @param tenantId The tenant ID
      * @return A list of characters with the specified skill
      */
-    @Query("SELECT c FROM Character c JOIN c.skills s WHERE s.name = :skillName AND c.tenant.id = :tenantId")
-    List<Character> findBySkillName(@Param("skillName") String skillName, @Param("tenantId") Long tenantId);
+    @Query("SELECT c FROM Character c JOIN c.skills s WHERE s.name = :skillName")
+    List<Character> findBySkillName(@Param("skillName") String skillName);
 
     /**
-     * Finds characters with a skill level greater than or equal to the specified value for a specific tenant.
+     * Finds characters with a skill level greater than or equal to the specified value.
      *
      * @param skillName The name of the skill
      * @param level The minimum skill level
-     * @param tenantId The tenant ID
      * @return A list of characters with the specified skill at the minimum level
      */
-    @Query("SELECT c FROM Character c JOIN c.skills s WHERE s.name = :skillName AND s.level >= :level AND c.tenant.id = :tenantId")
-    List<Character> findBySkillNameAndMinimumLevel(@Param("skillName") String skillName, @Param("level") int level, @Param("tenantId") Long tenantId);
+    @Query("SELECT c FROM Character c JOIN c.skills s WHERE s.name = :skillName AND s.level >= :level")
+    List<Character> findBySkillNameAndMinimumLevel(@Param("skillName") String skillName, @Param("level") int level);
 
     /**
-     * Searches for characters by name for a specific tenant.
+     * Searches for characters by name.
      *
      * @param searchTerm The term to search for in the name
-     * @param tenantId The tenant ID
      * @return A list of matching characters
      */
-    @Query("SELECT c FROM Character c WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) AND c.tenant.id = :tenantId")
-    List<Character> searchByName(@Param("searchTerm") String searchTerm, @Param("tenantId") Long tenantId);
+    @Query("SELECT c FROM Character c WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    List<Character> searchByName(@Param("searchTerm") String searchTerm);
+
+    /**
+     * Loads the race of each of the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, race]
+     */
+    @Query("SELECT c.id, r FROM Character c JOIN c.race r WHERE c.id IN :ids")
+    List<Object[]> findRacesByCharacterIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the homeworld of each of the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, homeworld]
+     */
+    @Query("SELECT c.id, h FROM Character c JOIN c.homeworld h WHERE c.id IN :ids")
+    List<Object[]> findHomeworldsByCharacterIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the equipped weapon of each of the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, weapon]
+     */
+    @Query("SELECT c.id, w FROM Character c JOIN c.equippedWeapon w WHERE c.id IN :ids")
+    List<Object[]> findEquippedWeaponsByCharacterIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the equipped armor of each of the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, armor]
+     */
+    @Query("SELECT c.id, a FROM Character c JOIN c.equippedArmor a WHERE c.id IN :ids")
+    List<Object[]> findEquippedArmorByCharacterIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the characteristics of all the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, characteristic]
+     */
+    @Query("SELECT c.id, ch FROM Character c JOIN c.characteristics ch WHERE c.id IN :ids ORDER BY ch.id")
+    List<Object[]> findCharacteristicsByCharacterIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the skills of all the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, skill]
+     */
+    @Query("SELECT c.id, s FROM Character c JOIN c.skills s WHERE c.id IN :ids")
+    List<Object[]> findSkillsByCharacterIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the career history of all the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, career term]
+     */
+    @Query("SELECT c.id, t FROM Character c JOIN c.careerHistory t WHERE c.id IN :ids ORDER BY t.id")
+    List<Object[]> findCareerTermsByCharacterIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the weapons of all the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, weapon]
+     */
+    @Query("SELECT c.id, w FROM Character c JOIN c.weapons w WHERE c.id IN :ids")
+    List<Object[]> findWeaponsByCharacterIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the armor of all the given characters in a single query.
+     *
+     * @param ids The character IDs
+     * @return Rows of [character ID, armor]
+     */
+    @Query("SELECT c.id, a FROM Character c JOIN c.armor a WHERE c.id IN :ids")
+    List<Object[]> findArmorByCharacterIds(@Param("ids") Collection<Long> ids);
 }
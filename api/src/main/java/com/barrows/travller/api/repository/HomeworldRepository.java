@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +41,13 @@ public interface HomeworldRepository extends JpaRepository<Homeworld, Long> {
      */
     @Query("SELECT h FROM Homeworld h WHERE LOWER(h.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Homeworld> findByNameContainingIgnoreCase(@Param("name") String name);
+
+    /**
+     * Loads the common skills of all the given homeworlds in a single query.
+     *
+     * @param ids The homeworld IDs
+     * @return Rows of [homeworld ID, skill]
+     */
+    @Query("SELECT h.id, s FROM Homeworld h JOIN h.commonSkills s WHERE h.id IN :ids")
+    List<Object[]> findCommonSkillsByHomeworldIds(@Param("ids") Collection<Long> ids);
 }
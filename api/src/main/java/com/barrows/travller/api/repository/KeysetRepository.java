@@ -0,0 +1,62 @@
+package com.barrows.travller.api.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Base repository interface for entities listed through keyset (cursor) pagination.
+ * Entities are ordered by (name, id); a page continues from the (name, id) of the last row
+ * of the previous page instead of skipping an OFFSET, so every page costs the same index range scan.
+ * The predicate {@code name >= :name AND (name > :name OR id > :id)} is the portable form of
+ * {@code (name, id) > (:name, :id)}.
+ *
+ * @param <T> The entity type
+ */
+@NoRepositoryBean
+public interface KeysetRepository<T> extends JpaRepository<T, Long> {
+
+    /**
+     * Finds the first entities in (name, id) order.
+     *
+     * @param limit The maximum number of entities to return
+     * @return The entities in ascending order
+     */
+    @Query("SELECT e FROM #{#entityName} e ORDER BY e.name, e.id")
+    List<T> findPageFirst(Limit limit);
+
+    /**
+     * Finds the entities following the given keyset position in (name, id) order.
+     *
+     * @param name The name of the last entity of the previous page
+     * @param id The ID of the last entity of the previous page
+     * @param limit The maximum number of entities to return
+     * @return The entities in ascending order
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE e.name >= :name AND (e.name > :name OR e.id > :id) ORDER BY e.name, e.id")
+    List<T> findPageAfter(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    /**
+     * Finds the last entities in (name, id) order.
+     *
+     * @param limit The maximum number of entities to return
+     * @return The entities in descending order
+     */
+    @Query("SELECT e FROM #{#entityName} e ORDER BY e.name DESC, e.id DESC")
+    List<T> findPageLast(Limit limit);
+
+    /**
+     * Finds the entities preceding the given keyset position in (name, id) order.
+     *
+     * @param name The name of the first entity of the next page
+     * @param id The ID of the first entity of the next page
+     * @param limit The maximum number of entities to return
+     * @return The entities in descending order
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE e.name <= :name AND (e.name < :name OR e.id < :id) ORDER BY e.name DESC, e.id DESC")
+    List<T> findPageBefore(@Param("name") String name, @Param("id") Long id, Limit limit);
+}
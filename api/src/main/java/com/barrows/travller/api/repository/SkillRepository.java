@@ -3,8 +3,10 @@ package com.barrows.travller.api.repository;
 import com.barrows.travller.api.model.CharacteristicType;
 import com.barrows.travller.api.model.Skill;
 import com.barrows.travller.api.model.SkillCategory;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,7 +18,7 @@ import java.util.Optional;
  * Provides methods for accessing and manipulating skills in the database.
  */
 @Repository
-public interface SkillRepository extends JpaRepository<Skill, Long> {
+public interface SkillRepository extends KeysetRepository<Skill> {
 
     /**
      * Finds skills by name containing the given string (case-insensitive).
@@ -32,6 +34,7 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
      * @param name The exact name to search for
      * @return An optional containing the skill if found
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Skill> findByNameIgnoreCase(String name);
 
     /**
@@ -40,6 +43,7 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
      * @param category The skill category
      * @return A list of skills in the specified category
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Skill> findByCategory(SkillCategory category);
 
     /**
@@ -2,7 +2,6 @@ package com.barrows.travller.api.repository;
 
 import com.barrows.travller.api.model.Spaceship;
 import com.barrows.travller.api.model.SpaceshipType;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +14,7 @@ import java.util.List;
  * Provides methods for accessing and manipulating spaceships in the database.
  */
 @Repository
-public interface SpaceshipRepository extends JpaRepository<Spaceship, Long> {
+public interface SpaceshipRepository extends KeysetRepository<Spaceship> {
 
     /**
      * Finds spaceships by name containing the given string (case-insensitive).
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -83,4 +84,13 @@ public interface SubsectorRepository extends JpaRepository<Subsector, Long> {
      */
     @Query("SELECT s FROM Subsector s WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(s.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Subsector> searchByNameOrDescription(@Param("searchTerm") String searchTerm);
+
+    /**
+     * Loads the subsectors of all the given sectors in a single query.
+     *
+     * @param ids The sector IDs
+     * @return Rows of [sector ID, subsector]
+     */
+    @Query("SELECT s.sector.id, s FROM Subsector s WHERE s.sector.id IN :ids ORDER BY s.sectorPosition")
+    List<Object[]> findBySectorIds(@Param("ids") Collection<Long> ids);
 }
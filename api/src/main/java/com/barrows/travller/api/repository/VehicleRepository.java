@@ -2,7 +2,6 @@ package com.barrows.travller.api.repository;
 
 import com.barrows.travller.api.model.Vehicle;
 import com.barrows.travller.api.model.VehicleType;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +14,7 @@ import java.util.List;
  * Provides methods for accessing and manipulating vehicles in the database.
  */
 @Repository
-public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+public interface VehicleRepository extends KeysetRepository<Vehicle> {
 
     /**
      * Finds vehicles by name containing the given string (case-insensitive).
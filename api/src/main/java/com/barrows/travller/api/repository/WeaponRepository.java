@@ -3,7 +3,6 @@ package com.barrows.travller.api.repository;
 import com.barrows.travller.api.model.Skill;
 import com.barrows.travller.api.model.Weapon;
 import com.barrows.travller.api.model.WeaponType;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +14,7 @@ import java.util.List;
  * Provides methods for accessing and manipulating weapons in the database.
  */
 @Repository
-public interface WeaponRepository extends JpaRepository<Weapon, Long> {
+public interface WeaponRepository extends KeysetRepository<Weapon> {
 
     /**
      * Finds weapons by name containing the given string (case-insensitive).
@@ -3,11 +3,11 @@ package com.barrows.travller.api.repository;
 import com.barrows.travller.api.model.TravelZone;
 import com.barrows.travller.api.model.World;
 import com.barrows.travller.api.model.WorldType;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,7 +15,7 @@ import java.util.List;
  * Provides methods for accessing and manipulating worlds in the database.
  */
 @Repository
-public interface WorldRepository extends JpaRepository<World, Long> {
+public interface WorldRepository extends TenantAwareRepository<World, Long>, KeysetRepository<World> {
 
     /**
      * Finds worlds by name containing the given string (case-insensitive).
@@ -130,4 +130,23 @@ public interface WorldRepository extends JpaRepository<World, Long> {
      * @return A list of worlds with tech level in the specified range
      */
     List<World> findByTechLevelBetween(int minTechLevel, int maxTechLevel);
+
+    /**
+     * Loads the worlds of all the given subsectors in a single query.
+     *
+     * @param ids The subsector IDs
+     * @return Rows of [subsector ID, world]
+     */
+    @Query("SELECT w.subsector.id, w FROM World w WHERE w.subsector.id IN :ids ORDER BY w.hexCoordinates")
+    List<Object[]> findBySubsectorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the worlds of all the given homeworlds in a single query.
+     * A homeworld refers to the world of the current tenant with the same name.
+     *
+     * @param ids The homeworld IDs
+     * @return Rows of [homeworld ID, world]
+     */
+    @Query("SELECT h.id, w FROM Homeworld h JOIN World w ON w.name = h.name WHERE h.id IN :ids")
+    List<Object[]> findByHomeworldIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,29 @@
+package com.barrows.travller.api.search;
+
+/**
+ * A ranked search match: the type and ID of the matching row, and its trigram similarity to the search term.
+ */
+public class SearchHit {
+
+    private final SearchType type;
+    private final Long id;
+    private final float score;
+
+    public SearchHit(SearchType type, Long id, float score) {
+        this.type = type;
+        this.id = id;
+        this.score = score;
+    }
+
+    public SearchType getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public float getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,169 @@
+package com.barrows.travller.api.search;
+
+import com.barrows.travller.api.graphql.relay.KeysetCursor;
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Spaceship;
+import com.barrows.travller.api.model.World;
+import com.barrows.travller.api.repository.CareerRepository;
+import com.barrows.travller.api.repository.CharacterRepository;
+import com.barrows.travller.api.repository.SpaceshipRepository;
+import com.barrows.travller.api.repository.WorldRepository;
+import com.barrows.travller.api.tenant.TenantService;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Case-insensitive substring search over the names of worlds, characters, careers and spaceships.
+ * Matching is backed by {@code pg_trgm} GIN indexes on {@code lower(name)}, and results are ranked by
+ * trigram similarity to the term. Terms shorter than a trigram cannot use those indexes, so they match
+ * name prefixes only, through B-tree {@code text_pattern_ops} indexes on {@code lower(name)}.
+ * <p>
+ * The indexes only find the matching rows. Every page computes {@code similarity()} for all matches of
+ * every searched type and sorts them, since no index orders by score; the keyset predicate on
+ * (score, type, id) only avoids returning the earlier pages again. The cost of a page therefore grows with
+ * the number of matches, not with its depth, and broad terms are the expensive ones.
+ */
+@Service
+public class SearchService {
+
+    /**
+     * The shortest term that is matched anywhere in a name; shorter terms have no trigrams to look up.
+     */
+    static final int MIN_SUBSTRING_TERM_LENGTH = 3;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TenantService tenantService;
+    private final Map<SearchType, JpaRepository<?, Long>> repositories;
+
+    public SearchService(NamedParameterJdbcTemplate jdbcTemplate,
+                         TenantService tenantService,
+                         WorldRepository worldRepository,
+                         CharacterRepository characterRepository,
+                         CareerRepository careerRepository,
+                         SpaceshipRepository spaceshipRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tenantService = tenantService;
+        this.repositories = new EnumMap<>(Map.of(
+                SearchType.WORLD, worldRepository,
+                SearchType.CHARACTER, characterRepository,
+                SearchType.CAREER, careerRepository,
+                SearchType.SPACESHIP, spaceshipRepository));
+    }
+
+    /**
+     * Find the best matches for a term, best first.
+     *
+     * @param term The search term; matched case-insensitively anywhere in the name, or at its start if the
+     *             term is shorter than {@value #MIN_SUBSTRING_TERM_LENGTH} characters
+     * @param types The types to search, or null or empty for all of them
+     * @param limit The maximum number of hits
+     * @param after A cursor from a previous page, or null to start at the best match
+     * @return The hits
+     * @throws IllegalArgumentException if the term is blank or the cursor is invalid
+     */
+    public List<SearchHit> search(String term, Collection<SearchType> types, int limit, String after) {
+        if (term == null || term.isBlank()) {
+            throw new IllegalArgumentException("Search term must not be blank");
+        }
+        String normalized = term.strip().toLowerCase(Locale.ROOT);
+        Set<SearchType> searched = types == null || types.isEmpty() ? EnumSet.allOf(SearchType.class) : EnumSet.copyOf(types);
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("term", normalized)
+                .addValue("pattern", normalized.length() < MIN_SUBSTRING_TERM_LENGTH
+                        ? escapeLike(normalized) + "%"
+                        : "%" + escapeLike(normalized) + "%")
+                .addValue("limit", limit)
+                .addValue("tenantId", tenantService.getCurrentTenantId());
+
+        StringJoiner union = new StringJoiner(" UNION ALL ");
+        for (SearchType type : searched) {
+            String select = "SELECT '" + type.name() + "' AS type, id, similarity(lower(name), :term) AS score FROM "
+                    + type.getTable() + " WHERE tenant_id = :tenantId AND lower(name) LIKE :pattern ESCAPE '\\'";
+            union.add(select);
+        }
+
+        String sql = "SELECT type, id, score FROM (" + union + ") hits";
+        if (after != null) {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            String[] sortKey = cursor.getSortKey().split(":", 2);
+            try {
+                parameters.addValue("afterScore", Float.parseFloat(sortKey[0]))
+                        .addValue("afterType", SearchType.valueOf(sortKey[1]).name())
+                        .addValue("afterId", cursor.getId());
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + after, e);
+            }
+            sql += " WHERE (score, type, id) < (CAST(:afterScore AS real), :afterType, :afterId)";
+        }
+        sql += " ORDER BY score DESC, type DESC, id DESC LIMIT :limit";
+
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) ->
+                new SearchHit(SearchType.valueOf(rs.getString("type")), rs.getLong("id"), rs.getFloat("score")));
+    }
+
+    /**
+     * Encode the cursor pointing at a hit.
+     *
+     * @param hit The hit
+     * @return The cursor string
+     */
+    public String cursor(SearchHit hit) {
+        return new KeysetCursor(hit.getScore() + ":" + hit.getType().name(), hit.getId()).encode();
+    }
+
+    /**
+     * Load the entities behind a page of hits, with one query per type.
+     *
+     * @param hits The hits
+     * @return The entities, in the same order as the hits; null where a row has since been deleted
+     */
+    public List<Object> load(List<SearchHit> hits) {
+        Map<SearchType, List<Long>> idsByType = new EnumMap<>(SearchType.class);
+        for (SearchHit hit : hits) {
+            idsByType.computeIfAbsent(hit.getType(), type -> new ArrayList<>()).add(hit.getId());
+        }
+
+        Map<SearchType, Map<Long, Object>> entities = new EnumMap<>(SearchType.class);
+        idsByType.forEach((type, ids) -> {
+            Map<Long, Object> byId = new HashMap<>();
+            for (Object entity : repositories.get(type).findAllById(ids)) {
+                byId.put(idOf(type, entity), entity);
+            }
+            entities.put(type, byId);
+        });
+
+        List<Object> result = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            result.add(entities.get(hit.getType()).get(hit.getId()));
+        }
+        return result;
+    }
+
+    private static Long idOf(SearchType type, Object entity) {
+        return switch (type) {
+            case WORLD -> ((World) entity).getId();
+            case CHARACTER -> ((Character) entity).getId();
+            case CAREER -> ((Career) entity).getId();
+            case SPACESHIP -> ((Spaceship) entity).getId();
+        };
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,22 @@
+package com.barrows.travller.api.search;
+
+/**
+ * The kinds of object the unified search covers, with the table each one is searched in.
+ * Every table has a tenant_id column, and results are restricted to the current tenant.
+ */
+public enum SearchType {
+    WORLD("worlds"),
+    CHARACTER("characters"),
+    CAREER("careers"),
+    SPACESHIP("spaceships");
+
+    private final String table;
+
+    SearchType(String table) {
+        this.table = table;
+    }
+
+    public String getTable() {
+        return table;
+    }
+}
@@ -1,11 +1,35 @@
 package com.barrows.travller.api.tenant;
 
+import io.micrometer.context.ContextRegistry;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * ThreadLocal storage for tenant information.
  * This class provides a way to store and retrieve the current tenant ID throughout the request lifecycle.
+ * The ThreadLocal is registered with the Micrometer {@link ContextRegistry} under {@link #CONTEXT_KEY}, so
+ * Reactor, Spring GraphQL and decorated executors restore it on whichever thread a resolver runs.
  */
 public class TenantContext {
+
+    /**
+     * Key of the tenant ID in the Reactor context, the GraphQL context and the context registry.
+     */
+    public static final String CONTEXT_KEY = "travller.tenantId";
+
     private static final ThreadLocal<Long> CURRENT_TENANT = new ThreadLocal<>();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Registers the tenant ThreadLocal for context propagation. Safe to call more than once.
+     */
+    public static void registerContextPropagation() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            ContextRegistry.getInstance().registerThreadLocalAccessor(CONTEXT_KEY,
+                    TenantContext::getCurrentTenant, TenantContext::setCurrentTenant, TenantContext::clear);
+        }
+    }
 
     /**
      * Sets the current tenant ID.
@@ -32,4 +56,28 @@ public class TenantContext {
     public static void clear() {
         CURRENT_TENANT.remove();
     }
+
+    /**
+     * Runs a task with the given tenant as the current tenant, restoring the previous tenant afterwards.
+     * This gives the binding a lexical scope, so work handed to pooled or virtual threads cannot leak it.
+     *
+     * @param tenantId The tenant ID
+     * @param task The task to run
+     * @param <V> The result type
+     * @return The result of the task
+     * @throws Exception if the task throws
+     */
+    public static <V> V callWithTenant(Long tenantId, Callable<V> task) throws Exception {
+        Long previous = CURRENT_TENANT.get();
+        CURRENT_TENANT.set(tenantId);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) {
+                CURRENT_TENANT.remove();
+            } else {
+                CURRENT_TENANT.set(previous);
+            }
+        }
+    }
 }
@@ -1,7 +1,5 @@
 package com.barrows.travller.api.tenant;
 
-import com.barrows.travller.api.model.Tenant;
-import com.barrows.travller.api.repository.TenantRepository;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,7 +11,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Optional;
 
 /**
  * Filter to extract tenant information from incoming requests.
@@ -25,48 +22,27 @@ public class TenantFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(TenantFilter.class);
     private static final String TENANT_HEADER = "X-Tenant-ID";
-    private static final String DEFAULT_TENANT = "default";
 
-    private final TenantRepository tenantRepository;
+    private final TenantLookup tenantLookup;
 
     @Autowired
-    public TenantFilter(TenantRepository tenantRepository) {
-        this.tenantRepository = tenantRepository;
+    public TenantFilter(TenantLookup tenantLookup) {
+        this.tenantLookup = tenantLookup;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
-            // Extract tenant ID from header
+            // Resolve the tenant ID from the header, falling back to the default tenant
             String tenantHeader = request.getHeader(TENANT_HEADER);
-            Long tenantId = null;
+            Long tenantId = tenantLookup.resolveTenantId(tenantHeader);
 
-            if (tenantHeader != null && !tenantHeader.isEmpty()) {
-                try {
-                    // Try to parse the header as a tenant ID
-                    tenantId = Long.parseLong(tenantHeader);
-                } catch (NumberFormatException e) {
-                    // If not a number, try to find tenant by name
-                    Optional<Tenant> tenant = tenantRepository.findByName(tenantHeader);
-                    if (tenant.isPresent()) {
-                        tenantId = tenant.get().getId();
-                    }
-                }
-            }
-
-            // If no tenant ID found, try to use the default tenant
             if (tenantId == null) {
-                Optional<Tenant> defaultTenant = tenantRepository.findByName(DEFAULT_TENANT);
-                if (defaultTenant.isPresent()) {
-                    tenantId = defaultTenant.get().getId();
-                    logger.debug("Using default tenant: {}", DEFAULT_TENANT);
-                } else {
-                    logger.warn("No tenant specified and default tenant not found");
-                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                    response.getWriter().write("Tenant not specified");
-                    return;
-                }
+                logger.warn("No tenant specified and default tenant not found");
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                response.getWriter().write("Tenant not specified");
+                return;
             }
 
             // Set the tenant ID in the context
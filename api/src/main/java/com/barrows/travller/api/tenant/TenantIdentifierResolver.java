@@ -0,0 +1,35 @@
+package com.barrows.travller.api.tenant;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Tells Hibernate which tenant a new session belongs to.
+ * Hibernate includes the identifier in second-level cache keys, so cached entries are kept per tenant,
+ * and passes it to {@link TenantSchemaConnectionProvider} under schema-per-tenant routing.
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    /**
+     * Identifier of sessions opened outside a tenant, such as those of startup tasks.
+     */
+    public static final String NO_TENANT = "none";
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        Long tenantId = TenantContext.getCurrentTenant();
+        return tenantId == null ? NO_TENANT : tenantId.toString();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    /**
+     * @param tenantIdentifier An identifier returned by {@link #resolveCurrentTenantIdentifier()}
+     * @return The tenant ID, or null for {@link #NO_TENANT}
+     */
+    public static Long toTenantId(String tenantIdentifier) {
+        return tenantIdentifier == null || NO_TENANT.equals(tenantIdentifier) ? null : Long.valueOf(tenantIdentifier);
+    }
+}
@@ -0,0 +1,107 @@
+package com.barrows.travller.api.tenant;
+
+import com.barrows.travller.api.model.Tenant;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Resolves tenant identifiers from request headers.
+ * Tenant names are resolved to IDs through a bounded, time-limited in-process cache, so the
+ * tenant lookup shared by {@link TenantFilter} and {@link TenantGraphQLContextBuilder} does not
+ * hit the database on every request. Entries must be evicted when a tenant is created or renamed.
+ * The cache is a Caffeine cache, so lookups on the request path do not take a shared lock.
+ */
+@Component
+public class TenantLookup {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private final TenantRepository tenantRepository;
+    private final Cache<String, Long> idsByName;
+
+    @Autowired
+    public TenantLookup(TenantRepository tenantRepository,
+                        @Value("${travller.tenant.cache.ttl:5m}") Duration ttl,
+                        @Value("${travller.tenant.cache.max-size:1000}") int maxSize) {
+        this(tenantRepository, ttl, maxSize, Ticker.systemTicker());
+    }
+
+    TenantLookup(TenantRepository tenantRepository, Duration ttl, int maxSize, Ticker ticker) {
+        this.tenantRepository = tenantRepository;
+        this.idsByName = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Resolves the tenant ID for a tenant header value.
+     * A numeric header is taken as the tenant ID, anything else as the tenant name.
+     * If the header is missing or names an unknown tenant, the default tenant is used.
+     *
+     * @param tenantHeader The header value, may be null
+     * @return The tenant ID, or null if neither the tenant nor the default tenant exists
+     */
+    public Long resolveTenantId(String tenantHeader) {
+        if (tenantHeader != null && !tenantHeader.isEmpty()) {
+            try {
+                return Long.parseLong(tenantHeader);
+            } catch (NumberFormatException e) {
+                Long tenantId = findIdByName(tenantHeader);
+                if (tenantId != null) {
+                    return tenantId;
+                }
+            }
+        }
+        return findIdByName(DEFAULT_TENANT);
+    }
+
+    /**
+     * Finds the ID of the tenant with the given name, consulting the cache first.
+     * Unknown names are not cached, so a newly created tenant is visible immediately.
+     *
+     * @param name The tenant name
+     * @return The tenant ID, or null if no tenant has that name
+     */
+    public Long findIdByName(String name) {
+        // A null from the loader is not stored, which keeps unknown names uncached
+        return idsByName.get(name, key -> tenantRepository.findByName(key).map(Tenant::getId).orElse(null));
+    }
+
+    /**
+     * Gets a reference to the tenant with the given ID without loading it.
+     * The reference is only suitable for setting foreign keys on entities being written.
+     *
+     * @param tenantId The tenant ID
+     * @return A reference to the tenant
+     */
+    public Tenant getReference(Long tenantId) {
+        return tenantRepository.getReferenceById(tenantId);
+    }
+
+    /**
+     * Evicts the cached ID of the given tenant name.
+     *
+     * @param name The tenant name
+     */
+    public void evict(String name) {
+        idsByName.invalidate(name);
+    }
+
+    /**
+     * Evicts every cached entry for the given tenant ID, e.g. after the tenant was renamed.
+     *
+     * @param tenantId The tenant ID
+     */
+    public void evict(Long tenantId) {
+        idsByName.asMap().values().removeIf(tenantId::equals);
+    }
+}
@@ -0,0 +1,60 @@
+package com.barrows.travller.api.tenant;
+
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hibernate connection provider for schema-per-tenant routing.
+ * Hibernate passes the tenant chosen by {@link TenantIdentifierResolver} when it opens a session,
+ * so a session stays in its tenant's schema even if the current tenant changes while it is open.
+ */
+public class TenantSchemaConnectionProvider implements MultiTenantConnectionProvider<String> {
+
+    private final TenantSchemaDataSource dataSource;
+    private final TenantSchemaRouting routing;
+
+    public TenantSchemaConnectionProvider(TenantSchemaDataSource dataSource, TenantSchemaRouting routing) {
+        this.dataSource = dataSource;
+        this.routing = routing;
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return dataSource.getConnection(null);
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(String tenantIdentifier) throws SQLException {
+        return dataSource.getConnection(routing.schemaFor(TenantIdentifierResolver.toTenantId(tenantIdentifier)));
+    }
+
+    @Override
+    public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (isUnwrappableAs(unwrapType)) {
+            return unwrapType.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + unwrapType);
+    }
+}
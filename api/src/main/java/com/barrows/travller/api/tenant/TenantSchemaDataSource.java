@@ -0,0 +1,95 @@
+package com.barrows.travller.api.tenant;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that points connections at the current tenant's dedicated schema.
+ * Connections for tenants in the shared schema are handed out untouched. For a tenant with its own schema
+ * the search_path is set to that schema, followed by {@code public} so shared extensions such as pg_trgm
+ * stay visible, and reset before the connection goes back to the pool.
+ */
+public class TenantSchemaDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<TenantSchemaRouting> routing;
+
+    public TenantSchemaDataSource(DataSource targetDataSource, ObjectProvider<TenantSchemaRouting> routing) {
+        super(targetDataSource);
+        this.routing = routing;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(currentSchema());
+    }
+
+    /**
+     * Get a connection for an explicit schema rather than the one of the current tenant.
+     *
+     * @param schemaName The schema, or null for the shared schema
+     * @return A connection whose search_path starts with the schema
+     * @throws SQLException if no connection could be obtained
+     */
+    public Connection getConnection(String schemaName) throws SQLException {
+        Connection connection = super.getConnection();
+        if (schemaName == null || schemaName.equals(TenantSchemaRouting.SHARED_SCHEMA)) {
+            return connection;
+        }
+        try {
+            setSearchPath(connection, TenantSchemaRouting.validateSchemaName(schemaName) + ", "
+                    + TenantSchemaRouting.SHARED_SCHEMA);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        return resetOnClose(connection);
+    }
+
+    private String currentSchema() {
+        Long tenantId = TenantContext.getCurrentTenant();
+        if (tenantId == null) {
+            return null;
+        }
+        TenantSchemaRouting schemaRouting = routing.getIfAvailable();
+        return schemaRouting == null ? null : schemaRouting.schemaFor(tenantId);
+    }
+
+    private static void setSearchPath(Connection connection, String searchPath) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + searchPath);
+        }
+    }
+
+    /**
+     * Wrap the connection so that closing it restores the default search_path exactly once.
+     */
+    private static Connection resetOnClose(Connection connection) {
+        AtomicBoolean reset = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && reset.compareAndSet(false, true)) {
+                        try {
+                            if (!connection.isClosed()) {
+                                setSearchPath(connection, "DEFAULT");
+                            }
+                        } finally {
+                            connection.close();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,199 @@
+package com.barrows.travller.api.tenant;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Knows which tenants have their own Postgres schema.
+ * Most tenants share the tables of the {@value #SHARED_SCHEMA} schema and are told apart by their tenant_id.
+ * A tenant whose {@code schema_name} is set gets a full copy of the schema instead, migrated by Flyway,
+ * so its rows and indexes do not grow the shared tables. Schema routing is only active when
+ * {@code travller.tenant.schema-per-tenant.enabled} is set.
+ * <p>
+ * The tenant to schema mapping is held in memory. The instance that provisions a schema reloads it at once;
+ * every other instance reloads it every {@code travller.tenant.schema-per-tenant.refresh-interval}, and until
+ * then keeps routing the tenant to the shared schema.
+ */
+@Component
+public class TenantSchemaRouting implements SmartInitializingSingleton {
+
+    public static final String SHARED_SCHEMA = "public";
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantSchemaRouting.class);
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final boolean enabled;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<Flyway> flyway;
+    private volatile Map<Long, String> schemasByTenant = Map.of();
+
+    public TenantSchemaRouting(@Value("${travller.tenant.schema-per-tenant.enabled:false}") boolean enabled,
+                               JdbcTemplate jdbcTemplate,
+                               ObjectProvider<Flyway> flyway) {
+        this.enabled = enabled;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flyway = flyway;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the dedicated schema of a tenant.
+     *
+     * @param tenantId The tenant ID, may be null
+     * @return The schema name, or null if the tenant uses the shared schema
+     */
+    public String schemaFor(Long tenantId) {
+        return tenantId == null ? null : schemasByTenant.get(tenantId);
+    }
+
+    /**
+     * Reload the tenant to schema mapping, e.g. after a tenant has been moved to its own schema.
+     * Runs periodically so that schemas provisioned by other instances are picked up.
+     */
+    @Scheduled(fixedDelayString = "${travller.tenant.schema-per-tenant.refresh-interval:30s}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, String> schemas = new HashMap<>();
+        jdbcTemplate.query("SELECT id, schema_name FROM " + SHARED_SCHEMA + ".tenants WHERE schema_name IS NOT NULL",
+                rs -> {
+                    schemas.put(rs.getLong("id"), rs.getString("schema_name"));
+                });
+        schemasByTenant = Map.copyOf(schemas);
+    }
+
+    /**
+     * Check whether a tenant owns rows in the shared tables.
+     * Such a tenant cannot be given its own schema: its rows would stay behind in the shared tables
+     * while its requests are routed to the new, empty schema.
+     *
+     * @param tenantId The tenant ID
+     * @return true if any shared table with a tenant_id column has a row of the tenant
+     */
+    public boolean hasSharedRows(Long tenantId) {
+        List<String> tables = jdbcTemplate.queryForList("SELECT table_name FROM information_schema.columns "
+                + "WHERE table_schema = ? AND column_name = 'tenant_id'", String.class, SHARED_SCHEMA);
+        for (String table : tables) {
+            Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + SHARED_SCHEMA + "."
+                    + table + " WHERE tenant_id = ?)", Boolean.class, tenantId);
+            if (Boolean.TRUE.equals(exists)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Give a tenant its dedicated schema and start routing its requests there.
+     * The tenant's schema_name must already be saved in the shared tenants table.
+     *
+     * @param tenantId The tenant ID
+     * @param schemaName The tenant's schema
+     * @throws IllegalStateException if schema-per-tenant routing is disabled
+     */
+    public void provision(Long tenantId, String schemaName) {
+        if (!enabled) {
+            throw new IllegalStateException("Schema-per-tenant routing is disabled");
+        }
+        try {
+            // Run as no tenant so the provisioning connection itself is not routed into another tenant's schema
+            TenantContext.callWithTenant(null, () -> {
+                migrate(flyway.getObject(), jdbcTemplate, tenantId, schemaName);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not provision schema " + schemaName, e);
+        }
+        refresh();
+    }
+
+    /**
+     * Migrate the dedicated schema of every tenant that has one.
+     *
+     * @param flyway The Flyway instance that migrated the shared schema
+     */
+    public void migrateAll(Flyway flyway) {
+        if (!enabled) {
+            return;
+        }
+        JdbcTemplate template = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+        List<Map<String, Object>> tenants = template.queryForList(
+                "SELECT id, schema_name FROM " + SHARED_SCHEMA + ".tenants WHERE schema_name IS NOT NULL");
+        for (Map<String, Object> tenant : tenants) {
+            migrate(flyway, template, ((Number) tenant.get("id")).longValue(), (String) tenant.get("schema_name"));
+        }
+    }
+
+    /**
+     * Create or upgrade a tenant's dedicated schema.
+     * The schema gets every migration, including the seeded rules data, which is then handed over to the tenant.
+     * Rows the tenant already has in the shared schema are not moved, which is why a tenant with shared rows
+     * is refused a schema.
+     *
+     * @param flyway The Flyway instance that migrated the shared schema
+     * @param template A JdbcTemplate on the same database
+     * @param tenantId The tenant ID
+     * @param schemaName The tenant's schema
+     * @throws IllegalArgumentException if the schema name is not a valid lower-case identifier
+     */
+    public void migrate(Flyway flyway, JdbcTemplate template, Long tenantId, String schemaName) {
+        validateSchemaName(schemaName);
+        logger.info("Migrating schema {} of tenant {}", schemaName, tenantId);
+        Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .schemas(schemaName)
+                .defaultSchema(schemaName)
+                .createSchemas(true)
+                .load()
+                .migrate();
+
+        // The schema's tenant_id foreign keys point at its own tenants table, so it needs a copy of the tenant row
+        template.update("INSERT INTO " + schemaName + ".tenants (id, name, description, schema_name) "
+                + "SELECT id, name, description, schema_name FROM " + SHARED_SCHEMA + ".tenants WHERE id = ? "
+                + "ON CONFLICT (id) DO NOTHING", tenantId);
+        List<String> tables = template.queryForList("SELECT table_name FROM information_schema.columns "
+                + "WHERE table_schema = ? AND column_name = 'tenant_id'", String.class, schemaName);
+        for (String table : tables) {
+            template.update("UPDATE " + schemaName + "." + table + " SET tenant_id = ? WHERE tenant_id <> ?",
+                    tenantId, tenantId);
+        }
+    }
+
+    /**
+     * Check that a schema name is a plain lower-case identifier that can be used unquoted.
+     *
+     * @param schemaName The schema name
+     * @return The schema name
+     * @throws IllegalArgumentException if the name is invalid or is the shared schema
+     */
+    public static String validateSchemaName(String schemaName) {
+        if (schemaName == null || !SCHEMA_NAME.matcher(schemaName).matches()
+                || schemaName.equals(SHARED_SCHEMA) || schemaName.startsWith("pg_")) {
+            throw new IllegalArgumentException("Invalid tenant schema name: " + schemaName);
+        }
+        return schemaName;
+    }
+}
@@ -13,10 +13,12 @@ import org.springframework.stereotype.Service;
 public class TenantService {
 
     private final TenantRepository tenantRepository;
+    private final TenantLookup tenantLookup;
 
     @Autowired
-    public TenantService(TenantRepository tenantRepository) {
+    public TenantService(TenantRepository tenantRepository, TenantLookup tenantLookup) {
         this.tenantRepository = tenantRepository;
+        this.tenantLookup = tenantLookup;
     }
 
     /**
@@ -47,13 +49,14 @@ public class TenantService {
 
     /**
      * Sets the tenant in the given entity.
+     * Only a reference to the current tenant is set, so no query is issued for the tenant row.
      *
      * @param entity The entity to set the tenant in
      * @param <T> The entity type
      * @return The entity with the tenant set
      */
     public <T extends com.barrows.travller.api.model.TenantAwareEntity> T setTenant(T entity) {
-        entity.setTenant(getCurrentTenant());
+        entity.setTenant(tenantLookup.getReference(getCurrentTenantId()));
         return entity;
     }
 }
@@ -0,0 +1,11 @@
+-- Composite (tenant_id, name, id) indexes backing keyset pagination of the Relay connections.
+-- Every connection pages over the current tenant's rows, so each page is an index range scan
+-- within the tenant starting at the (name, id) carried in the cursor.
+CREATE INDEX idx_characters_tenant_name_id ON characters (tenant_id, name, id);
+CREATE INDEX idx_worlds_tenant_name_id ON worlds (tenant_id, name, id);
+CREATE INDEX idx_skills_tenant_name_id ON skills (tenant_id, name, id);
+CREATE INDEX idx_careers_tenant_name_id ON careers (tenant_id, name, id);
+CREATE INDEX idx_weapons_tenant_name_id ON weapons (tenant_id, name, id);
+CREATE INDEX idx_armor_tenant_name_id ON armor (tenant_id, name, id);
+CREATE INDEX idx_vehicles_tenant_name_id ON vehicles (tenant_id, name, id);
+CREATE INDEX idx_spaceships_tenant_name_id ON spaceships (tenant_id, name, id);
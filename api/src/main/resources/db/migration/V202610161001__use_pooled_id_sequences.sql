@@ -0,0 +1,20 @@
+-- Switch entity id generation from IDENTITY to pooled sequences so Hibernate can batch inserts.
+-- The BIGSERIAL sequences are reused, so raw SQL inserts relying on the column default keep working:
+-- each nextval hands out the top of a block of 50 that Hibernate never allocates.
+-- Each sequence is aligned with the current maximum id so the next block starts above existing rows.
+DO $$
+DECLARE
+    table_name TEXT;
+    sequence_name TEXT;
+BEGIN
+    FOREACH table_name IN ARRAY ARRAY[
+        'animals', 'armor', 'benefit_tables', 'career_terms', 'careers', 'characteristics', 'characters',
+        'equipment', 'homeworlds', 'political_entities', 'races', 'ranks', 'sectors', 'skill_tables',
+        'skills', 'spaceships', 'subsectors', 'tenants', 'vehicles', 'weapons', 'worlds'
+    ] LOOP
+        sequence_name := pg_get_serial_sequence(table_name, 'id');
+        EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', sequence_name);
+        EXECUTE format('SELECT setval(%L, COALESCE(MAX(id), 1), MAX(id) IS NOT NULL) FROM %I',
+                       sequence_name, table_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,37 @@
+-- Tenant-leading indexes. tenant_id was added to every table without an index, so tenant-scoped
+-- lookups, counts and foreign key checks against tenants were sequential scans.
+
+-- (tenant_id, id) on every tenant-aware table with an id, and (tenant_id) on the collection and join tables
+DO $$
+DECLARE
+    tenant_table RECORD;
+BEGIN
+    FOR tenant_table IN
+        SELECT c.table_name,
+               EXISTS (SELECT 1 FROM information_schema.columns i
+                       WHERE i.table_schema = c.table_schema AND i.table_name = c.table_name
+                         AND i.column_name = 'id') AS has_id
+        FROM information_schema.columns c
+        WHERE c.table_schema = current_schema() AND c.column_name = 'tenant_id'
+    LOOP
+        IF tenant_table.has_id THEN
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (tenant_id, id)',
+                           'idx_' || tenant_table.table_name || '_tenant_id_id', tenant_table.table_name);
+        ELSE
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (tenant_id)',
+                           'idx_' || tenant_table.table_name || '_tenant_id', tenant_table.table_name);
+        END IF;
+    END LOOP;
+END $$;
+
+-- CharacterRepository derived queries
+CREATE INDEX idx_characters_tenant_status ON characters (tenant_id, status);
+CREATE INDEX idx_characters_tenant_age ON characters (tenant_id, age);
+CREATE INDEX idx_characters_tenant_race ON characters (tenant_id, race_id);
+
+-- Foreign keys followed by the batch loaders and findBySkillName
+CREATE INDEX idx_characteristics_character ON characteristics (character_id);
+CREATE INDEX idx_character_skills_skill ON character_skills (skill_id, character_id);
+CREATE INDEX idx_character_weapons_weapon ON character_weapons (weapon_id);
+CREATE INDEX idx_character_armor_armor ON character_armor (armor_id);
+CREATE INDEX idx_skills_name_level ON skills (name, level);
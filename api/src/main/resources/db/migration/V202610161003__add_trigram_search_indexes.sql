@@ -0,0 +1,12 @@
+-- Trigram indexes for case-insensitive substring search.
+-- LOWER(x) LIKE '%term%' can never use a B-tree index; a pg_trgm GIN index on lower(x) serves it directly,
+-- both for the unified search query and for the repositories' existing search methods.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_worlds_name_trgm ON worlds USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_worlds_uwp_trgm ON worlds USING gin (uwp gin_trgm_ops);
+CREATE INDEX idx_characters_name_trgm ON characters USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_careers_name_trgm ON careers USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_careers_description_trgm ON careers USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX idx_spaceships_name_trgm ON spaceships USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_spaceships_description_trgm ON spaceships USING gin (lower(description) gin_trgm_ops);
@@ -0,0 +1,3 @@
+-- Large tenants can be moved into a dedicated schema with the same tables.
+-- schema_name is null for tenants that keep using the shared tables in public.
+ALTER TABLE tenants ADD COLUMN schema_name VARCHAR(63) UNIQUE;
@@ -0,0 +1,39 @@
+-- Career terms belong to a character's career history, but the table never had the join column.
+ALTER TABLE career_terms ADD COLUMN character_id BIGINT REFERENCES characters(id);
+CREATE INDEX idx_career_terms_character ON career_terms (character_id);
+
+-- Rows of a character's collections are written by Hibernate without a tenant_id, since only the
+-- character itself is tenant-aware. Fill it in from the owning character or career term, so a whole
+-- character graph can be inserted in JDBC batches without a follow-up update per row.
+CREATE FUNCTION set_tenant_from_character() RETURNS trigger AS $$
+BEGIN
+    IF NEW.tenant_id IS NULL THEN
+        SELECT tenant_id INTO NEW.tenant_id FROM characters WHERE id = NEW.character_id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION set_tenant_from_career_term() RETURNS trigger AS $$
+BEGIN
+    IF NEW.tenant_id IS NULL THEN
+        SELECT tenant_id INTO NEW.tenant_id FROM career_terms WHERE id = NEW.career_term_id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER characteristics_tenant BEFORE INSERT ON characteristics
+    FOR EACH ROW EXECUTE FUNCTION set_tenant_from_character();
+CREATE TRIGGER career_terms_tenant BEFORE INSERT ON career_terms
+    FOR EACH ROW EXECUTE FUNCTION set_tenant_from_character();
+CREATE TRIGGER character_skills_tenant BEFORE INSERT ON character_skills
+    FOR EACH ROW EXECUTE FUNCTION set_tenant_from_character();
+CREATE TRIGGER character_weapons_tenant BEFORE INSERT ON character_weapons
+    FOR EACH ROW EXECUTE FUNCTION set_tenant_from_character();
+CREATE TRIGGER character_armor_tenant BEFORE INSERT ON character_armor
+    FOR EACH ROW EXECUTE FUNCTION set_tenant_from_character();
+CREATE TRIGGER career_term_skills_tenant BEFORE INSERT ON career_term_skills
+    FOR EACH ROW EXECUTE FUNCTION set_tenant_from_career_term();
+CREATE TRIGGER career_term_benefits_tenant BEFORE INSERT ON career_term_benefits
+    FOR EACH ROW EXECUTE FUNCTION set_tenant_from_career_term();
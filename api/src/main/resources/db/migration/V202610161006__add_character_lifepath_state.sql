@@ -0,0 +1,50 @@
+-- The lifepath steps kept a character's career in the background text and found it again by scanning
+-- for the last "Attempted to join the ..." sentence. Keep the lifepath state in columns instead. Existing
+-- backgrounds are left as they are: characters created before career terms were linked to them have no
+-- history to write those sentences from, so the background is the only record of their careers.
+ALTER TABLE characters
+    ADD COLUMN current_career_id BIGINT REFERENCES careers(id),
+    ADD COLUMN career_term INT NOT NULL DEFAULT 0,
+    ADD COLUMN career_rank INT NOT NULL DEFAULT 0,
+    ADD COLUMN drafted BOOLEAN NOT NULL DEFAULT FALSE,
+    ADD COLUMN lifepath_phase VARCHAR(32) NOT NULL DEFAULT 'PRE_CAREER';
+CREATE INDEX idx_characters_current_career ON characters (current_career_id);
+
+-- Recover the state of existing characters from the last lifepath sentence of their background
+UPDATE characters c SET lifepath_phase = 'QUALIFYING', current_career_id = ca.id
+FROM careers ca
+WHERE ca.tenant_id = c.tenant_id
+  AND lower(ca.name) = lower(substring(c.background from 'Attempted to join the ([^.]*)\.\s*$'))
+  AND c.background !~ ' but (failed qualification|was drafted into the [^.]*)\.\s*$';
+
+UPDATE characters c SET lifepath_phase = 'PRE_CAREER', current_career_id = ca.id
+FROM careers ca
+WHERE ca.tenant_id = c.tenant_id
+  AND lower(ca.name) = lower(substring(c.background from 'Attempted to join the ([^.]*) but failed qualification\.\s*$'));
+
+UPDATE characters c SET lifepath_phase = 'SERVING', current_career_id = ca.id, drafted = TRUE
+FROM careers ca
+WHERE ca.tenant_id = c.tenant_id
+  AND lower(ca.name) = lower(substring(c.background from 'drafted into the ([^.]*)\.\s*$'));
+
+UPDATE characters c SET lifepath_phase = 'SERVING', current_career_id = ca.id
+FROM careers ca
+WHERE ca.tenant_id = c.tenant_id
+  AND lower(ca.name) = lower(substring(c.background from 'Qualified for the ([^.]*)\.\s*$'));
+
+UPDATE characters c SET lifepath_phase = CASE WHEN c.status = 'DEAD' THEN 'DECEASED' ELSE 'SERVING' END,
+    current_career_id = ca.id,
+    drafted = position('drafted into the ' || ca.name || '.' in c.background) > 0,
+    career_term = (SELECT count(*) FROM career_terms t WHERE t.character_id = c.id AND t.career_id = ca.id),
+    career_rank = coalesce((SELECT max(t.rank) FROM career_terms t WHERE t.character_id = c.id AND t.career_id = ca.id), 0)
+FROM careers ca
+WHERE ca.tenant_id = c.tenant_id
+  AND lower(ca.name) = lower((regexp_match(c.background,
+      '(Completed a term in|Died during service in) the ([^.]*)\.\s*$'))[2]);
+
+UPDATE characters c SET lifepath_phase = 'MUSTERED_OUT', current_career_id = ca.id,
+    career_term = substring(c.background from 'Mustered out of the [^.]* after ([0-9]+) terms\.\s*$')::INT,
+    career_rank = coalesce((SELECT max(t.rank) FROM career_terms t WHERE t.character_id = c.id AND t.career_id = ca.id), 0)
+FROM careers ca
+WHERE ca.tenant_id = c.tenant_id
+  AND lower(ca.name) = lower(substring(c.background from 'Mustered out of the ([^.]*) after [0-9]+ terms\.\s*$'));
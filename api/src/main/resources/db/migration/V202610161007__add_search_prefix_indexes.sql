@@ -0,0 +1,7 @@
+-- Prefix indexes for search terms of one or two characters, which are too short to have trigrams and
+-- would otherwise scan every row. The search matches such terms with lower(name) LIKE 'term%', which a
+-- text_pattern_ops B-tree index serves as a range scan within the tenant.
+CREATE INDEX idx_worlds_tenant_name_prefix ON worlds (tenant_id, lower(name) text_pattern_ops);
+CREATE INDEX idx_characters_tenant_name_prefix ON characters (tenant_id, lower(name) text_pattern_ops);
+CREATE INDEX idx_careers_tenant_name_prefix ON careers (tenant_id, lower(name) text_pattern_ops);
+CREATE INDEX idx_spaceships_tenant_name_prefix ON spaceships (tenant_id, lower(name) text_pattern_ops);
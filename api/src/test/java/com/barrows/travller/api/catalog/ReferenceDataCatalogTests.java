@@ -0,0 +1,54 @@
+package com.barrows.travller.api.catalog;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantLookup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that the reference-data catalog serves lookups from memory, scopes them to a tenant and
+ * publishes a new version after an invalidation.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class ReferenceDataCatalogTests {
+
+    @Autowired
+    private ReferenceDataCatalog catalog;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void lookupsAreCaseInsensitiveAndVersionedPerTenant() {
+        Long tenantId = tenantRepository.findByName(TenantLookup.DEFAULT_TENANT).orElseThrow().getId();
+        Long otherTenantId = jdbcTemplate.queryForObject(
+                "INSERT INTO tenants (name) VALUES ('catalog-other') RETURNING id", Long.class);
+
+        ReferenceData before = catalog.forTenant(tenantId);
+        assertSame(before, catalog.forTenant(tenantId));
+
+        jdbcTemplate.update("""
+                INSERT INTO skills (name, level, category, primary_characteristic, tenant_id)
+                VALUES ('Catalog Test Skill', 0, 'SCIENCE', 'EDUCATION', ?)
+                """, tenantId);
+        catalog.invalidate(Skill.class);
+
+        ReferenceData after = catalog.forTenant(tenantId);
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals("Catalog Test Skill", after.findSkillByName("catalog TEST skill").orElseThrow().getName());
+        assertTrue(catalog.forTenant(otherTenantId).findSkillByName("Catalog Test Skill").isEmpty());
+    }
+}
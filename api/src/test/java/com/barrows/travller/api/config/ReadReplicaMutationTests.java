@@ -0,0 +1,141 @@
+package com.barrows.travller.api.config;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.Tenant;
+import com.barrows.travller.api.repository.CharacterRepository;
+import com.barrows.travller.api.repository.RaceRepository;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs GraphQL operations over HTTP, with open-in-view, against a replica that rejects every write.
+ * The replica is the test database opened with {@code default_transaction_read_only}, so a write that is
+ * routed to it fails just as it would on a real hot standby.
+ */
+@Import({TestcontainersConfiguration.class, ReadReplicaMutationTests.ReadOnlyReplica.class})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "travller.datasource.replica.enabled=true")
+class ReadReplicaMutationTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private Long tenantId;
+    private Long characterId;
+
+    @BeforeEach
+    void setUp() {
+        Tenant tenant = tenantRepository.findByName("default").orElseThrow();
+        tenantId = tenant.getId();
+        Race race = raceRepository.findAll().get(0);
+        Character character = new Character("Replica Traveller", race);
+        character.setTenant(tenant);
+        characterId = characterRepository.save(character).getId();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TenantContext.callWithTenant(tenantId, () -> {
+            characterRepository.deleteById(characterId);
+            return null;
+        });
+    }
+
+    @Test
+    void replicaRejectsWrites() {
+        ReadReplicaContext.setReadOnly(true);
+        try {
+            assertThrows(DataAccessException.class, () -> jdbcTemplate.update(
+                    "UPDATE characters SET name = name WHERE id = ?", characterId));
+        } finally {
+            ReadReplicaContext.clear();
+        }
+    }
+
+    @Test
+    void mutationThatLooksUpBeforeSavingWritesToThePrimary() throws Exception {
+        // updateCharacter loads the character in a read-only repository transaction before saving it
+        String response = send("mutation { updateCharacter(id: " + characterId
+                + ", input: { name: \\\"Renamed Traveller\\\", raceId: " + raceRepository.findAll().get(0).getId()
+                + " }) { name } }");
+
+        assertFalse(response.contains("\"errors\""), response);
+        assertEquals("Renamed Traveller", jdbcTemplate.queryForObject(
+                "SELECT name FROM characters WHERE id = ?", String.class, characterId));
+    }
+
+    @Test
+    void queriesAreServedByTheReplica() throws Exception {
+        String response = send("{ character(id: " + characterId + ") { name } }");
+
+        assertFalse(response.contains("\"errors\""), response);
+        assertTrue(response.contains("Replica Traveller"), response);
+    }
+
+    private String send(String query) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/graphql"))
+                .header("Content-Type", "application/json")
+                .header("X-Tenant-ID", "default")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"query\":\"" + query + "\"}"))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return response.body();
+    }
+
+    /**
+     * Points the replica at the test database through sessions that cannot write.
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ReadOnlyReplica {
+
+        @Bean
+        DynamicPropertyRegistrar readOnlyReplicaProperties(PostgreSQLContainer<?> postgres) {
+            return registry -> {
+                String url = postgres.getJdbcUrl();
+                registry.add("travller.datasource.replica.url", () -> url + (url.contains("?") ? "&" : "?")
+                        + "options=-c%20default_transaction_read_only=on");
+                registry.add("travller.datasource.replica.username", postgres::getUsername);
+                registry.add("travller.datasource.replica.password", postgres::getPassword);
+            };
+        }
+    }
+}
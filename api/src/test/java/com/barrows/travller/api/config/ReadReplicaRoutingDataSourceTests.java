@@ -0,0 +1,119 @@
+package com.barrows.travller.api.config;
+
+import com.barrows.travller.api.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the read replica routing, using stand-in DataSources for the primary and the replica.
+ */
+public class ReadReplicaRoutingDataSourceTests {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final MutableClock clock = new MutableClock();
+    private ReadReplicaRoutingDataSource router;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        router = new ReadReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(5), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        ReadReplicaContext.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writesGoToThePrimary() throws Exception {
+        TenantContext.setCurrentTenant(1L);
+        assertSame(primaryConnection, router.getConnection());
+    }
+
+    @Test
+    void readsGoToTheReplica() throws Exception {
+        TenantContext.setCurrentTenant(1L);
+        ReadReplicaContext.setReadOnly(true);
+        assertSame(replicaConnection, router.getConnection());
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() throws Exception {
+        TenantContext.setCurrentTenant(1L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(replicaConnection, router.getConnection());
+    }
+
+    @Test
+    void workMarkedAsWritingUsesThePrimaryInsideReadOnlyTransactions() throws Exception {
+        TenantContext.setCurrentTenant(1L);
+        ReadReplicaContext.setReadOnly(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(primaryConnection, router.getConnection());
+    }
+
+    @Test
+    void readsStayOnThePrimaryForTheStickyWindowAfterAWrite() throws Exception {
+        TenantContext.setCurrentTenant(1L);
+        router.getConnection();
+
+        ReadReplicaContext.setReadOnly(true);
+        assertTrue(router.isPinned(1L));
+        assertSame(primaryConnection, router.getConnection());
+
+        // Other tenants are not affected by tenant 1's write
+        TenantContext.setCurrentTenant(2L);
+        assertSame(replicaConnection, router.getConnection());
+
+        clock.advance(Duration.ofSeconds(6));
+        TenantContext.setCurrentTenant(1L);
+        assertFalse(router.isPinned(1L));
+        assertSame(replicaConnection, router.getConnection());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
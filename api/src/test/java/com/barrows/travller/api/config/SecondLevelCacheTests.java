@@ -0,0 +1,110 @@
+package com.barrows.travller.api.config;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.catalog.ReferenceDataCatalog;
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.repository.CareerRepository;
+import com.barrows.travller.api.repository.SkillRepository;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantContext;
+import com.barrows.travller.api.tenant.TenantLookup;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that rules entities are served from the second-level cache, separately for each tenant,
+ * and that invalidating the catalog evicts only the regions of the changed entity types.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private CareerRepository careerRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private ReferenceDataCatalog catalog;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void skillsAreCachedPerTenantUntilInvalidated() throws Exception {
+        Long tenantId = tenantRepository.findByName(TenantLookup.DEFAULT_TENANT).orElseThrow().getId();
+        Long otherTenantId = jdbcTemplate.queryForObject(
+                "INSERT INTO tenants (name) VALUES ('l2-cache-other') RETURNING id", Long.class);
+        Long skillId = jdbcTemplate.queryForObject(
+                "SELECT id FROM skills WHERE tenant_id = ? ORDER BY id LIMIT 1", Long.class, tenantId);
+        catalog.invalidate(Skill.class);
+        CacheRegionStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(Skill.class.getName());
+
+        load(tenantId, skillId);
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+
+        load(tenantId, skillId);
+        assertEquals(hits + 1, statistics.getHitCount());
+
+        // Another tenant has its own entries, so the first load misses
+        load(otherTenantId, skillId);
+        assertEquals(misses + 1, statistics.getMissCount());
+
+        catalog.invalidate(Skill.class);
+        load(tenantId, skillId);
+        assertEquals(misses + 2, statistics.getMissCount());
+    }
+
+    @Test
+    void invalidatingSkillsKeepsCareersCached() throws Exception {
+        Long tenantId = tenantRepository.findByName(TenantLookup.DEFAULT_TENANT).orElseThrow().getId();
+        Long careerId = jdbcTemplate.queryForObject(
+                "SELECT id FROM careers WHERE tenant_id = ? ORDER BY id LIMIT 1", Long.class, tenantId);
+        CacheRegionStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(Career.class.getName());
+
+        loadCareer(tenantId, careerId);
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+
+        catalog.invalidate(Skill.class);
+        loadCareer(tenantId, careerId);
+        assertEquals(hits + 1, statistics.getHitCount());
+        assertEquals(misses, statistics.getMissCount());
+    }
+
+    private void load(Long tenantId, Long skillId) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        TenantContext.callWithTenant(tenantId, () -> transactionTemplate.execute(status ->
+                skillRepository.findById(skillId).orElseThrow()));
+    }
+
+    private void loadCareer(Long tenantId, Long careerId) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        TenantContext.callWithTenant(tenantId, () -> transactionTemplate.execute(status ->
+                careerRepository.findById(careerId).orElseThrow()));
+    }
+}
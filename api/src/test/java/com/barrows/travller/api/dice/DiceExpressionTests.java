@@ -0,0 +1,72 @@
+package com.barrows.travller.api.dice;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies dice formula parsing, rolling and exact distributions.
+ */
+class DiceExpressionTests {
+
+    @Test
+    void distributionOfTwoDiceIsExact() {
+        DiceDistribution distribution = DiceExpression.compile("2D").distribution(0);
+
+        assertEquals(2, distribution.getMin());
+        assertEquals(12, distribution.getMax());
+        assertEquals(6.0 / 36, distribution.probability(7), 1e-12);
+        assertEquals(7.0, distribution.getMean(), 1e-12);
+    }
+
+    @Test
+    void boonKeepsTheHighestDice() {
+        DiceDistribution boon = DiceExpression.compile("2D6+3").distribution(1);
+        DiceDistribution keepHighest = DiceExpression.compile("3D6KH2+3").distribution(0);
+        DiceDistribution bane = DiceExpression.compile("2D6+3").distribution(-1);
+
+        for (int total = 5; total <= 15; total++) {
+            assertEquals(keepHighest.probability(total), boon.probability(total), 1e-12);
+        }
+        assertEquals(1.0 / 216, boon.probability(5), 1e-12);
+        assertTrue(boon.getMean() > 10 && bane.getMean() < 10);
+        assertEquals(20.0, boon.getMean() + bane.getMean(), 1e-12);
+    }
+
+    @Test
+    void rollsStayWithinTheDistribution() {
+        DiceExpression expression = DiceExpression.compile("4d6kh3 - 1d3 + 2");
+        DiceDistribution distribution = expression.distribution(-2);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] scratch = new int[expression.scratchSize(-2)];
+
+        for (int i = 0; i < 10_000; i++) {
+            int total = expression.roll(random, -2, scratch);
+            assertTrue(distribution.probability(total) > 0, "impossible total " + total);
+        }
+    }
+
+    @Test
+    void invalidFormulasAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> DiceExpression.compile("3D6 Blast"));
+        assertThrows(IllegalArgumentException.class, () -> DiceExpression.compile("2D6KH3"));
+        assertThrows(IllegalArgumentException.class, () -> DiceExpression.compile("1000D6"));
+        assertThrows(IllegalArgumentException.class, () -> DiceExpression.compile(""));
+    }
+
+    @Test
+    void distributionsTooLargeToComputeAreRejected() {
+        DiceExpression expression = DiceExpression.compile("100D1000");
+        int[] scratch = new int[expression.scratchSize(0)];
+        int total = expression.roll(new SplittableRandom(42), 0, scratch);
+
+        assertTrue(total >= 100 && total <= 100_000);
+        assertThrows(IllegalArgumentException.class, () -> expression.distribution(0));
+        assertThrows(IllegalArgumentException.class, () -> DiceExpression.compile("20D1000KH10").distribution(0));
+        assertEquals(3, DiceExpression.compile("3D1000").distribution(0).getMin());
+    }
+}
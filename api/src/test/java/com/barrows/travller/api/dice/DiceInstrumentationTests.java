@@ -0,0 +1,77 @@
+package com.barrows.travller.api.dice;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantLookup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.GraphQlResponse;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that a query is replayed from the seed a client sends; mutations ignore it, see CharacterGenerationTests.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class DiceInstrumentationTests {
+
+    private static final String SEED = "-4962768465676381896";
+
+    @Autowired
+    private WebGraphQlHandler webGraphQlHandler;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private WebGraphQlTester graphQlTester;
+    private Long weaponId;
+
+    @BeforeEach
+    void setUp() {
+        graphQlTester = WebGraphQlTester.builder(webGraphQlHandler)
+                .header("X-Tenant-ID", TenantLookup.DEFAULT_TENANT)
+                .build();
+        Long tenantId = tenantRepository.findByName(TenantLookup.DEFAULT_TENANT).orElseThrow().getId();
+        weaponId = jdbcTemplate.queryForObject(
+                "SELECT id FROM weapons WHERE tenant_id = ? ORDER BY id LIMIT 1", Long.class, tenantId);
+    }
+
+    @Test
+    void queriesReplayTheClientSeed() {
+        GraphQlResponse first = rollDamage();
+        GraphQlResponse second = rollDamage();
+
+        List<Integer> firstRolls = first.field("rollDamage.rolls").getValue();
+        List<Integer> secondRolls = second.field("rollDamage.rolls").getValue();
+
+        assertEquals(SEED, diceSeed(first));
+        assertEquals(20, firstRolls.size());
+        assertEquals(firstRolls, secondRolls);
+    }
+
+    private GraphQlResponse rollDamage() {
+        return graphQlTester.document("query($id: ID!) { rollDamage(weaponId: $id, count: 20) { rolls } }")
+                .variable("id", weaponId)
+                .extension(DiceInstrumentation.DICE_EXTENSION, Map.of("seed", SEED))
+                .execute()
+                .returnResponse();
+    }
+
+    private static String diceSeed(GraphQlResponse response) {
+        Map<?, ?> dice = (Map<?, ?>) response.getExtensions().get(DiceInstrumentation.DICE_EXTENSION);
+        return (String) dice.get("seed");
+    }
+}
@@ -0,0 +1,48 @@
+package com.barrows.travller.api.dice;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that dice replay bit-for-bit from the request seed and from the seed of a single roll.
+ */
+class DiceServiceTests {
+
+    private final DiceService diceService = new DiceService("L64X128MixRandom", 10, 10);
+
+    @Test
+    void sameRequestSeedRollsTheSameDice() {
+        Dice first = diceService.newDice(42L);
+        Dice second = diceService.newDice(42L);
+
+        int[] firstRolls = IntStream.range(0, 1000).map(i -> first.roll(2, 6)).toArray();
+        int[] secondRolls = IntStream.range(0, 1000).map(i -> second.roll(2, 6)).toArray();
+
+        assertArrayEquals(firstRolls, secondRolls);
+        assertTrue(IntStream.of(firstRolls).allMatch(roll -> roll >= 2 && roll <= 12));
+    }
+
+    @Test
+    void recordedRollReplaysFromItsSeed() {
+        Dice dice = diceService.newDice(null);
+        for (int i = 0; i < 20; i++) {
+            dice.roll(3, 6);
+        }
+
+        assertEquals(10, dice.getRecorded().size());
+        dice.getRecorded().forEach(roll -> assertEquals(roll, diceService.replay(roll)));
+    }
+
+    @Test
+    void splitGeneratorsFollowTheRequestSeed() {
+        long first = diceService.newDice(7L).split().nextLong();
+        long second = diceService.newDice(7L).split().nextLong();
+
+        assertEquals(first, second);
+    }
+}
@@ -0,0 +1,210 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.model.*;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.repository.*;
+import com.barrows.travller.api.tenant.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that the batched association resolvers keep the number of SQL statements
+ * for a character list query independent of the number of characters returned.
+ * Every character is seeded with all of its associations, so each nested batched path runs.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CharacterBatchLoadingTests {
+
+    private static final String QUERY = """
+            query($first: Int) {
+              characters(first: $first) {
+                nodes {
+                  id
+                  name
+                  race { id }
+                  homeworld { id world { id name } skills { id } }
+                  characteristics { id }
+                  skills { id }
+                  careerHistory { id career { id name } skills { id } }
+                  weapons { id }
+                  armor { id }
+                  equippedWeapon { id }
+                  equippedArmor { id }
+                  lifepath
+                }
+              }
+            }
+            """;
+
+    @Autowired
+    private WebGraphQlHandler webGraphQlHandler;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private CareerRepository careerRepository;
+
+    @Autowired
+    private WeaponRepository weaponRepository;
+
+    @Autowired
+    private ArmorRepository armorRepository;
+
+    @Autowired
+    private HomeworldRepository homeworldRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private WebGraphQlTester graphQlTester;
+    private Statistics statistics;
+    private final List<Character> characters = new ArrayList<>();
+    private Long tenantId;
+    private Skill skill;
+    private Career career;
+    private Weapon weapon;
+    private Armor armor;
+    private Homeworld homeworld;
+
+    @BeforeEach
+    void setUp() {
+        graphQlTester = WebGraphQlTester.builder(webGraphQlHandler)
+                .header("X-Tenant-ID", "default")
+                .build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Rules data does not map its tenant, so it is inserted directly into the default tenant
+        tenantId = tenantRepository.findByName("default").orElseThrow().getId();
+        Long skillId = insert("""
+                INSERT INTO skills (name, level, category, primary_characteristic, tenant_id)
+                VALUES ('Batch Test Skill', 1, 'COMBAT', 'DEXTERITY', ?) RETURNING id
+                """, tenantId);
+        Long careerId = insert("""
+                INSERT INTO careers (name, description, qualification_dm, tenant_id)
+                VALUES ('Batch Test Career', 'Seeded by CharacterBatchLoadingTests', 0, ?) RETURNING id
+                """, tenantId);
+        Long weaponId = insert("""
+                INSERT INTO weapons (name, type, tech_level, damage_formula, range, automatic, magazine, cost, weight,
+                                     skill_id, tenant_id)
+                VALUES ('Batch Test Rifle', 'RIFLE', 7, '3d6', 100, false, 20, 500, 4, ?, ?) RETURNING id
+                """, skillId, tenantId);
+        Long armorId = insert("""
+                INSERT INTO armor (name, tech_level, protection, energy_protection, radiation_protection, cost, weight,
+                                   powered, type, tenant_id)
+                VALUES ('Batch Test Mesh', 8, 4, 4, 0, 150, 2, false, 'MESH', ?) RETURNING id
+                """, tenantId);
+        // Homeworlds refer to the world with the same name; Regina is a world of the default tenant
+        Long homeworldId = insert("""
+                INSERT INTO homeworlds (name, uwp, type, tenant_id)
+                VALUES ('Regina', 'A867A74-B', 'GARDEN', ?) RETURNING id
+                """, tenantId);
+        jdbcTemplate.update("INSERT INTO homeworld_common_skills (homeworld_id, skill_id, tenant_id) VALUES (?, ?, ?)",
+                homeworldId, skillId, tenantId);
+
+        skill = skillRepository.findById(skillId).orElseThrow();
+        career = careerRepository.findById(careerId).orElseThrow();
+        weapon = weaponRepository.findById(weaponId).orElseThrow();
+        armor = armorRepository.findById(armorId).orElseThrow();
+        homeworld = homeworldRepository.findById(homeworldId).orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TenantContext.callWithTenant(tenantId, () -> {
+            characterRepository.deleteAll(characters);
+            return null;
+        });
+        characters.clear();
+        jdbcTemplate.update("DELETE FROM homeworld_common_skills WHERE homeworld_id = ?", homeworld.getId());
+        jdbcTemplate.update("DELETE FROM homeworlds WHERE id = ?", homeworld.getId());
+        jdbcTemplate.update("DELETE FROM weapons WHERE id = ?", weapon.getId());
+        jdbcTemplate.update("DELETE FROM armor WHERE id = ?", armor.getId());
+        jdbcTemplate.update("DELETE FROM careers WHERE id = ?", career.getId());
+        jdbcTemplate.update("DELETE FROM skills WHERE id = ?", skill.getId());
+    }
+
+    @Test
+    void statementCountIsIndependentOfPageSize() {
+        seedCharacters(10);
+        long statementsForTen = countStatements(10);
+
+        seedCharacters(90);
+        long statementsForHundred = countStatements(100);
+
+        assertEquals(statementsForTen, statementsForHundred,
+                "A 100 character query should issue as many statements as a 10 character query");
+    }
+
+    private long countStatements(int first) {
+        statistics.clear();
+        graphQlTester.document(QUERY)
+                .variable("first", first)
+                .execute()
+                .path("characters.nodes").entityList(Object.class).hasSize(first)
+                .path("characters.nodes[*].homeworld.world.name").entityList(String.class)
+                .satisfies(names -> names.forEach(name -> assertEquals("Regina", name)))
+                .path("characters.nodes[*].careerHistory[0].career.name").entityList(String.class)
+                .satisfies(names -> names.forEach(name -> assertEquals(career.getName(), name)))
+                .path("characters.nodes[*].careerHistory[0].skills").entityList(List.class)
+                .satisfies(skills -> skills.forEach(termSkills -> assertEquals(1, termSkills.size())))
+                .path("characters.nodes[*].characteristics").entityList(List.class)
+                .satisfies(sets -> sets.forEach(set -> assertEquals(CharacteristicType.values().length, set.size())));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedCharacters(int count) {
+        Tenant tenant = tenantRepository.findByName("default").orElseThrow();
+        Race race = raceRepository.findAll().get(0);
+        for (int i = 0; i < count; i++) {
+            Character character = new Character("Traveller " + i, race);
+            character.setTenant(tenant);
+            character.setHomeworld(homeworld);
+            for (CharacteristicType type : CharacteristicType.values()) {
+                character.addCharacteristic(new Characteristic(type, 7));
+            }
+            character.addSkill(skill);
+            CareerTerm careerTerm = new CareerTerm(career, 1);
+            careerTerm.addSkill(skill);
+            character.addCareerTerm(careerTerm);
+            character.addWeapon(weapon);
+            character.addArmor(armor);
+            character.equipWeapon(weapon);
+            character.equipArmor(armor);
+            characters.add(characterRepository.save(character));
+        }
+    }
+
+    private Long insert(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
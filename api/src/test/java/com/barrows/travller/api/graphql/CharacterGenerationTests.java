@@ -0,0 +1,186 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.dice.DiceInstrumentation;
+import com.barrows.travller.api.repository.CharacterRepository;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Verifies that generateCharacters saves complete characters, rolled with a server-generated seed, and
+ * returns them with the cursors of the characters connection.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class CharacterGenerationTests {
+
+    private static final String MUTATION = """
+            mutation($count: Int!, $options: GenerateCharactersInput) {
+              generateCharacters(count: $count, options: $options) {
+                totalCount
+                nodes {
+                  id
+                  name
+                  age
+                  characteristics { type value }
+                  careerHistory { termNumber survived }
+                  race { id }
+                  background
+                  lifepath
+                  status
+                }
+              }
+            }
+            """;
+
+    @Autowired
+    private WebGraphQlHandler webGraphQlHandler;
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    private WebGraphQlTester graphQlTester;
+    private Long tenantId;
+    private final List<Long> generatedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        graphQlTester = WebGraphQlTester.builder(webGraphQlHandler)
+                .header("X-Tenant-ID", "default")
+                .build();
+        tenantId = tenantRepository.findByName("default").orElseThrow().getId();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TenantContext.callWithTenant(tenantId, () -> {
+            characterRepository.deleteAllById(generatedIds);
+            return null;
+        });
+        generatedIds.clear();
+    }
+
+    @Test
+    void generatesAndSavesCompleteCharacters() throws Exception {
+        GraphQlTester.Response response = graphQlTester.document(MUTATION)
+                .variable("count", 50)
+                .variable("options", Map.of("namePrefix", "Crew", "terms", 2))
+                .execute();
+        List<Long> ids = recordGeneratedIds(response);
+        response.path("generateCharacters.totalCount").entity(Integer.class).isEqualTo(50)
+                .path("generateCharacters.nodes[0].name").entity(String.class).isEqualTo("Crew 1")
+                .path("generateCharacters.nodes[*].characteristics").entityList(List.class)
+                .satisfies(characteristics -> characteristics.forEach(set -> assertEquals(6, set.size())))
+                .path("generateCharacters.nodes[*].lifepath").entityList(String.class)
+                .satisfies(lifepaths -> lifepaths.forEach(lifepath -> assertFalse(lifepath.isBlank())));
+
+        assertEquals(50, TenantContext.callWithTenant(tenantId, () -> characterRepository.findAllById(ids).size()));
+    }
+
+    @Test
+    void backgroundIsStoredAsWrittenAndKeptApartFromTheLifepath() {
+        GraphQlTester.Response response = graphQlTester.document(MUTATION)
+                .variable("count", 1)
+                .variable("options", Map.of("terms", 2))
+                .execute();
+        Long id = recordGeneratedIds(response).get(0);
+        String raceId = response.path("generateCharacters.nodes[0].race.id").entity(String.class).get();
+        String lifepath = response.path("generateCharacters.nodes[0].lifepath").entity(String.class).get();
+
+        // Saving the background that was read must not change it, however often it is done
+        for (int i = 0; i < 2; i++) {
+            graphQlTester.document("""
+                            mutation($id: ID!, $input: CharacterInput!) {
+                              updateCharacter(id: $id, input: $input) { background lifepath }
+                            }
+                            """)
+                    .variable("id", id)
+                    .variable("input", Map.of("name", "Crew 1", "raceId", raceId,
+                            "background", "Grew up on a free trader."))
+                    .execute()
+                    .path("updateCharacter.background").entity(String.class).isEqualTo("Grew up on a free trader.")
+                    .path("updateCharacter.lifepath").entity(String.class).isEqualTo(lifepath);
+        }
+    }
+
+    @Test
+    void edgeCursorsContinueInTheCharactersConnection() {
+        GraphQlTester.Response response = graphQlTester.document("""
+                        mutation($count: Int!, $options: GenerateCharactersInput) {
+                          generateCharacters(count: $count, options: $options) {
+                            edges { cursor node { id name } }
+                          }
+                        }
+                        """)
+                .variable("count", 3)
+                .variable("options", Map.of("namePrefix", "Cursor", "terms", 1))
+                .execute();
+        generatedIds.addAll(response.path("generateCharacters.edges[*].node.id").entityList(Long.class).get());
+        List<String> names = response.path("generateCharacters.edges[*].node.name").entityList(String.class).get();
+        String cursor = response.path("generateCharacters.edges[0].cursor").entity(String.class).get();
+
+        assertEquals(List.of("Cursor 1", "Cursor 2", "Cursor 3"), names);
+        graphQlTester.document("query($after: String) { characters(first: 1, after: $after) { nodes { name } } }")
+                .variable("after", cursor)
+                .execute()
+                .path("characters.nodes[0].name").entity(String.class).isEqualTo("Cursor 2");
+    }
+
+    @Test
+    void clientSeedsAreIgnored() {
+        String first = generateWithSeed("42");
+        String second = generateWithSeed("42");
+
+        assertNotEquals("42", first);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void rejectsCountAboveLimit() {
+        graphQlTester.document(MUTATION)
+                .variable("count", 1001)
+                .execute()
+                .errors()
+                .satisfy(errors -> assertEquals(1, errors.size()));
+    }
+
+    /**
+     * @return The seed the response reports the characters were rolled with
+     */
+    private String generateWithSeed(String seed) {
+        GraphQlTester.Response response = graphQlTester.document(MUTATION)
+                .variable("count", 5)
+                .extension(DiceInstrumentation.DICE_EXTENSION, Map.of("seed", seed))
+                .execute();
+        recordGeneratedIds(response);
+        Map<?, ?> dice = (Map<?, ?>) response.returnResponse().getExtensions()
+                .get(DiceInstrumentation.DICE_EXTENSION);
+        return (String) dice.get("seed");
+    }
+
+    private List<Long> recordGeneratedIds(GraphQlTester.Response response) {
+        List<Long> ids = response.path("generateCharacters.nodes[*].id").entityList(Long.class).get();
+        generatedIds.addAll(ids);
+        return ids;
+    }
+}
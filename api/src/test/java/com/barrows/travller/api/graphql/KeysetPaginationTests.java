@@ -0,0 +1,176 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.Tenant;
+import com.barrows.travller.api.repository.CharacterRepository;
+import com.barrows.travller.api.repository.RaceRepository;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that keyset pagination walks a connection without gaps or duplicates,
+ * including rows that share the same sort key, and only over the current tenant's rows.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class KeysetPaginationTests {
+
+    private static final String FORWARD_QUERY = """
+            query($first: Int, $after: String) {
+              characters(first: $first, after: $after) {
+                nodes { id }
+                pageInfo { hasNextPage endCursor }
+              }
+            }
+            """;
+
+    private static final String BACKWARD_QUERY = """
+            query($last: Int, $before: String) {
+              characters(last: $last, before: $before) {
+                nodes { id }
+                pageInfo { hasPreviousPage startCursor }
+              }
+            }
+            """;
+
+    private static final String SKILLS_QUERY = """
+            query($first: Int, $after: String) {
+              skills(first: $first, after: $after) {
+                nodes { name }
+                pageInfo { hasNextPage endCursor }
+                totalCount
+              }
+            }
+            """;
+
+    @Autowired
+    private WebGraphQlHandler webGraphQlHandler;
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private WebGraphQlTester graphQlTester;
+    private Tenant tenant;
+    private final List<Character> characters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        graphQlTester = WebGraphQlTester.builder(webGraphQlHandler)
+                .header("X-Tenant-ID", "default")
+                .build();
+        tenant = tenantRepository.findByName("default").orElseThrow();
+        Race race = raceRepository.findAll().get(0);
+        for (int i = 0; i < 25; i++) {
+            // Every name is shared by several characters so the id tie-breaker is exercised
+            Character character = new Character("Traveller " + (i % 4), race);
+            character.setTenant(tenant);
+            characters.add(characterRepository.save(character));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TenantContext.callWithTenant(tenant.getId(), () -> {
+            characterRepository.deleteAll(characters);
+            return null;
+        });
+        characters.clear();
+        jdbcTemplate.update("DELETE FROM skills WHERE name LIKE 'Keyset % Skill'");
+        jdbcTemplate.update("DELETE FROM tenants WHERE name = 'keyset-other'");
+    }
+
+    @Test
+    void forwardAndBackwardPagesCoverEveryCharacterOnce() {
+        List<String> forward = new ArrayList<>();
+        String after = null;
+        boolean hasNextPage = true;
+        while (hasNextPage) {
+            GraphQlTester.Response response = graphQlTester.document(FORWARD_QUERY)
+                    .variable("first", 10)
+                    .variable("after", after)
+                    .execute();
+            forward.addAll(response.path("characters.nodes[*].id").entityList(String.class).get());
+            hasNextPage = response.path("characters.pageInfo.hasNextPage").entity(Boolean.class).get();
+            after = response.path("characters.pageInfo.endCursor").entity(String.class).get();
+        }
+
+        List<String> backward = new ArrayList<>();
+        String before = null;
+        boolean hasPreviousPage = true;
+        while (hasPreviousPage) {
+            GraphQlTester.Response response = graphQlTester.document(BACKWARD_QUERY)
+                    .variable("last", 10)
+                    .variable("before", before)
+                    .execute();
+            backward.addAll(0, response.path("characters.nodes[*].id").entityList(String.class).get());
+            hasPreviousPage = response.path("characters.pageInfo.hasPreviousPage").entity(Boolean.class).get();
+            before = response.path("characters.pageInfo.startCursor").entity(String.class).get();
+        }
+
+        assertEquals(25, forward.size());
+        assertEquals(25, new HashSet<>(forward).size());
+        assertEquals(forward, backward);
+    }
+
+    @Test
+    void referenceDataIsPagedWithinTheTenant() {
+        Long otherTenantId = jdbcTemplate.queryForObject(
+                "INSERT INTO tenants (name) VALUES ('keyset-other') RETURNING id", Long.class);
+        String insert = """
+                INSERT INTO skills (name, level, category, primary_characteristic, tenant_id)
+                VALUES (?, 0, 'SCIENCE', 'EDUCATION', ?)
+                """;
+        jdbcTemplate.update(insert, "Keyset Tenant Skill", tenant.getId());
+        jdbcTemplate.update(insert, "Keyset Other Skill", otherTenantId);
+
+        List<String> names = new ArrayList<>();
+        Integer totalCount = null;
+        String after = null;
+        boolean hasNextPage = true;
+        while (hasNextPage) {
+            GraphQlTester.Response response = graphQlTester.document(SKILLS_QUERY)
+                    .variable("first", 10)
+                    .variable("after", after)
+                    .execute();
+            names.addAll(response.path("skills.nodes[*].name").entityList(String.class).get());
+            totalCount = response.path("skills.totalCount").entity(Integer.class).get();
+            hasNextPage = response.path("skills.pageInfo.hasNextPage").entity(Boolean.class).get();
+            after = response.path("skills.pageInfo.endCursor").entity(String.class).get();
+        }
+
+        assertTrue(names.contains("Keyset Tenant Skill"));
+        assertFalse(names.contains("Keyset Other Skill"));
+        assertEquals(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM skills WHERE tenant_id = ?", Integer.class, tenant.getId()), names.size());
+        assertEquals(names.size(), totalCount);
+    }
+}
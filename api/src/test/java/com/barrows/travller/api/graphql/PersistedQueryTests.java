@@ -0,0 +1,87 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.graphql.document.PreparsedDocumentCache;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.GraphQlResponse;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies Automatic Persisted Queries and that repeated operations are served from the document cache.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class PersistedQueryTests {
+
+    private static final String QUERY = "query PersistedSkills { skills(first: 3) { nodes { name } } }";
+
+    @Autowired
+    private WebGraphQlHandler webGraphQlHandler;
+
+    @Autowired
+    private PreparsedDocumentCache preparsedDocumentCache;
+
+    private WebGraphQlTester graphQlTester;
+
+    @BeforeEach
+    void setUp() {
+        graphQlTester = WebGraphQlTester.builder(webGraphQlHandler)
+                .header("X-Tenant-ID", "default")
+                .build();
+    }
+
+    @Test
+    void unknownHashIsRegisteredByResendingTheQuery() throws Exception {
+        Map<String, Object> persistedQuery = Map.of("version", 1, "sha256Hash", sha256(QUERY));
+
+        GraphQlResponse unknown = graphQlTester.document(PersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .extension("persistedQuery", persistedQuery)
+                .execute()
+                .returnResponse();
+        assertEquals("PersistedQueryNotFound", unknown.getErrors().get(0).getMessage());
+
+        GraphQlResponse registered = graphQlTester.document(QUERY)
+                .extension("persistedQuery", persistedQuery)
+                .execute()
+                .returnResponse();
+        assertTrue(registered.getErrors().isEmpty());
+
+        GraphQlResponse byHash = graphQlTester.document(PersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .extension("persistedQuery", persistedQuery)
+                .execute()
+                .returnResponse();
+        assertTrue(byHash.getErrors().isEmpty());
+        assertEquals(registered.<Object>getData(), byHash.getData());
+    }
+
+    @Test
+    void repeatedQueriesAreParsedOnce() {
+        String query = "{ careers(first: 2) { nodes { name } } }";
+        int size = preparsedDocumentCache.size();
+
+        graphQlTester.document(query).execute().errors().verify();
+        assertEquals(size + 1, preparsedDocumentCache.size());
+
+        graphQlTester.document(query).execute().errors().verify();
+        assertEquals(size + 1, preparsedDocumentCache.size());
+    }
+
+    private static String sha256(String query) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
+    }
+}
@@ -0,0 +1,94 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.graphql.cost.QueryCostInstrumentation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.GraphQlResponse;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that operations report their cost and that expensive or deeply nested operations are rejected
+ * before they are executed.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class QueryCostTests {
+
+    @Autowired
+    private WebGraphQlHandler webGraphQlHandler;
+
+    private WebGraphQlTester graphQlTester;
+
+    @BeforeEach
+    void setUp() {
+        graphQlTester = WebGraphQlTester.builder(webGraphQlHandler)
+                .header("X-Tenant-ID", "default")
+                .build();
+    }
+
+    @Test
+    void responsesReportTheirCost() {
+        GraphQlResponse response = graphQlTester.document("{ skills(first: 5) { nodes { name } } }")
+                .execute()
+                .returnResponse();
+
+        assertTrue(response.getErrors().isEmpty());
+        Map<?, ?> cost = (Map<?, ?>) response.getExtensions().get(QueryCostInstrumentation.COST_EXTENSION);
+        // skills (1) + 5 x nodes (1)
+        assertEquals(6, cost.get("requested"));
+        assertEquals(5000, cost.get("budget"));
+    }
+
+    @Test
+    void connectionItemsAreCountedOncePerPage() {
+        GraphQlResponse response = graphQlTester.document("""
+                { skills(first: 5) { nodes { name } edges { node { name } } } }
+                """)
+                .execute()
+                .returnResponse();
+
+        Map<?, ?> cost = (Map<?, ?>) response.getExtensions().get(QueryCostInstrumentation.COST_EXTENSION);
+        // skills (1) + 5 x (nodes (1) + edges (1 + node (1)))
+        assertEquals(16, cost.get("requested"));
+    }
+
+    @Test
+    void expensiveQueriesAreRejectedBeforeExecution() {
+        // careers (1) + 250 x nodes (1 + ranks (1 + 10 x skills (1)) + skillTables (1 + 10 x skills (1))) = 5751
+        GraphQlResponse response = graphQlTester.document("""
+                {
+                  careers(first: 250) {
+                    nodes { name ranks { title skills { name } } skillTables { skills { name } } }
+                  }
+                }
+                """)
+                .execute()
+                .returnResponse();
+
+        assertNull(response.getData());
+        assertEquals("Query cost 5751 exceeds the budget of 5000", response.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void deeplyNestedQueriesAreRejected() {
+        String query = "{ __type(name: \"Query\") { fields { type { " + "ofType { ".repeat(16) + "name"
+                + " }".repeat(16) + " } } } }";
+        GraphQlResponse response = graphQlTester.document(query)
+                .execute()
+                .returnResponse();
+
+        assertNull(response.getData());
+        assertTrue(response.getErrors().get(0).getMessage().contains("depth"));
+    }
+}
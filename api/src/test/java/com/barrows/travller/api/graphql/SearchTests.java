@@ -0,0 +1,139 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.Tenant;
+import com.barrows.travller.api.repository.CharacterRepository;
+import com.barrows.travller.api.repository.RaceRepository;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that the unified search ranks matches by similarity, pages through them without gaps and
+ * only finds the current tenant's rows.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class SearchTests {
+
+    private static final String SEARCH_QUERY = """
+            query($term: String!, $first: Int, $after: String) {
+              search(term: $term, types: [CHARACTER], first: $first, after: $after) {
+                edges { node { ... on Character { name } } }
+                pageInfo { hasNextPage endCursor }
+              }
+            }
+            """;
+
+    @Autowired
+    private WebGraphQlHandler webGraphQlHandler;
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private WebGraphQlTester graphQlTester;
+    private Tenant tenant;
+    private final List<Character> characters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        graphQlTester = WebGraphQlTester.builder(webGraphQlHandler)
+                .header("X-Tenant-ID", "default")
+                .build();
+        tenant = tenantRepository.findByName("default").orElseThrow();
+        Race race = raceRepository.findAll().get(0);
+        for (String name : List.of("Marcus Centauri", "Centauri", "Lucia Centauri Vance", "Zeta Reticuli")) {
+            Character character = new Character(name, race);
+            character.setTenant(tenant);
+            characters.add(characterRepository.save(character));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TenantContext.callWithTenant(tenant.getId(), () -> {
+            characterRepository.deleteAll(characters);
+            return null;
+        });
+        characters.clear();
+        jdbcTemplate.update("DELETE FROM careers WHERE name LIKE 'Centauri % Service'");
+        jdbcTemplate.update("DELETE FROM tenants WHERE name = 'search-other'");
+    }
+
+    @Test
+    void matchesAreRankedAndPaged() {
+        List<String> names = new ArrayList<>();
+        String after = null;
+        boolean hasNextPage = true;
+        while (hasNextPage) {
+            GraphQlTester.Response response = graphQlTester.document(SEARCH_QUERY)
+                    .variable("term", "CENTAURI")
+                    .variable("first", 1)
+                    .variable("after", after)
+                    .execute();
+            names.addAll(response.path("search.edges[*].node.name").entityList(String.class).get());
+            hasNextPage = response.path("search.pageInfo.hasNextPage").entity(Boolean.class).get();
+            after = response.path("search.pageInfo.endCursor").entity(String.class).get();
+        }
+
+        assertEquals(List.of("Centauri", "Marcus Centauri", "Lucia Centauri Vance"), names);
+    }
+
+    @Test
+    void shortTermsMatchNamePrefixes() {
+        List<String> names = graphQlTester.document(SEARCH_QUERY)
+                .variable("term", "ce")
+                .variable("first", 10)
+                .execute()
+                .path("search.edges[*].node.name").entityList(String.class).get();
+
+        assertEquals(List.of("Centauri"), names);
+    }
+
+    @Test
+    void careersOfOtherTenantsAreNotFound() {
+        Long otherTenantId = jdbcTemplate.queryForObject(
+                "INSERT INTO tenants (name) VALUES ('search-other') RETURNING id", Long.class);
+        String insert = "INSERT INTO careers (name, qualification_dm, tenant_id) VALUES (?, 0, ?)";
+        jdbcTemplate.update(insert, "Centauri Scout Service", tenant.getId());
+        jdbcTemplate.update(insert, "Centauri Naval Service", otherTenantId);
+
+        List<String> names = graphQlTester.document("""
+                        query($term: String!) {
+                          search(term: $term, types: [CAREER], first: 10) {
+                            edges { node { ... on Career { name } } }
+                          }
+                        }
+                        """)
+                .variable("term", "centauri")
+                .execute()
+                .path("search.edges[*].node.name").entityList(String.class).get();
+
+        assertEquals(List.of("Centauri Scout Service"), names);
+    }
+}
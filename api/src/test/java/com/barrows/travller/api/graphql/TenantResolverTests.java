@@ -0,0 +1,70 @@
+package com.barrows.travller.api.graphql;
+
+import com.barrows.travller.api.model.Tenant;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantLookup;
+import com.barrows.travller.api.tenant.TenantSchemaRouting;
+import com.barrows.travller.api.tenant.TenantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for moving a tenant from the shared tables to its own schema.
+ */
+public class TenantResolverTests {
+
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final TenantSchemaRouting tenantSchemaRouting = mock(TenantSchemaRouting.class);
+    private final TenantResolver tenantResolver = new TenantResolver(tenantRepository, mock(TenantService.class),
+            mock(TenantLookup.class), tenantSchemaRouting);
+    private final Tenant tenant = new Tenant("alpha");
+
+    @BeforeEach
+    void setUp() {
+        tenant.setId(1L);
+        when(tenantRepository.findById(1L)).thenReturn(Optional.of(tenant));
+        when(tenantRepository.save(any(Tenant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tenantSchemaRouting.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    void tenantWithSharedRowsIsNotMoved() {
+        when(tenantSchemaRouting.hasSharedRows(1L)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> tenantResolver.updateTenant(1L, input("alpha_schema")));
+
+        assertNull(tenant.getSchemaName());
+        verify(tenantRepository, never()).save(any(Tenant.class));
+        verify(tenantSchemaRouting, never()).provision(anyLong(), anyString());
+    }
+
+    @Test
+    void tenantWithoutSharedRowsIsProvisioned() {
+        when(tenantSchemaRouting.hasSharedRows(1L)).thenReturn(false);
+
+        tenantResolver.updateTenant(1L, input("alpha_schema"));
+
+        assertEquals("alpha_schema", tenant.getSchemaName());
+        verify(tenantSchemaRouting).provision(1L, "alpha_schema");
+    }
+
+    private static TenantResolver.TenantInput input(String schemaName) {
+        TenantResolver.TenantInput input = new TenantResolver.TenantInput();
+        input.setName("alpha");
+        input.setSchemaName(schemaName);
+        return input;
+    }
+}
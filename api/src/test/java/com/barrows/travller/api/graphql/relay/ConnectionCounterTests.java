@@ -0,0 +1,99 @@
+package com.barrows.travller.api.graphql.relay;
+
+import com.barrows.travller.api.model.Character;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the total count of connections in each counting mode, using a stand-in keyset query.
+ */
+public class ConnectionCounterTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DataFetchingFieldSelectionSet withTotalCount = mock(DataFetchingFieldSelectionSet.class);
+    private final DataFetchingFieldSelectionSet withoutTotalCount = mock(DataFetchingFieldSelectionSet.class);
+
+    @SuppressWarnings("unchecked")
+    private final KeysetQuery<Character> query = mock(KeysetQuery.class);
+
+    @BeforeEach
+    void setUp() {
+        when(withTotalCount.contains("totalCount")).thenReturn(true);
+        when(withoutTotalCount.contains("totalCount")).thenReturn(false);
+        when(query.entityType()).thenReturn(Character.class);
+        when(query.count()).thenReturn(42L);
+    }
+
+    @Test
+    void countIsSkippedWhenTotalCountIsNotSelected() {
+        for (ConnectionCounter.Mode mode : ConnectionCounter.Mode.values()) {
+            assertNull(counter(mode).totalCount(query, withoutTotalCount));
+        }
+        verify(query, never()).count();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void exactModeCountsEveryTime() {
+        when(query.tenantId()).thenReturn(1L);
+        ConnectionCounter counter = counter(ConnectionCounter.Mode.EXACT);
+
+        assertEquals(42, counter.totalCount(query, withTotalCount));
+        assertEquals(42, counter.totalCount(query, withTotalCount));
+
+        verify(query, times(2)).count();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void approximateModeCachesTenantCounts() {
+        when(query.tenantId()).thenReturn(1L);
+        ConnectionCounter counter = counter(ConnectionCounter.Mode.APPROXIMATE);
+
+        assertEquals(42, counter.totalCount(query, withTotalCount));
+        when(query.count()).thenReturn(43L);
+        assertEquals(42, counter.totalCount(query, withTotalCount));
+        verify(query, times(1)).count();
+
+        counter.evictAll();
+        assertEquals(43, counter.totalCount(query, withTotalCount));
+    }
+
+    @Test
+    void approximateModeUsesTableStatisticsForLargeTables() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(250_000L));
+
+        assertEquals(250_000, counter(ConnectionCounter.Mode.APPROXIMATE).totalCount(query, withTotalCount));
+        verify(query, never()).count();
+    }
+
+    @Test
+    void approximateModeCountsSmallTables() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(500L));
+
+        assertEquals(42, counter(ConnectionCounter.Mode.APPROXIMATE).totalCount(query, withTotalCount));
+    }
+
+    private ConnectionCounter counter(ConnectionCounter.Mode mode) {
+        return new ConnectionCounter(jdbcTemplate, mode, 100_000, Duration.ofSeconds(30));
+    }
+}
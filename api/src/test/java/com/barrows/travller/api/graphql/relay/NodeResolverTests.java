@@ -0,0 +1,77 @@
+package com.barrows.travller.api.graphql.relay;
+
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.Skill;
+import com.barrows.travller.api.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for resolving nodes by their global IDs.
+ */
+public class NodeResolverTests {
+
+    private final CareerRepository careerRepository = mock(CareerRepository.class);
+    private final SkillRepository skillRepository = mock(SkillRepository.class);
+    private final NodeResolver nodeResolver = new NodeResolver(mock(CharacterRepository.class), careerRepository,
+            skillRepository, mock(WorldRepository.class), mock(WeaponRepository.class), mock(ArmorRepository.class),
+            mock(VehicleRepository.class), mock(SpaceshipRepository.class));
+
+    @Test
+    void malformedIdsResolveToNullInTheirPosition() {
+        Career career = career(1L);
+        Skill skill = skill(2L);
+        when(careerRepository.findAllById(Set.of(1L, 4L))).thenReturn(List.of(career));
+        when(skillRepository.findAllById(Set.of(2L))).thenReturn(List.of(skill));
+
+        List<Object> nodes = nodeResolver.nodes(List.of(
+                NodeResolver.encodeNodeId("Career", 1L),
+                "not a node id",
+                NodeResolver.encodeNodeId("Tenant", 3L),
+                NodeResolver.encodeNodeId("Skill", 2L),
+                NodeResolver.encodeNodeId("Career", 4L)));
+
+        assertEquals(Arrays.asList(career, null, null, skill, null), nodes);
+        verify(careerRepository).findAllById(Set.of(1L, 4L));
+    }
+
+    @Test
+    void malformedIdResolvesToNull() {
+        assertNull(nodeResolver.node("not a node id"));
+        assertNull(nodeResolver.node(NodeResolver.encodeNodeId("Career", null)));
+    }
+
+    @Test
+    void databaseFailuresAreNotHidden() {
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("database is down");
+        when(careerRepository.findById(anyLong())).thenThrow(failure);
+
+        assertSame(failure, assertThrows(DataAccessResourceFailureException.class,
+                () -> nodeResolver.node(NodeResolver.encodeNodeId("Career", 1L))));
+    }
+
+    private static Career career(Long id) {
+        Career career = new Career();
+        career.setId(id);
+        return career;
+    }
+
+    private static Skill skill(Long id) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        return skill;
+    }
+}
@@ -0,0 +1,57 @@
+package com.barrows.travller.api.lifepath;
+
+import com.barrows.travller.api.model.Career;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that simulated career odds converge on the exact odds of the lifepath rules.
+ */
+class CareerSimulatorTests {
+
+    private static final int RUNS = 400_000;
+
+    private final CareerSimulator simulator = new CareerSimulator(RUNS, 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    void survivalAndQualificationMatchTheDiceOdds() {
+        Career career = new Career("Scouts", "Explorers");
+
+        CareerOdds odds = simulator.simulate(career, 0, 3, RUNS, new SplittableRandom(7));
+
+        // 2d6 >= 5 survives, 2d6 + 0 >= 8 qualifies
+        double survival = 30.0 / 36;
+        assertEquals(15.0 / 36, odds.qualificationRate(), 0.005);
+        odds.survivalByTerm().forEach(rate -> assertEquals(survival, rate, 0.005));
+        assertEquals(survival * survival * survival, odds.survivalRate(), 0.005);
+    }
+
+    @Test
+    void highCharacteristicAlwaysQualifies() {
+        Career career = new Career("Scouts", "Explorers");
+
+        CareerOdds odds = simulator.simulate(career, 6, 1, RUNS, new SplittableRandom(7));
+
+        assertEquals(1.0, odds.qualificationRate());
+    }
+
+    @Test
+    void sameSeedGivesSameOdds() {
+        Career career = new Career("Scouts", "Explorers");
+
+        CareerOdds first = simulator.simulate(career, 7, 4, RUNS, new SplittableRandom(42));
+        CareerOdds second = simulator.simulate(career, 7, 4, RUNS, new SplittableRandom(42));
+
+        assertEquals(first.expectedCredits(), second.expectedCredits());
+        assertEquals(first.survivalByTerm(), second.survivalByTerm());
+    }
+}
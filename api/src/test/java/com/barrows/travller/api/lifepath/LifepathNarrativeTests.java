@@ -0,0 +1,84 @@
+package com.barrows.travller.api.lifepath;
+
+import com.barrows.travller.api.model.Career;
+import com.barrows.travller.api.model.CareerTerm;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.LifepathPhase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies the lifepath state transitions of a character and the lifepath written from them.
+ */
+class LifepathNarrativeTests {
+
+    private final Career scouts = career(1L, "Scouts");
+    private final Career navy = career(2L, "Navy");
+
+    @Test
+    void lifepathFollowsTheStateOfTheCharacter() {
+        Character character = new Character("Jamison");
+        character.setBackground("Grew up on a free trader.");
+
+        character.selectCareer(scouts);
+        assertEquals("Attempted to join the Scouts.", LifepathNarrative.lifepath(character, scouts));
+
+        character.joinCareer(scouts, false);
+        character.completeTerm(term(scouts, 1, true));
+        character.completeTerm(term(scouts, 2, true));
+        assertEquals(2, character.getCareerTerm());
+        assertEquals("Qualified for the Scouts. Completed a term in the Scouts. Completed a term in the Scouts.",
+                LifepathNarrative.lifepath(character, scouts));
+
+        character.musterOut();
+        character.selectCareer(navy);
+        character.failQualification();
+        assertEquals(LifepathPhase.PRE_CAREER, character.getLifepathPhase());
+        assertEquals("Joined the Scouts. Completed a term in the Scouts. "
+                + "Completed a term in the Scouts. Mustered out of the Scouts after 2 terms. "
+                + "Attempted to join the Navy but failed qualification.", LifepathNarrative.lifepath(character, navy));
+        assertEquals("Grew up on a free trader.", character.getBackground());
+    }
+
+    @Test
+    void draftedCharacterWhoDiesEndsTheLifepath() {
+        Character character = new Character("Kiefer");
+
+        character.selectCareer(navy);
+        character.joinCareer(scouts, true);
+        character.completeTerm(term(scouts, 1, false));
+
+        assertEquals(LifepathPhase.DECEASED, character.getLifepathPhase());
+        assertEquals("Was drafted into the Scouts. Died during service in the Scouts.",
+                LifepathNarrative.lifepath(character, scouts));
+        assertThrows(IllegalStateException.class, () -> character.selectCareer(navy));
+    }
+
+    @Test
+    void stepsOutOfOrderAreRejected() {
+        Character character = new Character("Alell");
+
+        assertThrows(IllegalStateException.class, () -> character.completeTerm(term(scouts, 1, true)));
+        assertThrows(IllegalStateException.class, character::failQualification);
+
+        character.selectCareer(scouts);
+        character.joinCareer(scouts, false);
+        assertThrows(IllegalStateException.class, character::musterOut);
+        assertThrows(IllegalStateException.class, () -> character.selectCareer(navy));
+    }
+
+    private static Career career(Long id, String name) {
+        Career career = new Career(name, name);
+        career.setId(id);
+        return career;
+    }
+
+    private static CareerTerm term(Career career, int termNumber, boolean survived) {
+        CareerTerm term = new CareerTerm(career, termNumber);
+        term.setRank(1);
+        term.setSurvived(survived);
+        return term;
+    }
+}
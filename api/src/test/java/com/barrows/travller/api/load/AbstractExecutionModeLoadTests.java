@@ -0,0 +1,128 @@
+package com.barrows.travller.api.load;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.Tenant;
+import com.barrows.travller.api.repository.CharacterRepository;
+import com.barrows.travller.api.repository.RaceRepository;
+import com.barrows.travller.api.repository.TenantRepository;
+import com.barrows.travller.api.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives the {@code character} and {@code worlds} queries over HTTP so the result reflects the
+ * Tomcat threading model. Subclasses select the execution mode; results are printed and appended to
+ * {@code build/reports/load/execution-modes.csv} for comparison. Run with {@code gradle loadTest}.
+ */
+@Tag("load")
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class AbstractExecutionModeLoadTests {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 200);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 5000);
+    private static final Path REPORT = Path.of("build", "reports", "load", "execution-modes.csv");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private Long tenantId;
+    private Long characterId;
+
+    /**
+     * @return The name of the execution mode under test
+     */
+    protected abstract String mode();
+
+    @BeforeEach
+    void setUp() {
+        Tenant tenant = tenantRepository.findByName("default").orElseThrow();
+        tenantId = tenant.getId();
+        Race race = raceRepository.findAll().get(0);
+        Character character = new Character("Load Test Traveller", race);
+        character.setTenant(tenant);
+        characterId = characterRepository.save(character).getId();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TenantContext.callWithTenant(tenantId, () -> {
+            characterRepository.deleteById(characterId);
+            return null;
+        });
+    }
+
+    @Test
+    void characterQuery() throws Exception {
+        measure("character", "{ character(id: " + characterId + ") { id name race { id } } }");
+    }
+
+    @Test
+    void worldsQuery() throws Exception {
+        measure("worlds", "{ worlds(first: 20) { nodes { id name starport techLevel } pageInfo { hasNextPage } } }");
+    }
+
+    private void measure(String operation, String query) throws Exception {
+        String body = "{\"query\":\"" + query.replace("\"", "\\\"") + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/graphql"))
+                .header("Content-Type", "application/json")
+                .header("X-Tenant-ID", "default")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        // Warm up the JIT, the connection pool and the caches before measuring
+        LoadDriver.run(CONCURRENCY, Math.max(REQUESTS / 10, 1), () -> send(request));
+        LoadDriver.Result result = LoadDriver.run(CONCURRENCY, REQUESTS, () -> send(request));
+
+        System.out.printf("[%s] %s: %s%n", mode(), operation, result);
+        report(operation, result);
+        assertEquals(0, result.errors(), "Requests failed under load");
+    }
+
+    private boolean send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return response.statusCode() == 200 && !response.body().contains("\"errors\"");
+    }
+
+    private void report(String operation, LoadDriver.Result result) throws IOException {
+        Files.createDirectories(REPORT.getParent());
+        if (Files.notExists(REPORT)) {
+            Files.writeString(REPORT, "mode,operation,concurrency,requests,errors,throughput,p50_ms,p95_ms,p99_ms\n",
+                    StandardCharsets.UTF_8);
+        }
+        String line = String.format("%s,%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f%n", mode(), operation, CONCURRENCY,
+                result.requests(), result.errors(), result.throughput(),
+                result.p50().toNanos() / 1e6, result.p95().toNanos() / 1e6, result.p99().toNanos() / 1e6);
+        Files.writeString(REPORT, line, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,75 @@
+package com.barrows.travller.api.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds tenants, characters and worlds for the load harness with batched JDBC inserts,
+ * which is much faster than going through the GraphQL mutations for large data sets.
+ */
+class LoadDataSeeder {
+
+    private static final String[] UWPS = {"A788899-C", "B430A66-9", "C560757-8", "E9C4000-0", "X420000-0"};
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Seed the given number of tenants, each with its own characters and worlds.
+     *
+     * @return The names of the seeded tenants
+     */
+    List<String> seed(int tenants, int charactersPerTenant, int worldsPerTenant) {
+        Long raceId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM races", Long.class);
+        List<String> tenantNames = new ArrayList<>(tenants);
+        for (int t = 0; t < tenants; t++) {
+            String tenantName = "load-" + t;
+            Long tenantId = jdbcTemplate.queryForObject(
+                    "INSERT INTO tenants (name, description) VALUES (?, 'Load harness tenant') "
+                            + "ON CONFLICT (name) DO UPDATE SET description = EXCLUDED.description RETURNING id",
+                    Long.class, tenantName);
+            seedCharacters(tenantId, raceId, charactersPerTenant);
+            seedWorlds(tenantId, worldsPerTenant);
+            tenantNames.add(tenantName);
+        }
+        return tenantNames;
+    }
+
+    private void seedCharacters(Long tenantId, Long raceId, int count) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{"Traveller " + i, raceId, tenantId});
+            if (rows.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO characters (name, age, gender, race_id, credits, background, status, tenant_id) "
+                        + "VALUES (?, 18, '', ?, 0, '', 'ALIVE', ?)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private void seedWorlds(Long tenantId, int count) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String uwp = UWPS[i % UWPS.length];
+            rows.add(new Object[]{"World " + i, uwp, String.valueOf(uwp.charAt(0)),
+                    hex(uwp.charAt(1)), hex(uwp.charAt(2)), hex(uwp.charAt(3)), hex(uwp.charAt(4)),
+                    hex(uwp.charAt(5)), hex(uwp.charAt(6)), hex(uwp.charAt(8)), tenantId});
+            if (rows.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO worlds (name, uwp, type, travel_zone, starport_class, size, atmosphere, "
+                        + "hydrographics, population, government, law_level, tech_level, gas_giants, system_position, "
+                        + "satellites, tenant_id) VALUES (?, ?, 'GARDEN', 'GREEN', ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, ?)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private static int hex(char c) {
+        return Character.digit(c, 16);
+    }
+}
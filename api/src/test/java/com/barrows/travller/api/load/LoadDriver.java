@@ -0,0 +1,188 @@
+package com.barrows.travller.api.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal closed-loop load generator for the load tests.
+ * Runs an operation a fixed number of times with bounded concurrency and records per-call latency.
+ */
+public final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    /**
+     * Run an operation and collect latency statistics.
+     *
+     * @param concurrency The maximum number of operations in flight
+     * @param requests The total number of operations
+     * @param operation The operation; returning false or throwing counts as an error
+     * @return The result
+     * @throws Exception if the driver is interrupted
+     */
+    public static Result run(int concurrency, int requests, Callable<Boolean> operation) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Future<?>> futures = new ArrayList<>(requests);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                final int index = i;
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        if (!operation.call()) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Arrays.sort(latencies);
+        return new Result(requests, errors.get(), elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99));
+    }
+
+    /**
+     * Run a weighted mix of operations and collect latency statistics per operation.
+     * Every operation in the mix shares the same concurrency limit, so the result reflects contention between them.
+     *
+     * @param concurrency The maximum number of operations in flight
+     * @param requests The total number of operations
+     * @param mix The operations and their relative weights
+     * @param seed The seed for picking operations, so runs are reproducible
+     * @return The result per operation name, in mix order
+     * @throws Exception if the driver is interrupted
+     */
+    public static Map<String, Result> runMix(int concurrency, int requests, List<WeightedOperation> mix, long seed)
+            throws Exception {
+        int totalWeight = mix.stream().mapToInt(WeightedOperation::weight).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("The operation mix must have a positive total weight");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] picks = new int[requests];
+        for (int i = 0; i < requests; i++) {
+            int ticket = random.nextInt(totalWeight);
+            int op = 0;
+            while (ticket >= mix.get(op).weight()) {
+                ticket -= mix.get(op).weight();
+                op++;
+            }
+            picks[i] = op;
+        }
+
+        long[] latencies = new long[requests];
+        boolean[] failed = new boolean[requests];
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Future<?>> futures = new ArrayList<>(requests);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                final int index = i;
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        failed[index] = !mix.get(picks[index]).operation().call();
+                    } catch (Exception e) {
+                        failed[index] = true;
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (int op = 0; op < mix.size(); op++) {
+            int count = 0;
+            int errors = 0;
+            for (int i = 0; i < requests; i++) {
+                if (picks[i] == op) {
+                    count++;
+                }
+            }
+            long[] opLatencies = new long[count];
+            int n = 0;
+            for (int i = 0; i < requests; i++) {
+                if (picks[i] == op) {
+                    opLatencies[n++] = latencies[i];
+                    if (failed[i]) {
+                        errors++;
+                    }
+                }
+            }
+            Arrays.sort(opLatencies);
+            results.put(mix.get(op).name(), new Result(count, errors, elapsed,
+                    percentile(opLatencies, 0.50), percentile(opLatencies, 0.95), percentile(opLatencies, 0.99)));
+        }
+        return results;
+    }
+
+    private static Duration percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+    }
+
+    /**
+     * An operation in a load mix.
+     *
+     * @param name The operation name used in reports
+     * @param weight The relative frequency of the operation
+     * @param operation The operation; returning false or throwing counts as an error
+     */
+    public record WeightedOperation(String name, int weight, Callable<Boolean> operation) {
+    }
+
+    /**
+     * Latency and throughput of a load run.
+     */
+    public record Result(int requests, int errors, Duration elapsed, Duration p50, Duration p95, Duration p99) {
+
+        public double throughput() {
+            return requests / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%.1f/s p50=%.2fms p95=%.2fms p99=%.2fms",
+                    requests, errors, throughput(),
+                    p50.toNanos() / 1e6, p95.toNanos() / 1e6, p99.toNanos() / 1e6);
+        }
+    }
+}
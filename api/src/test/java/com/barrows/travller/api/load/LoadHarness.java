@@ -0,0 +1,212 @@
+package com.barrows.travller.api.load;
+
+import com.barrows.travller.api.ApiApplication;
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end GraphQL load harness.
+ * Boots the API against Testcontainers Postgres, seeds tenants x characters x worlds, drives a weighted mix of
+ * queries and character-creation mutations over HTTP and reports p50/p95/p99 latency, throughput and SQL
+ * statements per operation. Run with {@code gradle loadHarness}; settings are {@code loadtest.*} system properties,
+ * and program arguments are passed to the application (e.g. {@code --spring.profiles.active=cicd,virtual-threads}).
+ */
+public final class LoadHarness {
+
+    private static final String DEFAULT_MIX = "characters=35,character=20,worlds=25,world=10,createCharacter=10";
+    private static final int STATEMENT_SAMPLES = 20;
+    private static final Path REPORT = Path.of("build", "reports", "load", "harness.json");
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final URI endpoint;
+    private final List<String> tenants;
+    private final Map<String, long[]> characterIds = new LinkedHashMap<>();
+    private final Map<String, long[]> worldIds = new LinkedHashMap<>();
+    private final Long raceId;
+    private final AtomicLong createdCharacters = new AtomicLong();
+
+    private LoadHarness(URI endpoint, List<String> tenants, JdbcTemplate jdbcTemplate) {
+        this.endpoint = endpoint;
+        this.tenants = tenants;
+        this.raceId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM races", Long.class);
+        for (String tenant : tenants) {
+            characterIds.put(tenant, ids(jdbcTemplate, "characters", tenant));
+            worldIds.put(tenant, ids(jdbcTemplate, "worlds", tenant));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int tenantCount = Integer.getInteger("loadtest.tenants", 3);
+        int characters = Integer.getInteger("loadtest.characters", 1000);
+        int worlds = Integer.getInteger("loadtest.worlds", 5000);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        int requests = Integer.getInteger("loadtest.requests", 10000);
+        String mixSpec = System.getProperty("loadtest.mix", DEFAULT_MIX);
+
+        String[] applicationArgs = Stream.concat(Stream.of(
+                        "--server.port=0",
+                        "--spring.profiles.active=cicd",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true"),
+                Stream.of(args)).toArray(String[]::new);
+
+        try (ConfigurableApplicationContext context = SpringApplication.from(ApiApplication::main)
+                .with(TestcontainersConfiguration.class)
+                .run(applicationArgs)
+                .getApplicationContext()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class).getStatistics();
+
+            System.out.printf("Seeding %d tenants x %d characters x %d worlds%n", tenantCount, characters, worlds);
+            List<String> tenants = new LoadDataSeeder(jdbcTemplate).seed(tenantCount, characters, worlds);
+            jdbcTemplate.execute("ANALYZE");
+
+            LoadHarness harness = new LoadHarness(URI.create("http://localhost:" + port + "/graphql"), tenants, jdbcTemplate);
+            List<LoadDriver.WeightedOperation> mix = harness.mix(mixSpec);
+
+            Map<String, Double> statementsPerOperation = harness.statementsPerOperation(mix, statistics);
+
+            // Warm up, then measure
+            LoadDriver.runMix(concurrency, Math.max(requests / 10, 1), mix, 1L);
+            Map<String, LoadDriver.Result> results = LoadDriver.runMix(concurrency, requests, mix, 42L);
+
+            harness.report(results, statementsPerOperation, concurrency);
+        }
+    }
+
+    /**
+     * Build the operation mix from a spec like {@code "characters=35,worlds=25"}.
+     */
+    private List<LoadDriver.WeightedOperation> mix(String spec) {
+        List<LoadDriver.WeightedOperation> mix = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            String name = parts[0].trim();
+            int weight = Integer.parseInt(parts[1].trim());
+            mix.add(new LoadDriver.WeightedOperation(name, weight, operation(name)));
+        }
+        return mix;
+    }
+
+    private Callable<Boolean> operation(String name) {
+        return switch (name) {
+            case "characters" -> () -> send(randomTenant(),
+                    "{ characters(first: 20) { nodes { id name race { id } skills { id } } pageInfo { hasNextPage } } }");
+            case "character" -> () -> {
+                String tenant = randomTenant();
+                return send(tenant, "{ character(id: " + randomId(characterIds.get(tenant))
+                        + ") { id name race { id } characteristics { type value } skills { name level } } }");
+            };
+            case "worlds" -> () -> send(randomTenant(),
+                    "{ worlds(first: 20) { nodes { id name starport techLevel } pageInfo { hasNextPage endCursor } } }");
+            case "world" -> () -> {
+                String tenant = randomTenant();
+                return send(tenant, "{ world(id: " + randomId(worldIds.get(tenant)) + ") { id name starport techLevel } }");
+            };
+            case "createCharacter" -> () -> send(randomTenant(),
+                    "mutation { createCharacter(input: { name: \\\"Harness " + createdCharacters.incrementAndGet()
+                            + "\\\", raceId: " + raceId + " }) { id } }");
+            default -> throw new IllegalArgumentException("Unknown operation: " + name);
+        };
+    }
+
+    /**
+     * Run each operation serially and average the prepared statements Hibernate reports for it.
+     */
+    private Map<String, Double> statementsPerOperation(List<LoadDriver.WeightedOperation> mix, Statistics statistics)
+            throws Exception {
+        Map<String, Double> statements = new LinkedHashMap<>();
+        for (LoadDriver.WeightedOperation operation : mix) {
+            statistics.clear();
+            for (int i = 0; i < STATEMENT_SAMPLES; i++) {
+                operation.operation().call();
+            }
+            statements.put(operation.name(), statistics.getPrepareStatementCount() / (double) STATEMENT_SAMPLES);
+        }
+        return statements;
+    }
+
+    private boolean send(String tenant, String query) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .header("Content-Type", "application/json")
+                .header("X-Tenant-ID", tenant)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"query\":\"" + query + "\"}"))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return response.statusCode() == 200 && !response.body().contains("\"errors\"");
+    }
+
+    private String randomTenant() {
+        return tenants.get(ThreadLocalRandom.current().nextInt(tenants.size()));
+    }
+
+    private static long randomId(long[] ids) {
+        return ids.length == 0 ? 0 : ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static long[] ids(JdbcTemplate jdbcTemplate, String table, String tenant) {
+        return jdbcTemplate.queryForList("SELECT e.id FROM " + table + " e JOIN tenants t ON t.id = e.tenant_id "
+                + "WHERE t.name = ?", Long.class, tenant).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void report(Map<String, LoadDriver.Result> results, Map<String, Double> statements, int concurrency)
+            throws Exception {
+        System.out.printf("%-16s %8s %7s %10s %9s %9s %9s %10s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "SQL/op");
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<String, LoadDriver.Result> entry : results.entrySet()) {
+            LoadDriver.Result result = entry.getValue();
+            double sqlPerOperation = statements.getOrDefault(entry.getKey(), 0.0);
+            System.out.printf("%-16s %8d %7d %10.1f %9.2f %9.2f %9.2f %10.1f%n", entry.getKey(),
+                    result.requests(), result.errors(), result.throughput(),
+                    result.p50().toNanos() / 1e6, result.p95().toNanos() / 1e6, result.p99().toNanos() / 1e6,
+                    sqlPerOperation);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("operation", entry.getKey());
+            row.put("requests", result.requests());
+            row.put("errors", result.errors());
+            row.put("throughput", result.throughput());
+            row.put("p50Ms", result.p50().toNanos() / 1e6);
+            row.put("p95Ms", result.p95().toNanos() / 1e6);
+            row.put("p99Ms", result.p99().toNanos() / 1e6);
+            row.put("sqlStatementsPerOperation", sqlPerOperation);
+            rows.add(row);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", concurrency);
+        report.put("tenants", tenants.size());
+        report.put("operations", rows);
+        Files.createDirectories(REPORT.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT.toFile(), report);
+        System.out.println("Report written to " + REPORT.toAbsolutePath());
+    }
+}
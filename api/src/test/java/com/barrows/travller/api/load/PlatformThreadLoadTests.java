@@ -0,0 +1,15 @@
+package com.barrows.travller.api.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Load test with the default platform-thread Tomcat pool.
+ */
+@ActiveProfiles("cicd")
+class PlatformThreadLoadTests extends AbstractExecutionModeLoadTests {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,15 @@
+package com.barrows.travller.api.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Load test with the {@code virtual-threads} execution mode.
+ */
+@ActiveProfiles({"cicd", "virtual-threads"})
+class VirtualThreadLoadTests extends AbstractExecutionModeLoadTests {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,234 @@
+package com.barrows.travller.api.repository;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.model.CharacterStatus;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.TravelZone;
+import com.barrows.travller.api.model.WorldType;
+import com.barrows.travller.api.tenant.TenantContext;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs each method of the tenant-aware repositories against a large seeded data set, captures the SQL
+ * Hibernate generates for it, tenant filter included, and fails if {@code EXPLAIN} of any of those
+ * statements falls back to a sequential scan of the seeded tables.
+ * The statements are explained as generic plans, with their JDBC parameters left as placeholders.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.barrows.travller.api.repository.TenantIndexPlanTests$RecordingStatementInspector")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TenantIndexPlanTests {
+
+    private static final int TENANTS = 50;
+    private static final int ROWS_PER_TENANT = 1000;
+    private static final List<String> SEEDED_TABLES = List.of("characters", "characteristics", "worlds");
+    private static final String PLAN_TENANTS = "SELECT id FROM tenants WHERE name LIKE 'plan-%'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private WorldRepository worldRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    private long tenantId;
+    private Race race;
+    private List<Long> characterIds;
+    private List<Long> subsectorIds;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO tenants (name) SELECT 'plan-' || g FROM generate_series(1, ?) g "
+                + "ON CONFLICT (name) DO NOTHING", TENANTS);
+        long raceId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM races", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO characters (name, age, gender, race_id, credits, background, status, tenant_id)
+                SELECT 'Traveller ' || g, 18 + g % 60, '', ?, 0, '', CASE WHEN g % 10 = 0 THEN 'DEAD' ELSE 'ALIVE' END, t.id
+                FROM tenants t CROSS JOIN generate_series(1, ?) g
+                WHERE t.name LIKE 'plan-%'
+                """, raceId, ROWS_PER_TENANT);
+        jdbcTemplate.update("""
+                INSERT INTO characteristics (type, value, original_value, character_id, tenant_id)
+                SELECT type, 7, 7, c.id, c.tenant_id
+                FROM characters c
+                CROSS JOIN unnest(ARRAY['STRENGTH', 'DEXTERITY', 'ENDURANCE', 'INTELLIGENCE', 'EDUCATION', 'SOCIAL_STANDING']) type
+                WHERE c.tenant_id IN (%s)
+                """.formatted(PLAN_TENANTS));
+        jdbcTemplate.update("""
+                INSERT INTO worlds (name, uwp, type, travel_zone, starport_class, size, atmosphere, hydrographics,
+                                    population, government, law_level, tech_level, gas_giants, system_position,
+                                    satellites, tenant_id)
+                SELECT 'World ' || g, 'A788899-C', 'GARDEN', 'GREEN', 'A', g % 11, g % 16, g % 11, g % 13, g % 16,
+                       g % 16, g % 16, g % 3, 0, 0, t.id
+                FROM tenants t CROSS JOIN generate_series(1, ?) g
+                WHERE t.name LIKE 'plan-%'
+                """, ROWS_PER_TENANT);
+        jdbcTemplate.execute("ANALYZE characters, characteristics, character_skills, skills, worlds");
+
+        tenantId = jdbcTemplate.queryForObject("SELECT id FROM tenants WHERE name = 'plan-1'", Long.class);
+        race = raceRepository.findById(raceId).orElseThrow();
+        characterIds = jdbcTemplate.queryForList("SELECT id FROM characters WHERE tenant_id = ? ORDER BY id LIMIT 20",
+                Long.class, tenantId);
+        subsectorIds = jdbcTemplate.queryForList("SELECT id FROM subsectors ORDER BY id", Long.class);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM characteristics WHERE tenant_id IN (" + PLAN_TENANTS + ")");
+        jdbcTemplate.update("DELETE FROM characters WHERE tenant_id IN (" + PLAN_TENANTS + ")");
+        jdbcTemplate.update("DELETE FROM worlds WHERE tenant_id IN (" + PLAN_TENANTS + ")");
+        jdbcTemplate.update("DELETE FROM tenants WHERE name LIKE 'plan-%'");
+    }
+
+    /**
+     * Every query of the tenant-aware repositories, run as the seeded tenant.
+     */
+    private Map<String, Runnable> queries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("characters.findAll", characterRepository::findAll);
+        queries.put("characters.findById", () -> characterRepository.findById(characterIds.get(0)));
+        queries.put("characters.existsById", () -> characterRepository.existsById(characterIds.get(0)));
+        queries.put("characters.count", characterRepository::count);
+        queries.put("characters.findByNameContainingIgnoreCase",
+                () -> characterRepository.findByNameContainingIgnoreCase("veller 1"));
+        queries.put("characters.findByRace", () -> characterRepository.findByRace(race));
+        queries.put("characters.findByStatus", () -> characterRepository.findByStatus(CharacterStatus.DEAD));
+        queries.put("characters.findLivingCharacters", characterRepository::findLivingCharacters);
+        queries.put("characters.findByAgeGreaterThanEqual", () -> characterRepository.findByAgeGreaterThanEqual(30));
+        queries.put("characters.findByAgeLessThanEqual", () -> characterRepository.findByAgeLessThanEqual(30));
+        queries.put("characters.findBySkillName", () -> characterRepository.findBySkillName("Pilot"));
+        queries.put("characters.findBySkillNameAndMinimumLevel",
+                () -> characterRepository.findBySkillNameAndMinimumLevel("Pilot", 1));
+        queries.put("characters.searchByName", () -> characterRepository.searchByName("veller 1"));
+        queries.put("characters.findPageFirst", () -> characterRepository.findPageFirst(Limit.of(20)));
+        queries.put("characters.findPageAfter",
+                () -> characterRepository.findPageAfter("Traveller 5", 0L, Limit.of(20)));
+        queries.put("characters.findPageLast", () -> characterRepository.findPageLast(Limit.of(20)));
+        queries.put("characters.findPageBefore",
+                () -> characterRepository.findPageBefore("Traveller 5", Long.MAX_VALUE, Limit.of(20)));
+        queries.put("characters.findRacesByCharacterIds", () -> characterRepository.findRacesByCharacterIds(characterIds));
+        queries.put("characters.findHomeworldsByCharacterIds",
+                () -> characterRepository.findHomeworldsByCharacterIds(characterIds));
+        queries.put("characters.findEquippedWeaponsByCharacterIds",
+                () -> characterRepository.findEquippedWeaponsByCharacterIds(characterIds));
+        queries.put("characters.findEquippedArmorByCharacterIds",
+                () -> characterRepository.findEquippedArmorByCharacterIds(characterIds));
+        queries.put("characters.findCharacteristicsByCharacterIds",
+                () -> characterRepository.findCharacteristicsByCharacterIds(characterIds));
+        queries.put("characters.findSkillsByCharacterIds", () -> characterRepository.findSkillsByCharacterIds(characterIds));
+        queries.put("characters.findCareerTermsByCharacterIds",
+                () -> characterRepository.findCareerTermsByCharacterIds(characterIds));
+        queries.put("characters.findWeaponsByCharacterIds", () -> characterRepository.findWeaponsByCharacterIds(characterIds));
+        queries.put("characters.findArmorByCharacterIds", () -> characterRepository.findArmorByCharacterIds(characterIds));
+
+        queries.put("worlds.findAll", worldRepository::findAll);
+        queries.put("worlds.findById", () -> worldRepository.findById(1L));
+        queries.put("worlds.count", worldRepository::count);
+        queries.put("worlds.findByNameContainingIgnoreCase", () -> worldRepository.findByNameContainingIgnoreCase("orld 1"));
+        queries.put("worlds.findByUwpContaining", () -> worldRepository.findByUwpContaining("788"));
+        queries.put("worlds.findByType", () -> worldRepository.findByType(WorldType.GARDEN));
+        queries.put("worlds.findByTravelZone", () -> worldRepository.findByTravelZone(TravelZone.RED));
+        queries.put("worlds.findByStarportClass", () -> worldRepository.findByStarportClass('X'));
+        queries.put("worlds.findByTechLevelGreaterThanEqual", () -> worldRepository.findByTechLevelGreaterThanEqual(12));
+        queries.put("worlds.findByPopulationGreaterThanEqual", () -> worldRepository.findByPopulationGreaterThanEqual(9));
+        queries.put("worlds.findByTradeCode", () -> worldRepository.findByTradeCode("Hi"));
+        queries.put("worlds.findBySubsectorId", () -> worldRepository.findBySubsectorId(subsectorIds.get(0)));
+        queries.put("worlds.findByPoliticalEntityId", () -> worldRepository.findByPoliticalEntityId(1L));
+        queries.put("worlds.findByGasGiantsGreaterThan", () -> worldRepository.findByGasGiantsGreaterThan(1));
+        queries.put("worlds.searchByNameOrUwp", () -> worldRepository.searchByNameOrUwp("orld 1"));
+        queries.put("worlds.findByAtmosphere", () -> worldRepository.findByAtmosphere(6));
+        queries.put("worlds.findByTechLevelBetween", () -> worldRepository.findByTechLevelBetween(8, 10));
+        queries.put("worlds.findPageFirst", () -> worldRepository.findPageFirst(Limit.of(20)));
+        queries.put("worlds.findPageAfter", () -> worldRepository.findPageAfter("World 5", 0L, Limit.of(20)));
+        queries.put("worlds.findPageLast", () -> worldRepository.findPageLast(Limit.of(20)));
+        queries.put("worlds.findPageBefore", () -> worldRepository.findPageBefore("World 5", Long.MAX_VALUE, Limit.of(20)));
+        queries.put("worlds.findBySubsectorIds", () -> worldRepository.findBySubsectorIds(subsectorIds));
+        queries.put("worlds.findByHomeworldIds", () -> worldRepository.findByHomeworldIds(List.of(1L, 2L, 3L)));
+        return queries;
+    }
+
+    @TestFactory
+    Stream<DynamicTest> tenantScopedQueriesUseIndexes() {
+        return queries().entrySet().stream().map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+            List<String> statements = capture(query.getValue());
+            assertFalse(statements.isEmpty(), () -> query.getKey() + " issued no SQL");
+            for (String statement : statements) {
+                String plan = String.join("\n", jdbcTemplate.queryForList(
+                        "EXPLAIN (GENERIC_PLAN) " + numberParameters(statement), String.class));
+                for (String table : SEEDED_TABLES) {
+                    assertFalse(plan.contains("Seq Scan on " + table),
+                            () -> query.getKey() + " scans " + table + " sequentially:\n" + statement + "\n" + plan);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Run a repository query as the seeded tenant and return the SQL Hibernate issued for it.
+     */
+    private List<String> capture(Runnable query) throws Exception {
+        RecordingStatementInspector.STATEMENTS.clear();
+        TenantContext.callWithTenant(tenantId, () -> {
+            query.run();
+            return null;
+        });
+        synchronized (RecordingStatementInspector.STATEMENTS) {
+            return List.copyOf(RecordingStatementInspector.STATEMENTS);
+        }
+    }
+
+    /**
+     * Turn the JDBC {@code ?} placeholders into the numbered {@code $n} parameters a generic plan takes.
+     */
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    /**
+     * Records every statement Hibernate prepares, unchanged.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
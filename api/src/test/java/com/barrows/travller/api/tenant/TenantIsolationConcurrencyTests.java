@@ -0,0 +1,155 @@
+package com.barrows.travller.api.tenant;
+
+import com.barrows.travller.api.TestcontainersConfiguration;
+import com.barrows.travller.api.model.Character;
+import com.barrows.travller.api.model.Race;
+import com.barrows.travller.api.model.Tenant;
+import com.barrows.travller.api.repository.CharacterRepository;
+import com.barrows.travller.api.repository.RaceRepository;
+import com.barrows.travller.api.repository.TenantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs many interleaved GraphQL requests for different tenants on virtual threads and verifies
+ * that no request ever sees another tenant's data, and that no tenant binding leaks onto the caller.
+ * Also verifies that the tenant filter hides other tenants' rows from lookups by ID, and hides every
+ * tenant's rows when no tenant is set.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class TenantIsolationConcurrencyTests {
+
+    private static final int TENANTS = 4;
+    private static final int REQUESTS = 2000;
+
+    private static final String QUERY = """
+            {
+              currentTenant { name }
+              characters(first: 10) { nodes { name race { id } } }
+            }
+            """;
+
+    @Autowired
+    private WebGraphQlHandler webGraphQlHandler;
+
+    @Autowired
+    private CharacterRepository characterRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    private final List<Tenant> tenants = new ArrayList<>();
+    private final Map<Long, List<Character>> characters = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Race race = raceRepository.findAll().get(0);
+        for (int i = 0; i < TENANTS; i++) {
+            Tenant tenant = tenantRepository.save(new Tenant("isolation-" + i, "Concurrency test tenant"));
+            tenants.add(tenant);
+            for (int j = 0; j < 3; j++) {
+                Character character = new Character(tenant.getName(), race);
+                character.setTenant(tenant);
+                characters.computeIfAbsent(tenant.getId(), key -> new ArrayList<>())
+                        .add(characterRepository.save(character));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Map.Entry<Long, List<Character>> entry : characters.entrySet()) {
+            TenantContext.callWithTenant(entry.getKey(), () -> {
+                characterRepository.deleteAll(entry.getValue());
+                return null;
+            });
+        }
+        characters.clear();
+        tenantRepository.deleteAll(tenants);
+        tenants.clear();
+    }
+
+    @Test
+    void interleavedRequestsNeverReadAnotherTenantsData() throws Exception {
+        AtomicInteger crossTenantReads = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                String tenantName = tenants.get(i % TENANTS).getName();
+                futures.add(executor.submit(() -> {
+                    WebGraphQlTester tester = WebGraphQlTester.builder(webGraphQlHandler)
+                            .header("X-Tenant-ID", tenantName)
+                            .build();
+                    GraphQlTester.Response response = tester.document(QUERY).execute();
+                    String currentTenant = response.path("currentTenant.name").entity(String.class).get();
+                    List<String> names = response.path("characters.nodes[*].name").entityList(String.class).get();
+                    if (!tenantName.equals(currentTenant) || names.size() != 3
+                            || names.stream().anyMatch(name -> !name.equals(tenantName))) {
+                        crossTenantReads.incrementAndGet();
+                    }
+                    assertNull(TenantContext.getCurrentTenant(), "Tenant leaked onto the calling thread");
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(0, crossTenantReads.get());
+    }
+
+    @Test
+    void lookupsByIdNeverReturnAnotherTenantsCharacter() {
+        Tenant owner = tenants.get(1);
+        Long otherTenantsCharacterId = characters.get(owner.getId()).get(0).getId();
+
+        WebGraphQlTester tester = WebGraphQlTester.builder(webGraphQlHandler)
+                .header("X-Tenant-ID", tenants.get(0).getName())
+                .build();
+        tester.document("query($id: ID!) { character(id: $id) { name } }")
+                .variable("id", otherTenantsCharacterId)
+                .execute()
+                .path("character").valueIsNull();
+        tester.document("mutation($id: ID!) { deleteCharacter(id: $id) }")
+                .variable("id", otherTenantsCharacterId)
+                .execute()
+                .path("deleteCharacter").entity(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    void repositoriesSeeNoCharactersWithoutATenant() {
+        Long characterId = characters.get(tenants.get(0).getId()).get(0).getId();
+
+        assertNull(TenantContext.getCurrentTenant());
+        assertTrue(characterRepository.findAll().isEmpty());
+        assertEquals(0, characterRepository.count());
+        assertFalse(characterRepository.existsById(characterId));
+        assertTrue(characterRepository.findById(characterId).isEmpty());
+    }
+}
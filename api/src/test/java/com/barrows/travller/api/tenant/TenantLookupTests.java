@@ -0,0 +1,95 @@
+package com.barrows.travller.api.tenant;
+
+import com.barrows.travller.api.graphql.TenantResolver;
+import com.barrows.travller.api.model.Tenant;
+import com.barrows.travller.api.repository.TenantRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the tenant name cache: expiry after the TTL and eviction when tenants are created or updated.
+ */
+public class TenantLookupTests {
+
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private final TenantLookup tenantLookup = new TenantLookup(tenantRepository, Duration.ofMinutes(5), 100, nanos::get);
+    private final TenantResolver tenantResolver = new TenantResolver(tenantRepository, mock(TenantService.class),
+            tenantLookup, mock(TenantSchemaRouting.class));
+
+    @Test
+    void cachedIdsExpireAfterTheTtl() {
+        when(tenantRepository.findByName("alpha")).thenReturn(Optional.of(tenant(1L, "alpha")));
+
+        assertEquals(1L, tenantLookup.findIdByName("alpha"));
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertEquals(1L, tenantLookup.findIdByName("alpha"));
+        verify(tenantRepository, times(1)).findByName("alpha");
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertEquals(1L, tenantLookup.findIdByName("alpha"));
+        verify(tenantRepository, times(2)).findByName("alpha");
+    }
+
+    @Test
+    void unknownNamesAreNotCached() {
+        when(tenantRepository.findByName("beta")).thenReturn(Optional.empty());
+        assertNull(tenantLookup.findIdByName("beta"));
+
+        when(tenantRepository.findByName("beta")).thenReturn(Optional.of(tenant(2L, "beta")));
+        assertEquals(2L, tenantLookup.findIdByName("beta"));
+    }
+
+    @Test
+    void creatingATenantEvictsItsName() {
+        when(tenantRepository.findByName("gamma")).thenReturn(Optional.of(tenant(3L, "gamma")));
+        assertEquals(3L, tenantLookup.findIdByName("gamma"));
+
+        when(tenantRepository.save(any(Tenant.class))).thenAnswer(invocation -> {
+            Tenant tenant = invocation.getArgument(0);
+            tenant.setId(4L);
+            return tenant;
+        });
+        when(tenantRepository.findByName("gamma")).thenReturn(Optional.of(tenant(4L, "gamma")));
+        tenantResolver.createTenant(input("gamma"));
+
+        assertEquals(4L, tenantLookup.findIdByName("gamma"));
+    }
+
+    @Test
+    void renamingATenantEvictsItsOldName() {
+        Tenant delta = tenant(5L, "delta");
+        when(tenantRepository.findByName("delta")).thenReturn(Optional.of(delta));
+        assertEquals(5L, tenantLookup.findIdByName("delta"));
+
+        when(tenantRepository.findById(5L)).thenReturn(Optional.of(delta));
+        when(tenantRepository.save(any(Tenant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tenantRepository.findByName("delta")).thenReturn(Optional.empty());
+        tenantResolver.updateTenant(5L, input("epsilon"));
+
+        assertNull(tenantLookup.findIdByName("delta"));
+    }
+
+    private static Tenant tenant(Long id, String name) {
+        Tenant tenant = new Tenant(name);
+        tenant.setId(id);
+        return tenant;
+    }
+
+    private static TenantResolver.TenantInput input(String name) {
+        TenantResolver.TenantInput input = new TenantResolver.TenantInput();
+        input.setName(name);
+        return input;
+    }
+}